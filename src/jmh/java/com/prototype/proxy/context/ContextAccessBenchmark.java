@@ -0,0 +1,145 @@
+package com.prototype.proxy.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 컨텍스트 접근 비용 비교<br/>기존 @RequestScope 빈(CGLIB scoped proxy)과 파라미터로 전달하는 ExecutionContext
+ * <p>
+ * MappingEngine.validate 는 필드마다 컨텍스트를 읽으므로 1회 접근 비용 × 행 수 × 필드 수가 매핑 비용에 더해진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContextAccessBenchmark {
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private ScopedRequestContext scopedContext;
+    private ExecutionContext executionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getBeanFactory().registerScope(WebApplicationContext.SCOPE_REQUEST,
+            new org.springframework.web.context.request.RequestScope());
+        applicationContext.register(ScopedRequestContext.class);
+        applicationContext.refresh();
+
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        scopedContext = applicationContext.getBean(ScopedRequestContext.class);
+        scopedContext.setRequestId(RequestIds.generate());
+        scopedContext.setInterfaceId("STOCK_MOVEMENT");
+
+        executionContext = ExecutionContext.create("STOCK_MOVEMENT");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        applicationContext.close();
+    }
+
+    /**
+     * 기존 방식: scoped proxy → RequestContextHolder → 요청 속성 조회
+     */
+    @Benchmark
+    public String scopedProxy() {
+        return scopedContext.getInterfaceId();
+    }
+
+    /**
+     * 현재 방식: 파라미터로 받은 불변 객체의 필드 조회
+     */
+    @Benchmark
+    public String parameter() {
+        return executionContext.getInterfaceId();
+    }
+
+    /**
+     * 제거된 RequestContext 와 같은 구조의 요청 범위 빈
+     */
+    @RequestScope
+    public static class ScopedRequestContext {
+
+        private String requestId;
+        private String interfaceId;
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public void setRequestId(String requestId) {
+            this.requestId = requestId;
+        }
+
+        public String getInterfaceId() {
+            return interfaceId;
+        }
+
+        public void setInterfaceId(String interfaceId) {
+            this.interfaceId = interfaceId;
+        }
+    }
+
+    /**
+     * 서블릿 없이 요청 범위를 사용하기 위한 요청 속성
+     */
+    private static final class MapRequestAttributes implements RequestAttributes {
+
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return attributes.keySet().toArray(String[]::new);
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        }
+
+        @Override
+        public Object resolveReference(String key) {
+            return null;
+        }
+
+        @Override
+        public String getSessionId() {
+            return "benchmark";
+        }
+
+        @Override
+        public Object getSessionMutex() {
+            return this;
+        }
+    }
+}
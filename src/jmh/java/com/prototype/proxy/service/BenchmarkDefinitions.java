@@ -0,0 +1,152 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceDefinition.FieldMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.ReturnTableMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 인터페이스 정의 및 데이터 생성
+ */
+final class BenchmarkDefinitions {
+
+    static final String STOCK_MOVEMENT = "STOCK_MOVEMENT";
+    /** SYNTHETIC_{필드 수} 형식으로 필드 수 지정 */
+    static final String SYNTHETIC = "SYNTHETIC_";
+
+    private static final String EXAMPLE_RESOURCE = "/interfaces/example.yml.example";
+
+    private BenchmarkDefinitions() {
+    }
+
+    /**
+     * 벤치마크 파라미터로 정의 생성
+     *
+     * @param shape STOCK_MOVEMENT 또는 SYNTHETIC_{필드 수}
+     */
+    static InterfaceDefinition load(String shape) {
+        if (STOCK_MOVEMENT.equals(shape)) {
+            return stockMovement();
+        }
+        if (shape.startsWith(SYNTHETIC)) {
+            return synthetic(Integer.parseInt(shape.substring(SYNTHETIC.length())));
+        }
+        throw new IllegalArgumentException("Unknown definition: " + shape);
+    }
+
+    /**
+     * 테이블 1개, 반환 테이블 1개에 문자열 필드 columns 개를 가진 정의
+     */
+    static InterfaceDefinition synthetic(int columns) {
+        List<FieldMapping> fields = new ArrayList<>(columns);
+        for (int c = 0; c < columns; c++) {
+            FieldMapping field = new FieldMapping();
+            field.setWebField("field" + c);
+            field.setSapField("FIELD" + c);
+            field.setType("string");
+            field.setSize(20);
+            fields.add(field);
+        }
+
+        TableMapping table = new TableMapping();
+        table.setWebFields("items");
+        table.setSapTable("IT_ITEMS");
+        table.setFields(fields);
+
+        ReturnTableMapping returnTable = new ReturnTableMapping();
+        returnTable.setSapReturnTable("ET_ITEMS");
+        returnTable.setWebReturnList("results");
+        returnTable.setFields(fields);
+
+        InterfaceDefinition definition = new InterfaceDefinition();
+        definition.setId(SYNTHETIC + columns);
+        definition.setRfcFunction("Z_BENCHMARK");
+        definition.setImportMapping(List.of());
+        definition.setTableMapping(List.of(table));
+        definition.setExportMapping(List.of());
+        definition.setReturnTableMapping(List.of(returnTable));
+        return definition;
+    }
+
+    /**
+     * 배포 예제(interfaces/example.yml.example)의 STOCK_MOVEMENT 정의
+     */
+    static InterfaceDefinition stockMovement() {
+        ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+
+        try (InputStream in = BenchmarkDefinitions.class.getResourceAsStream(EXAMPLE_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Example definition not found: " + EXAMPLE_RESOURCE);
+            }
+            JsonNode root = yamlMapper.readTree(in);
+            return yamlMapper.treeToValue(root.get("interface"), InterfaceDefinition.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * tableMapping 기준 WEB 요청 data 생성
+     */
+    static Map<String, Object> webData(InterfaceDefinition definition, int rows) {
+        Map<String, Object> data = new HashMap<>();
+
+        for (TableMapping mapping : definition.getTableMapping()) {
+            List<Map<String, Object>> list = new ArrayList<>(rows);
+            for (int r = 0; r < rows; r++) {
+                Map<String, Object> row = new HashMap<>();
+                for (FieldMapping field : mapping.getFields()) {
+                    row.put(field.getWebField(), value(field, r));
+                }
+                list.add(row);
+            }
+            data.put(mapping.getWebFields(), list);
+        }
+
+        return data;
+    }
+
+    /**
+     * returnTableMapping 기준 SAP 반환 테이블 생성
+     */
+    static Map<String, List<Map<String, Object>>> sapReturnTables(InterfaceDefinition definition, int rows) {
+        Map<String, List<Map<String, Object>>> tables = new HashMap<>();
+
+        for (ReturnTableMapping mapping : definition.getReturnTableMapping()) {
+            List<Map<String, Object>> list = new ArrayList<>(rows);
+            for (int r = 0; r < rows; r++) {
+                Map<String, Object> row = new HashMap<>();
+                for (FieldMapping field : mapping.getFields()) {
+                    row.put(field.getSapField(), value(field, r));
+                }
+                list.add(row);
+            }
+            tables.put(mapping.getSapReturnTable(), list);
+        }
+
+        return tables;
+    }
+
+    static String[] sapColumns(List<FieldMapping> fields) {
+        return fields.stream().map(FieldMapping::getSapField).toArray(String[]::new);
+    }
+
+    /**
+     * 필드 길이 제한을 넘지 않는 값
+     */
+    private static String value(FieldMapping field, int row) {
+        String value = Integer.toString(row);
+        int size = field.getSize();
+        return (size > 0 && value.length() > size) ? value.substring(value.length() - size) : value;
+    }
+}
@@ -0,0 +1,305 @@
+package com.prototype.proxy.service;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoField;
+import com.sap.conn.jco.JCoFieldIterator;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoParameterList;
+import com.sap.conn.jco.JCoRecordMetaData;
+import com.sap.conn.jco.JCoTable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크/부하 테스트용 JCo 메모리 구현<br/>RfcExecutor 의 파라미터 설정, 호출, 추출 경로에서 사용하는 메서드만 지원하며, 그 외 호출은 UnsupportedOperationException
+ * <p>
+ * 실제 JCo 테이블은 네이티브 버퍼를 사용하므로 절대값보다 변경 전후 비교 용도로 사용한다.
+ * loadTest 소스 세트에서도 RFC 응답 스텁으로 사용하므로 public 으로 둔다.
+ */
+public final class FakeJCo {
+
+    /**
+     * execute(destination) 호출 시 동작 (SAP 응답 지연, Export 값과 반환 테이블 채우기)
+     */
+    @FunctionalInterface
+    public interface ExecuteHandler {
+
+        void execute(JCoDestination destination, Map<String, Object> exports, Map<String, FakeTable> tables)
+            throws JCoException;
+    }
+
+    private FakeJCo() {
+    }
+
+    /**
+     * 테이블 파라미터 목록을 가진 함수 생성
+     */
+    static JCoFunction function(String name, Map<String, FakeTable> tables) {
+        JCoParameterList tableList = parameterList(tables);
+
+        return proxy(JCoFunction.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getTableParameterList" -> tableList;
+            case "getImportParameterList", "getExportParameterList", "getChangingParameterList" -> null;
+            default -> unsupported(method);
+        });
+    }
+
+    /**
+     * 실행 가능한 함수 생성<br/>Import 값은 받아서 버리고, execute 호출 시 handler 가 Export 값과 테이블을 채움
+     */
+    public static JCoFunction function(String name, Map<String, FakeTable> tables, ExecuteHandler handler) {
+        JCoParameterList tableList = parameterList(tables);
+        Map<String, Object> imports = new HashMap<>();
+        Map<String, Object> exports = new LinkedHashMap<>();
+        JCoParameterList importList = valueList(imports);
+        JCoParameterList exportList = valueList(exports);
+
+        return proxy(JCoFunction.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getTableParameterList" -> tableList;
+            case "getImportParameterList" -> importList;
+            case "getExportParameterList" -> exportList;
+            case "getChangingParameterList" -> null;
+            case "execute" -> {
+                if (args.length != 1 || !(args[0] instanceof JCoDestination destination)) {
+                    yield unsupported(method);
+                }
+                handler.execute(destination, exports, tables);
+                yield null;
+            }
+            default -> unsupported(method);
+        });
+    }
+
+    /**
+     * 빈 테이블 생성 (setTableParameters 대상)
+     */
+    public static FakeTable table(String name, String[] columns) {
+        return new FakeTable(name, columns);
+    }
+
+    /**
+     * 행 데이터를 채운 테이블 생성 (extractTableParameters 대상)
+     */
+    static FakeTable table(String name, String[] columns, int rowCount) {
+        FakeTable table = new FakeTable(name, columns);
+
+        for (int r = 0; r < rowCount; r++) {
+            Object[] row = new Object[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                row[c] = columns[c] + "_" + r;
+            }
+            table.rows.add(row);
+        }
+
+        return table;
+    }
+
+    private static JCoParameterList parameterList(Map<String, FakeTable> tables) {
+        Map<String, FakeTable> byName = new LinkedHashMap<>(tables);
+
+        return proxy(JCoParameterList.class, (method, args) -> switch (method.getName()) {
+            case "getTable" -> {
+                FakeTable table = byName.get((String) args[0]);
+                if (table == null) {
+                    throw new IllegalArgumentException("Unknown table: " + args[0]);
+                }
+                yield table.jcoTable;
+            }
+            case "getFieldCount" -> byName.size();
+            case "getFieldIterator" -> fieldIterator(byName.values().iterator());
+            default -> unsupported(method);
+        });
+    }
+
+    /**
+     * Import/Export 파라미터 목록 (이름 → 값)
+     */
+    private static JCoParameterList valueList(Map<String, Object> values) {
+        return proxy(JCoParameterList.class, (method, args) -> switch (method.getName()) {
+            case "setValue" -> {
+                values.put((String) args[0], args[1]);
+                yield null;
+            }
+            case "getValue" -> values.get((String) args[0]);
+            case "getFieldCount" -> values.size();
+            case "iterator" -> values.entrySet().stream()
+                .map(entry -> valueField(entry.getKey(), entry.getValue()))
+                .iterator();
+            default -> unsupported(method);
+        });
+    }
+
+    private static JCoFieldIterator fieldIterator(Iterator<FakeTable> tables) {
+        return proxy(JCoFieldIterator.class, (method, args) -> switch (method.getName()) {
+            case "hasNextField", "hasNext" -> tables.hasNext();
+            case "nextField", "next" -> tableField(tables.next());
+            default -> unsupported(method);
+        });
+    }
+
+    private static JCoField tableField(FakeTable table) {
+        return proxy(JCoField.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> table.name;
+            case "isTable" -> true;
+            case "isStructure" -> false;
+            case "getTable" -> table.jcoTable;
+            default -> unsupported(method);
+        });
+    }
+
+    private static JCoField valueField(String name, Object value) {
+        return proxy(JCoField.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getValue" -> value;
+            case "getString" -> (value != null) ? value.toString() : null;
+            case "isTable", "isStructure" -> false;
+            default -> unsupported(method);
+        });
+    }
+
+    /**
+     * 행 단위 값 배열로 보관하는 테이블
+     */
+    public static final class FakeTable {
+
+        private final String name;
+        private final String[] columns;
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+        private final List<Object[]> rows = new ArrayList<>();
+        private final JCoTable jcoTable;
+        private final JCoRecordMetaData metaData;
+        private int current = -1;
+
+        private FakeTable(String name, String[] columns) {
+            this.name = name;
+            this.columns = columns;
+            for (int i = 0; i < columns.length; i++) {
+                indexes.put(columns[i], i);
+            }
+            this.metaData = proxy(JCoRecordMetaData.class, this::metaData);
+            this.jcoTable = proxy(JCoTable.class, this::table);
+        }
+
+        public int getNumRows() {
+            return rows.size();
+        }
+
+        /**
+         * 값 배열로 행 추가 (컬럼 순서)
+         */
+        public void addRow(Object[] values) {
+            rows.add(values);
+        }
+
+        /**
+         * 설정된 행 초기화 (반복 측정 간 재사용)
+         */
+        void clear() {
+            rows.clear();
+            current = -1;
+        }
+
+        private Object metaData(Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "getName" -> name;
+                case "getFieldCount" -> columns.length;
+                case "indexOf" -> indexes.getOrDefault((String) args[0], -1);
+                default -> unsupported(method);
+            };
+        }
+
+        private Object table(Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "getRecordMetaData", "getMetaData" -> metaData;
+                case "getNumRows" -> rows.size();
+                case "getNumColumns", "getFieldCount" -> columns.length;
+                case "isEmpty" -> rows.isEmpty();
+                case "getRow" -> current;
+                case "setRow" -> {
+                    current = (Integer) args[0];
+                    yield null;
+                }
+                case "appendRow" -> {
+                    rows.add(new Object[columns.length]);
+                    current = rows.size() - 1;
+                    yield null;
+                }
+                case "appendRows" -> {
+                    int count = (Integer) args[0];
+                    for (int i = 0; i < count; i++) {
+                        rows.add(new Object[columns.length]);
+                    }
+                    current = rows.size() - 1;
+                    yield null;
+                }
+                case "setValue" -> {
+                    rows.get(current)[index(args[0])] = args[1];
+                    yield null;
+                }
+                case "getValue" -> rows.get(current)[index(args[0])];
+                case "iterator" -> rowIterator();
+                default -> unsupported(method);
+            };
+        }
+
+        private int index(Object key) {
+            return (key instanceof Integer i) ? i : indexes.get((String) key);
+        }
+
+        private Iterator<JCoField> rowIterator() {
+            Object[] row = rows.get(current);
+
+            return new Iterator<>() {
+                private int column;
+
+                @Override
+                public boolean hasNext() {
+                    return column < columns.length;
+                }
+
+                @Override
+                public JCoField next() {
+                    int i = column++;
+                    return valueField(columns[i], row[i]);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        InvocationHandler invocationHandler = (instance, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(instance);
+                    case "equals" -> instance == args[0];
+                    case "toString" -> "Fake" + type.getSimpleName();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                };
+            }
+            return handler.invoke(method, args);
+        };
+
+        return type.cast(Proxy.newProxyInstance(FakeJCo.class.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+    }
+
+    private static Object unsupported(Method method) {
+        throw new UnsupportedOperationException("FakeJCo does not support " + method.getDeclaringClass().getSimpleName()
+            + "." + method.getName());
+    }
+}
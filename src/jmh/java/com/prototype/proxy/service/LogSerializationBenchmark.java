@@ -0,0 +1,49 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.config.JacksonConfig;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 로그 저장용 응답 직렬화 벤치마크<br/>LoggingService.toJson 과 같은 ObjectMapper 설정으로 매핑된 응답 데이터를 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LogSerializationBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    int rows;
+
+    @Param({"SYNTHETIC_5", "SYNTHETIC_50", "SYNTHETIC_200", "STOCK_MOVEMENT"})
+    String definition;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> responseData;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+
+        InterfaceDefinition interfaceDefinition = BenchmarkDefinitions.load(definition);
+        responseData = new MappingEngine(ParallelRowMapper.sequential()).mapReturnTables(
+            BenchmarkDefinitions.sapReturnTables(interfaceDefinition, rows),
+            interfaceDefinition.getReturnTableMapping()
+        );
+    }
+
+    @Benchmark
+    public String toJson() throws Exception {
+        return objectMapper.writeValueAsString(responseData);
+    }
+}
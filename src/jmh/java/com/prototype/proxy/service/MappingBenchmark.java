@@ -0,0 +1,101 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.config.JacksonConfig;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.model.SimpleProxyRequest;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.service.RequestBinder.BoundRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.validation.BindException;
+
+/**
+ * 요청/응답 매핑 벤치마크<br/>MappingEngine 의 Map 기반 매핑과 RequestBinder 의 본문 스트리밍 바인딩 비교
+ * <p>
+ * mode=parallel 은 운영과 같은 기준(proxy.mapping.parallel-threshold 기본값)으로 행 수가 많을 때만 병렬 매핑한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MappingBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    int rows;
+
+    @Param({"SYNTHETIC_5", "SYNTHETIC_50", "SYNTHETIC_200", "STOCK_MOVEMENT"})
+    String definition;
+
+    @Param({"sequential", "parallel"})
+    String mode;
+
+    private ParallelRowMapper rowMapper;
+    private MappingEngine mappingEngine;
+    private RequestBinder requestBinder;
+
+    private ProxyRequestReader requestReader;
+    private InterfaceDefinition interfaceDefinition;
+    private Map<String, Object> webData;
+    private Map<String, List<Map<String, Object>>> sapReturnTables;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        rowMapper = "parallel".equals(mode)
+            ? new ParallelRowMapper(10_000, ParallelRowMapper.createPool(parallelism))
+            : ParallelRowMapper.sequential();
+        mappingEngine = new MappingEngine(rowMapper);
+        requestBinder = new RequestBinder(mappingEngine, new MappingPlanCache());
+
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        requestReader = new ProxyRequestReader(objectMapper);
+
+        interfaceDefinition = BenchmarkDefinitions.load(definition);
+        webData = BenchmarkDefinitions.webData(interfaceDefinition, rows);
+        sapReturnTables = BenchmarkDefinitions.sapReturnTables(interfaceDefinition, rows);
+        body = objectMapper.writeValueAsBytes(Map.of(
+            "interfaceId", interfaceDefinition.getId(),
+            "userId", "benchmark",
+            "data", webData
+        ));
+    }
+
+    @TearDown
+    public void tearDown() {
+        rowMapper.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, List<Map<String, Object>>> mapTables() {
+        return mappingEngine.mapTables(context(), webData, interfaceDefinition.getTableMapping());
+    }
+
+    /**
+     * 실행 요청 경로와 같이 본문 해석부터 바인딩까지 측정
+     */
+    @Benchmark
+    public BoundRequest readAndBind() throws BindException {
+        SimpleProxyRequest request = requestReader.read(body, "application/json");
+        return requestBinder.bind(context(), request, interfaceDefinition);
+    }
+
+    @Benchmark
+    public Map<String, Object> mapReturnTables() {
+        return mappingEngine.mapReturnTables(sapReturnTables, interfaceDefinition.getReturnTableMapping());
+    }
+
+    private ExecutionContext context() {
+        return ExecutionContext.create(interfaceDefinition.getId());
+    }
+}
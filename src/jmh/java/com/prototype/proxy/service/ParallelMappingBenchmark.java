@@ -0,0 +1,69 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 순차/병렬 행 매핑 비교<br/>행 수별 결과로 proxy.mapping.parallel-threshold 기준점(병렬이 빨라지는 행 수)을 정함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelMappingBenchmark {
+
+    @Param({"1000", "2500", "5000", "10000", "25000", "100000"})
+    int rows;
+
+    @Param({"SYNTHETIC_5", "SYNTHETIC_50"})
+    String definition;
+
+    @Param({"sequential", "parallel"})
+    String mode;
+
+    private ParallelRowMapper rowMapper;
+    private MappingEngine mappingEngine;
+    private InterfaceDefinition interfaceDefinition;
+    private Map<String, Object> webData;
+    private Map<String, List<Map<String, Object>>> sapReturnTables;
+
+    @Setup
+    public void setUp() {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        rowMapper = "parallel".equals(mode)
+            ? new ParallelRowMapper(0, ParallelRowMapper.createPool(parallelism))
+            : ParallelRowMapper.sequential();
+        mappingEngine = new MappingEngine(rowMapper);
+
+        interfaceDefinition = BenchmarkDefinitions.load(definition);
+        webData = BenchmarkDefinitions.webData(interfaceDefinition, rows);
+        sapReturnTables = BenchmarkDefinitions.sapReturnTables(interfaceDefinition, rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        rowMapper.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, List<Map<String, Object>>> mapTables() {
+        return mappingEngine.mapTables(ExecutionContext.create(interfaceDefinition.getId()), webData,
+            interfaceDefinition.getTableMapping());
+    }
+
+    @Benchmark
+    public Map<String, Object> mapReturnTables() {
+        return mappingEngine.mapReturnTables(sapReturnTables, interfaceDefinition.getReturnTableMapping());
+    }
+}
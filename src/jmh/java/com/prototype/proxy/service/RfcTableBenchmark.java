@@ -0,0 +1,94 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceDefinition.ReturnTableMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
+import com.prototype.proxy.service.FakeJCo.FakeTable;
+import com.sap.conn.jco.JCoFunction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * RFC Table 파라미터 설정/추출 벤치마크<br/>FakeJCo 메모리 테이블을 사용하므로 SAP 연결 없이 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RfcTableBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    int rows;
+
+    @Param({"SYNTHETIC_5", "SYNTHETIC_50", "SYNTHETIC_200", "STOCK_MOVEMENT"})
+    String definition;
+
+    private List<BoundTable> boundTables;
+    private List<FakeTable> importTables;
+    private JCoFunction importFunction;
+    private JCoFunction exportFunction;
+
+    @Setup
+    public void setUp() {
+        InterfaceDefinition interfaceDefinition = BenchmarkDefinitions.load(definition);
+
+        boundTables = new ArrayList<>();
+        importTables = new ArrayList<>();
+        Map<String, FakeTable> imports = new HashMap<>();
+        for (TableMapping mapping : interfaceDefinition.getTableMapping()) {
+            String[] columns = BenchmarkDefinitions.sapColumns(mapping.getFields());
+            boundTables.add(new BoundTable(mapping.getSapTable(), columns, rows(columns.length)));
+
+            FakeTable table = FakeJCo.table(mapping.getSapTable(), columns);
+            importTables.add(table);
+            imports.put(mapping.getSapTable(), table);
+        }
+        importFunction = FakeJCo.function(interfaceDefinition.getRfcFunction(), imports);
+
+        Map<String, FakeTable> exports = new HashMap<>();
+        for (ReturnTableMapping mapping : interfaceDefinition.getReturnTableMapping()) {
+            String[] columns = BenchmarkDefinitions.sapColumns(mapping.getFields());
+            exports.put(mapping.getSapReturnTable(), FakeJCo.table(mapping.getSapReturnTable(), columns, rows));
+        }
+        exportFunction = FakeJCo.function(interfaceDefinition.getRfcFunction(), exports);
+    }
+
+    /**
+     * 반복마다 테이블을 비운 뒤 설정 (비우는 비용 포함)
+     */
+    @Benchmark
+    public int setTableParameters() {
+        for (FakeTable table : importTables) {
+            table.clear();
+        }
+        RfcExecutor.setTableParameters(importFunction, boundTables);
+        return importTables.get(0).getNumRows();
+    }
+
+    @Benchmark
+    public Map<String, List<Map<String, Object>>> extractTableParameters() {
+        return RfcExecutor.extractTableParameters(exportFunction);
+    }
+
+    private List<Object[]> rows(int columns) {
+        List<Object[]> list = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            Object[] row = new Object[columns];
+            for (int c = 0; c < columns; c++) {
+                row[c] = Integer.toString(r);
+            }
+            list.add(row);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,124 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.prototype.proxy.config.JacksonConfig;
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 응답 전송 형식별 직렬화/역직렬화 벤치마크<br/>WireFormatConfig 컨버터와 같은 ObjectMapper 설정으로 매핑된 Return Table 응답을 처리
+ * <p>
+ * 형식별 본문 크기(gzip 전/후)는 serializeGzip 의 보조 지표(payloads, bytes, gzipBytes)로 결과 파일에 함께 기록한다.
+ * 지표는 측정 구간의 합계이므로 본문 1건의 크기는 bytes / payloads 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WireFormatBenchmark {
+
+    private static final String REQUEST_ID = "0192a7c4-1f2e-7abc-8def-0123456789ab";
+
+    @Param({"json", "cbor", "smile", "msgpack"})
+    String format;
+
+    @Param({"100", "10000"})
+    int rows;
+
+    @Param({"SYNTHETIC_50", "STOCK_MOVEMENT"})
+    String definition;
+
+    private ObjectMapper mapper;
+    private SimpleProxyResponse response;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        mapper = switch (format) {
+            case "json" -> objectMapper;
+            case "cbor" -> objectMapper.copyWith(new CBORFactory());
+            case "smile" -> objectMapper.copyWith(new SmileFactory());
+            case "msgpack" -> objectMapper.copyWith(new MessagePackFactory());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        InterfaceDefinition interfaceDefinition = BenchmarkDefinitions.load(definition);
+        Map<String, Object> data = new MappingEngine(ParallelRowMapper.sequential()).mapReturnTables(
+            BenchmarkDefinitions.sapReturnTables(interfaceDefinition, rows),
+            interfaceDefinition.getReturnTableMapping()
+        );
+        response = SimpleProxyResponse.success(data, REQUEST_ID, 42L);
+        body = mapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * 서버 응답 직렬화
+     */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * 클라이언트 응답 해석
+     */
+    @Benchmark
+    public Map<?, ?> deserialize() throws IOException {
+        return mapper.readValue(body, Map.class);
+    }
+
+    /**
+     * gzip 압축을 포함한 서버 응답 직렬화, 압축 전/후 본문 크기 기록
+     */
+    @Benchmark
+    public byte[] serializeGzip(PayloadSize size) throws IOException {
+        byte[] content = mapper.writeValueAsBytes(response);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+
+        size.payloads++;
+        size.bytes += content.length;
+        size.gzipBytes += out.size();
+        return out.toByteArray();
+    }
+
+    /**
+     * 본문 크기 보조 지표 (시간으로 나누지 않는 합계)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloads;
+        public long bytes;
+        public long gzipBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloads = 0;
+            bytes = 0;
+            gzipBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.prototype.proxy.loadtest;
+
+/**
+ * 부하 테스트 설정<br/>Gradle 속성(-Ploadtest.*)이 시스템 속성으로 전달됨
+ *
+ * @param rate            초당 요청 수 (open model, 응답과 무관하게 일정 간격으로 전송)
+ * @param warmupSeconds   측정 전 워밍업 시간 (결과 제외)
+ * @param durationSeconds 측정 시간
+ * @param rfcLatencyMillis RFC 스텁 응답 지연
+ * @param requestRows     요청 Table 행 수
+ * @param resultRows      RFC 스텁 반환 Table 행 수
+ * @param valueLength     반환 Table 필드 값 길이
+ * @param minThroughput   최소 처리량 (성공 응답/초), 미달 시 실패
+ * @param maxP99Millis    최대 p99 지연 (ms), 초과 시 실패
+ * @param maxErrorRate    최대 오류 비율, 초과 시 실패
+ * @param reportDir       리포트 출력 경로
+ */
+record LoadTestSettings(
+    int rate,
+    int warmupSeconds,
+    int durationSeconds,
+    long rfcLatencyMillis,
+    int requestRows,
+    int resultRows,
+    int valueLength,
+    double minThroughput,
+    double maxP99Millis,
+    double maxErrorRate,
+    String reportDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        int rate = intProperty("loadtest.rate", 200);
+
+        return new LoadTestSettings(
+            rate,
+            intProperty("loadtest.warmup-seconds", 10),
+            intProperty("loadtest.duration-seconds", 30),
+            intProperty("loadtest.rfc-latency", 20),
+            intProperty("loadtest.request-rows", 10),
+            intProperty("loadtest.result-rows", 100),
+            intProperty("loadtest.value-length", 10),
+            doubleProperty("loadtest.min-throughput", rate * 0.95),
+            doubleProperty("loadtest.max-p99", 500),
+            doubleProperty("loadtest.max-error-rate", 0.01),
+            System.getProperty("loadtest.report-dir", "build/reports/loadtest")
+        );
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return (value == null || value.isBlank()) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return (value == null || value.isBlank()) ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
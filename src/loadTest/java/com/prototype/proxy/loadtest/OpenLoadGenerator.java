@@ -0,0 +1,104 @@
+package com.prototype.proxy.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open model 부하 생성기<br/>응답 대기와 무관하게 지정한 간격으로 요청을 보내고, 지연은 예정 전송 시각부터 측정
+ * <p>
+ * 서버가 느려져도 전송 간격이 늘어나지 않으므로 closed model 에서 생기는 지연 과소 측정(coordinated omission)이 없다.
+ */
+final class OpenLoadGenerator {
+
+    /** 미완료 요청 대기 한도 */
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final HttpRequest request;
+
+    OpenLoadGenerator(HttpClient client, HttpRequest request) {
+        this.client = client;
+        this.request = request;
+    }
+
+    /**
+     * 부하 실행
+     *
+     * @param rate     초당 요청 수
+     * @param duration 전송 시간
+     * @return 실행 결과 (지연 단위: μs)
+     */
+    Result run(int rate, Duration duration) throws InterruptedException {
+        Recorder recorder = new Recorder(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sent = 0;
+
+        for (long intended = start; intended < end; intended = start + (++sent) * intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            long scheduled = intended;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long now = System.nanoTime();
+                    recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(now - scheduled),
+                        TimeUnit.MINUTES.toMicros(1)));
+                    lastCompletion.accumulateAndGet(now, Math::max);
+
+                    if (error == null && response.statusCode() == 200) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (succeeded.get() + failed.get() < sent && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        long completed = succeeded.get() + failed.get();
+        long elapsedNanos = Math.max(lastCompletion.get(), end) - start;
+
+        return new Result(sent, succeeded.get(), failed.get() + (sent - completed), elapsedNanos,
+            recorder.getIntervalHistogram());
+    }
+
+    /**
+     * @param sent         전송 요청 수
+     * @param succeeded    200 응답 수
+     * @param failed       오류 응답, 전송 실패, 미완료 요청 수
+     * @param elapsedNanos 첫 전송부터 마지막 응답까지 시간
+     * @param latency      지연 분포 (μs)
+     */
+    record Result(long sent, long succeeded, long failed, long elapsedNanos, Histogram latency) {
+
+        double throughput() {
+            return succeeded / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double errorRate() {
+            return (sent == 0) ? 0 : (double) failed / sent;
+        }
+
+        double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
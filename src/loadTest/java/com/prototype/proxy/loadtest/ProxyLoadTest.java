@@ -0,0 +1,143 @@
+package com.prototype.proxy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.loadtest.OpenLoadGenerator.Result;
+import com.prototype.proxy.service.FunctionMetadataCache;
+import com.sap.conn.jco.JCoDestination;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.convention.TestBean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 애플리케이션 부하 테스트<br/>ProxyController → 매핑 → RfcExecutor(RfcStub 함수) → 응답 매핑 → 로그 저장 → JSON 직렬화 경로의 처리량과 지연 측정
+ * <p>
+ * ./gradlew loadTest 로 실행하며, 처리량 또는 p99 가 기준을 벗어나면 실패한다.
+ * 기준은 이전 실행 결과와 비교하지 않는 고정값(-Ploadtest.min-throughput, -Ploadtest.max-p99)이므로,
+ * 실행 환경이 바뀌면 summary.txt 결과를 보고 기준을 다시 정한다.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProxyLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+
+    @MockitoBean(answers = Answers.RETURNS_MOCKS)
+    JCoDestination destination;
+
+    @TestBean(methodName = "rfcStub")
+    FunctionMetadataCache functionMetadataCache;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${local.server.port}")
+    int port;
+
+    static FunctionMetadataCache rfcStub() {
+        return RfcStub.create(SETTINGS);
+    }
+
+    @Test
+    @DisplayName("기준 처리량과 p99 지연을 만족한다")
+    void sustains_throughput_and_latency() throws Exception {
+        log.info("Load test settings: {}", SETTINGS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/proxy/execute"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody()))
+                .build();
+
+            OpenLoadGenerator generator = new OpenLoadGenerator(client, request);
+
+            if (SETTINGS.warmupSeconds() > 0) {
+                Result warmup = generator.run(SETTINGS.rate(), Duration.ofSeconds(SETTINGS.warmupSeconds()));
+                log.info("Warmup finished: {} requests, {} failed", warmup.sent(), warmup.failed());
+            }
+
+            Result result = generator.run(SETTINGS.rate(), Duration.ofSeconds(SETTINGS.durationSeconds()));
+            report(result);
+
+            assertThat(result.errorRate())
+                .as("error rate")
+                .isLessThanOrEqualTo(SETTINGS.maxErrorRate());
+            assertThat(result.throughput())
+                .as("throughput (req/s)")
+                .isGreaterThanOrEqualTo(SETTINGS.minThroughput());
+            assertThat(result.percentileMillis(99))
+                .as("p99 latency (ms)")
+                .isLessThanOrEqualTo(SETTINGS.maxP99Millis());
+        }
+    }
+
+    private byte[] requestBody() throws IOException {
+        List<Map<String, Object>> items = new ArrayList<>(SETTINGS.requestRows());
+        for (int i = 0; i < SETTINGS.requestRows(); i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("matnr", "MAT-" + i);
+            item.put("menge", Integer.toString(i + 1));
+            item.put("lgort", "0001");
+            items.add(item);
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("plant", "1000");
+        data.put("items", items);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("interfaceId", "LOAD_TEST");
+        body.put("userId", "loadtest");
+        body.put("data", data);
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    /**
+     * 요약 로그 및 HdrHistogram 분포 파일(latency.hgrm, ms 단위) 출력
+     */
+    private void report(Result result) throws IOException {
+        String summary = String.format(Locale.ROOT,
+            "sent=%d succeeded=%d failed=%d throughput=%.1f req/s p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+            result.sent(), result.succeeded(), result.failed(), result.throughput(),
+            result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+            result.percentileMillis(99.9), result.latency().getMaxValue() / 1000.0);
+        log.info("Load test result: {}", summary);
+
+        Path dir = Path.of(SETTINGS.reportDir());
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), SETTINGS + System.lineSeparator() + summary + System.lineSeparator());
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("latency.hgrm")))) {
+            result.latency().outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.prototype.proxy.loadtest;
+
+import com.prototype.proxy.service.FakeJCo;
+import com.prototype.proxy.service.FakeJCo.FakeTable;
+import com.prototype.proxy.service.FunctionMetadataCache;
+import com.sap.conn.jco.JCoFunction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+
+/**
+ * SAP 대신 응답하는 FunctionMetadataCache<br/>호출마다 FakeJCo 함수를 생성하고, execute(destination) 에서 설정한 지연 후 ET_RESULT 행을 채움
+ * <p>
+ * RfcExecutor 는 실제 Bean 을 사용하므로 동시 호출 제한, 파라미터 설정과 결과 추출이 모두 측정에 포함된다.
+ * 호출 스레드 전환은 X-Request-Timeout 이나 인터페이스 timeout 을 지정한 경우에만 일어난다.
+ * 중복 요청(hedge)은 보조 destination 이 없어 비활성화된다.
+ * 호출 기록이 쌓이지 않도록 stubOnly 로 생성한다.
+ */
+final class RfcStub {
+
+    static final String RETURN_TABLE = "ET_RESULT";
+    static final String REQUEST_TABLE = "IT_ITEMS";
+    static final int COLUMNS = 10;
+
+    private static final String[] REQUEST_COLUMNS = {"MATNR", "MENGE", "LGORT"};
+    private static final String[] RESULT_COLUMNS = new String[COLUMNS];
+
+    static {
+        for (int c = 0; c < COLUMNS; c++) {
+            RESULT_COLUMNS[c] = "COL" + c;
+        }
+    }
+
+    private RfcStub() {
+    }
+
+    static FunctionMetadataCache create(LoadTestSettings settings) {
+        return Mockito.mock(FunctionMetadataCache.class, Mockito.withSettings()
+            .stubOnly()
+            .defaultAnswer(invocation -> "getFunction".equals(invocation.getMethod().getName())
+                ? function(invocation.getArgument(0), settings)
+                : Answers.RETURNS_DEFAULTS.answer(invocation)));
+    }
+
+    /**
+     * 실제 Function 과 같이 호출마다 새 테이블을 가진 함수 생성
+     */
+    private static JCoFunction function(String name, LoadTestSettings settings) {
+        Map<String, FakeTable> tables = new LinkedHashMap<>();
+        tables.put(REQUEST_TABLE, FakeJCo.table(REQUEST_TABLE, REQUEST_COLUMNS));
+        tables.put(RETURN_TABLE, FakeJCo.table(RETURN_TABLE, RESULT_COLUMNS));
+
+        return FakeJCo.function(name.toUpperCase(), tables, (destination, exports, filled) -> {
+            if (settings.rfcLatencyMillis() > 0) {
+                try {
+                    Thread.sleep(settings.rfcLatencyMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("RFC stub interrupted", e);
+                }
+            }
+
+            FakeTable result = filled.get(RETURN_TABLE);
+            for (int r = 0; r < settings.resultRows(); r++) {
+                Object[] row = new Object[COLUMNS];
+                for (int c = 0; c < COLUMNS; c++) {
+                    row[c] = value(r, c, settings.valueLength());
+                }
+                result.addRow(row);
+            }
+
+            exports.put("E_TYPE", "S");
+            exports.put("E_MESSAGE", "OK");
+        });
+    }
+
+    private static String value(int row, int column, int length) {
+        StringBuilder value = new StringBuilder(length);
+        value.append(row).append('-').append(column);
+        while (value.length() < length) {
+            value.append('X');
+        }
+        value.setLength(length);
+        return value.toString();
+    }
+}
@@ -16,11 +16,31 @@ interface InterfaceStats {
     failCount: number;
 }
 
+interface LiveInterface {
+    interfaceId: string;
+    sapModule: string | null;
+    totalCount: number;
+    successCount: number;
+    failCount: number;
+    lastSecondCount: number;
+    p50Ms: number | null;
+    p95Ms: number | null;
+    p99Ms: number | null;
+}
+
+interface LiveError {
+    requestId: string;
+    interfaceId: string;
+    message: string;
+    timestamp: string;
+}
+
+const MAX_LIVE_ERRORS = 20;
+
 interface ErrorLog {
     id: number;
     requestId: string;
     errorMessage: string;
-    requestData: string; // JSON String
     createdAt: string;
 }
 
@@ -37,6 +57,29 @@ const LogViewer = () => {
     const [errorLogs, setErrorLogs] = useState<ErrorLog[]>([]);
     const [showModal, setShowModal] = useState(false);
     const [selectedInterface, setSelectedInterface] = useState('');
+    // 요청 전문은 펼칠 때 requestId 단위로 조회 (JSON String)
+    const [payloads, setPayloads] = useState<Record<string, string>>({});
+
+    // 실시간 현황 (SSE)
+    const [liveInterfaces, setLiveInterfaces] = useState<LiveInterface[]>([]);
+    const [liveErrors, setLiveErrors] = useState<LiveError[]>([]);
+    const [liveConnected, setLiveConnected] = useState(false);
+
+    useEffect(() => {
+        const source = new EventSource('/api/admin/stats/live');
+
+        source.onopen = () => setLiveConnected(true);
+        source.onerror = () => setLiveConnected(false);
+        source.addEventListener('stats', (e) => {
+            const snapshot = JSON.parse((e as MessageEvent).data);
+            setLiveInterfaces(snapshot.interfaces || []);
+            if (snapshot.errors && snapshot.errors.length > 0) {
+                setLiveErrors((prev) => [...snapshot.errors.reverse(), ...prev].slice(0, MAX_LIVE_ERRORS));
+            }
+        });
+
+        return () => source.close();
+    }, []);
 
     // 날짜가 바뀌면 모듈 통계 다시 로드
     useEffect(() => {
@@ -81,6 +124,7 @@ const LogViewer = () => {
             const res = await client.get(`/admin/stats/errors?date=${date}&interfaceId=${interfaceId}`);
             if (res.data.success && res.data.data) {
                 setErrorLogs(res.data.data.logs || []);
+                setPayloads({});
                 setSelectedInterface(interfaceId);
                 setShowModal(true);
             }
@@ -89,6 +133,20 @@ const LogViewer = () => {
         }
     };
 
+    const fetchPayload = async (requestId: string) => {
+        if (payloads[requestId] !== undefined) {
+            return;
+        }
+        try {
+            const res = await client.get(`/admin/stats/logs/${encodeURIComponent(requestId)}`);
+            if (res.data.success && res.data.data) {
+                setPayloads((prev) => ({...prev, [requestId]: res.data.data.log.requestData}));
+            }
+        } catch (e) {
+            console.error("요청 데이터 로딩 실패", e);
+        }
+    };
+
     return (
             <div className="bg-white shadow-lg rounded-lg min-h-[80vh] p-6">
                 <h1 className="text-2xl font-bold text-gray-800 mb-6">📊 인터페이스 실행 로그</h1>
@@ -104,6 +162,65 @@ const LogViewer = () => {
                     />
                 </div>
 
+                {/* 실시간 현황 */}
+                <div className="mb-8 border rounded-lg p-4">
+                    <h3 className="text-lg font-bold text-gray-700 mb-3 border-l-4 border-green-500 pl-2 flex items-center gap-2">
+                        실시간 현황
+                        <span className={`text-xs px-2 py-0.5 rounded-full ${liveConnected ? 'bg-green-100 text-green-700' : 'bg-gray-100 text-gray-500'}`}>
+                            {liveConnected ? 'LIVE' : 'OFFLINE'}
+                        </span>
+                    </h3>
+                    <div className="grid grid-cols-1 md:grid-cols-3 gap-4">
+                        <div className="col-span-2 overflow-x-auto">
+                            <table className="min-w-full text-sm">
+                                <thead className="bg-gray-50 text-xs text-gray-500 uppercase">
+                                <tr>
+                                    <th className="px-3 py-2 text-left">Interface ID</th>
+                                    <th className="px-3 py-2 text-center">TPS</th>
+                                    <th className="px-3 py-2 text-center">Success</th>
+                                    <th className="px-3 py-2 text-center">Fail</th>
+                                    <th className="px-3 py-2 text-center">p50 / p95 / p99 (ms)</th>
+                                </tr>
+                                </thead>
+                                <tbody className="divide-y divide-gray-100">
+                                {liveInterfaces.length === 0 ? (
+                                        <tr>
+                                            <td colSpan={5} className="px-3 py-4 text-center text-gray-400">실행 이력이 없습니다.</td>
+                                        </tr>
+                                ) : (
+                                        liveInterfaces.map((live) => (
+                                                <tr key={live.interfaceId}>
+                                                    <td className="px-3 py-2 font-medium text-gray-900">{live.interfaceId}</td>
+                                                    <td className="px-3 py-2 text-center">{live.lastSecondCount}</td>
+                                                    <td className="px-3 py-2 text-center text-green-600">{live.successCount}</td>
+                                                    <td className="px-3 py-2 text-center text-red-600">{live.failCount}</td>
+                                                    <td className="px-3 py-2 text-center font-mono text-gray-600">
+                                                        {live.p50Ms ?? '-'} / {live.p95Ms ?? '-'} / {live.p99Ms ?? '-'}
+                                                    </td>
+                                                </tr>
+                                        ))
+                                )}
+                                </tbody>
+                            </table>
+                        </div>
+                        <div className="col-span-1 space-y-2 max-h-64 overflow-y-auto">
+                            {liveErrors.length === 0 ? (
+                                    <div className="text-gray-400 text-sm">신규 에러가 없습니다.</div>
+                            ) : (
+                                    liveErrors.map((error) => (
+                                            <div key={error.requestId} className="border border-red-200 rounded p-2 bg-red-50/30 text-xs">
+                                                <div className="flex justify-between text-gray-500">
+                                                    <span>{error.interfaceId}</span>
+                                                    <span>{new Date(error.timestamp).toLocaleTimeString()}</span>
+                                                </div>
+                                                <div className="text-red-700 break-all">{error.message}</div>
+                                            </div>
+                                    ))
+                            )}
+                        </div>
+                    </div>
+                </div>
+
                 <div className="grid grid-cols-1 md:grid-cols-3 gap-8">
                     {/* [좌측] 모듈별 통계 리스트 */}
                     <div className="col-span-1">
@@ -217,7 +334,11 @@ const LogViewer = () => {
                                                             <span>ReqID: {log.requestId}</span>
                                                         </div>
                                                         <div className="text-red-700 font-semibold mb-2">{log.errorMessage}</div>
-                                                        <details>
+                                                        <details onToggle={(e) => {
+                                                            if ((e.target as HTMLDetailsElement).open) {
+                                                                fetchPayload(log.requestId);
+                                                            }
+                                                        }}>
                                                             <summary
                                                                     className="cursor-pointer text-xs text-blue-600 hover:underline">요청
                                                                 데이터 보기 (Payload)
@@ -225,10 +346,14 @@ const LogViewer = () => {
                                                             <pre className="mt-2 bg-gray-800 text-green-400 p-2 rounded text-xs overflow-x-auto whitespace-pre-wrap break-all">
                                                 {/* JSON 포맷팅 시도 */}
                                                                 {(() => {
+                                                                    const payload = payloads[log.requestId];
+                                                                    if (payload === undefined) {
+                                                                        return '불러오는 중...';
+                                                                    }
                                                                     try {
-                                                                        return JSON.stringify(JSON.parse(log.requestData), null, 2);
+                                                                        return JSON.stringify(JSON.parse(payload), null, 2);
                                                                     } catch (e) {
-                                                                        return log.requestData;
+                                                                        return payload;
                                                                     }
                                                                 })()}
                                             </pre>
@@ -43,6 +43,12 @@ export interface ReturnTableMapping {
     fields: FieldMapping[];
 }
 
+export interface BusinessKey {
+    name: string;
+    source: 'request' | 'response';
+    path: string;
+}
+
 export interface InterfaceDefinition {
     id: string;
     name: string;
@@ -54,4 +60,5 @@ export interface InterfaceDefinition {
     tableMapping: TableMapping[];
     exportMapping: ExportMapping[];
     returnTableMapping: ReturnTableMapping[];
+    businessKeys?: BusinessKey[];
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.prototype.proxy.config;
 
+import java.util.Map;
 import java.util.concurrent.Executor;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -17,8 +20,63 @@ public class AsyncConfig {
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Log-Thread-");
+        executor.setTaskDecorator(AsyncConfig::withMdc);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public Executor liveFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("LiveFeed-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public Executor metadataExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("Metadata-");
         executor.initialize();
         return executor;
     }
-}
 
+    /**
+     * 명시적 처리 기한이나 중복 요청이 있는 RFC 호출 실행용<br/>동시 호출 수는 AdaptiveConcurrencyLimiter 가 제한하므로 대기열 없이 최대 제한 값만큼 스레드 사용
+     */
+    @Bean
+    public Executor rfcCallExecutor(@Value("${sap.jco.adaptive-limit.max-limit:${sap.jco.peak-limit:20}}") int maxLimit) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxLimit);
+        executor.setMaxPoolSize(maxLimit + 10);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Rfc-Call-");
+        executor.setTaskDecorator(AsyncConfig::withMdc);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 호출 스레드의 MDC(요청 ID 등)를 비동기 작업에 전달
+     */
+    private static Runnable withMdc(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+
+        return () -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                task.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+}
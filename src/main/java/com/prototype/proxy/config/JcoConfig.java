@@ -9,11 +9,17 @@ import com.sap.conn.jco.ext.Environment;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Configuration
@@ -46,25 +52,38 @@ public class JcoConfig {
     @Value("${sap.jco.peak-limit}")
     private String peakLimit;
 
+    /** 연결 풀에서 연결을 기다리는 최대 시간 (ms) */
+    @Value("${sap.jco.max-get-time:10000}")
+    private String maxGetTime;
+
+    /** 중복 요청(hedging)용 보조 애플리케이션 서버, 미지정 시 기본 destination 사용 */
+    @Value("${sap.jco.hedge.ashost:}")
+    private String hedgeAshost;
+
+    @Value("${sap.jco.hedge.sysnr:${sap.jco.sysnr}}")
+    private String hedgeSysnr;
+
+    /**
+     * JVM 당 한 번만 등록 가능하므로 static 으로 보관 (컨텍스트 재생성 시 등록된 provider 에 destination 추가)<br/>
+     * 다른 provider 가 먼저 등록되어 있으면 null
+     */
+    private static InMemoryDestinationDataProvider provider;
+
     @Bean
+    @Primary
     public JCoDestination jCoDestination() throws JCoException {
-        if (!Environment.isDestinationDataProviderRegistered()) {
-            InMemoryDestinationDataProvider provider = new InMemoryDestinationDataProvider();
-
-            Properties properties = new Properties();
-
-            properties.setProperty(DestinationDataProvider.JCO_ASHOST, ashost);
-            properties.setProperty(DestinationDataProvider.JCO_SYSNR, sysnr);
-            properties.setProperty(DestinationDataProvider.JCO_CLIENT, client);
-            properties.setProperty(DestinationDataProvider.JCO_USER, user);
-            properties.setProperty(DestinationDataProvider.JCO_PASSWD, passwd);
-            properties.setProperty(DestinationDataProvider.JCO_LANG, lang);
-            properties.setProperty(DestinationDataProvider.JCO_POOL_CAPACITY, poolCapacity);
-            properties.setProperty(DestinationDataProvider.JCO_PEAK_LIMIT, peakLimit);
-
-            provider.addDestination(destinationName, properties);
-            Environment.registerDestinationDataProvider(provider);
-            log.info("In-memory JCO destination provider registered");
+        synchronized (JcoConfig.class) {
+            if (!Environment.isDestinationDataProviderRegistered()) {
+                provider = new InMemoryDestinationDataProvider();
+                Environment.registerDestinationDataProvider(provider);
+                log.info("In-memory JCO destination provider registered");
+            }
+        }
+
+        if (provider != null) {
+            provider.addDestination(destinationName, createProperties(ashost, sysnr));
+        } else {
+            log.info("Using externally registered JCO destination provider for {}", destinationName);
         }
 
         JCoDestination destination = JCoDestinationManager.getDestination(destinationName);
@@ -84,9 +103,56 @@ public class JcoConfig {
         return destination;
     }
 
+    /**
+     * 중복 요청용 보조 destination (sap.jco.hedge.ashost 지정 시)
+     */
+    @Bean
+    @Conditional(HedgeHostCondition.class)
+    public JCoDestination hedgeDestination(JCoDestination jCoDestination) throws JCoException {
+        String hedgeName = destinationName + "_HEDGE";
+
+        if (provider != null) {
+            provider.addDestination(hedgeName, createProperties(hedgeAshost, hedgeSysnr));
+        } else {
+            log.info("Using externally registered JCO destination provider for {}", hedgeName);
+        }
+
+        JCoDestination destination = JCoDestinationManager.getDestination(hedgeName);
+        log.info("SAP JCO hedge destination created: {} ({}:{})", hedgeName, hedgeAshost, hedgeSysnr);
+
+        return destination;
+    }
+
+    private Properties createProperties(String host, String systemNumber) {
+        Properties properties = new Properties();
+
+        properties.setProperty(DestinationDataProvider.JCO_ASHOST, host);
+        properties.setProperty(DestinationDataProvider.JCO_SYSNR, systemNumber);
+        properties.setProperty(DestinationDataProvider.JCO_CLIENT, client);
+        properties.setProperty(DestinationDataProvider.JCO_USER, user);
+        properties.setProperty(DestinationDataProvider.JCO_PASSWD, passwd);
+        properties.setProperty(DestinationDataProvider.JCO_LANG, lang);
+        properties.setProperty(DestinationDataProvider.JCO_POOL_CAPACITY, poolCapacity);
+        properties.setProperty(DestinationDataProvider.JCO_PEAK_LIMIT, peakLimit);
+        properties.setProperty(DestinationDataProvider.JCO_MAX_GET_TIME, maxGetTime);
+
+        return properties;
+    }
+
+    /**
+     * sap.jco.hedge.ashost 에 값이 있을 때만 일치 (빈 값은 미지정으로 처리)
+     */
+    static class HedgeHostCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return StringUtils.hasText(context.getEnvironment().getProperty("sap.jco.hedge.ashost"));
+        }
+    }
+
     private static class InMemoryDestinationDataProvider implements DestinationDataProvider {
 
-        private final Map<String, Properties> destinations = new HashMap<>();
+        private final Map<String, Properties> destinations = new ConcurrentHashMap<>();
 
         @Override
         public Properties getDestinationProperties(String destinationName) {
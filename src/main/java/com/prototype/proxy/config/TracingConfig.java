@@ -0,0 +1,67 @@
+package com.prototype.proxy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.monitoring.RollingFileSpanExporter;
+import com.prototype.proxy.monitoring.TailSamplingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * OpenTelemetry trace 내보내기 설정
+ * <p>
+ * 수신 traceparent 이어받기와 head sampling(management.tracing.sampling.probability)은 Spring Boot 자동 설정을 사용하고,
+ * 등록된 모든 SpanExporter(OTLP, 로컬 파일 등)에 tail sampling 을 적용한다.
+ */
+@Slf4j
+@Configuration
+public class TracingConfig {
+
+    /**
+     * collector 가 없는 환경용 로컬 파일 exporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "proxy.tracing.file.enabled", havingValue = "true")
+    public SpanExporter rollingFileSpanExporter(
+        ObjectMapper objectMapper,
+        @Value("${proxy.tracing.file.path:build/traces/spans.jsonl}") String path,
+        @Value("${proxy.tracing.file.max-size:50MB}") DataSize maxSize,
+        @Value("${proxy.tracing.file.max-files:5}") int maxFiles
+    ) {
+        log.info("Writing trace spans to {} (maxSize={}, maxFiles={})", path, maxSize, maxFiles);
+        return new RollingFileSpanExporter(Path.of(path), maxSize.toBytes(), maxFiles, objectMapper);
+    }
+
+    /**
+     * SpanExporter 빈을 tail sampling exporter 로 감싸기
+     */
+    @Bean
+    @ConditionalOnProperty(name = "proxy.tracing.tail-sampling.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor tailSamplingPostProcessor(Environment environment) {
+        TailSamplingSpanExporter.Policy policy = new TailSamplingSpanExporter.Policy(
+            environment.getProperty("proxy.tracing.tail-sampling.latency-threshold", Duration.class, Duration.ofSeconds(1)),
+            environment.getProperty("proxy.tracing.tail-sampling.baseline-ratio", Double.class, 0.01),
+            environment.getProperty("proxy.tracing.tail-sampling.max-traces", Integer.class, 10_000),
+            environment.getProperty("proxy.tracing.tail-sampling.max-wait", Duration.class, Duration.ofSeconds(30))
+        );
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SpanExporter exporter && !(bean instanceof TailSamplingSpanExporter)) {
+                    log.info("Tail sampling enabled for span exporter {} ({})", beanName, policy);
+                    return new TailSamplingSpanExporter(exporter, policy);
+                }
+                return bean;
+            }
+        };
+    }
+}
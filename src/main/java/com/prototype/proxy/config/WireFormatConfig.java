@@ -0,0 +1,53 @@
+package com.prototype.proxy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 전송 형식(CBOR, Smile, MessagePack) 메시지 컨버터 등록<br/>Content-Type / Accept 헤더로 요청·응답 형식을 선택
+ * <p>
+ * 각 컨버터는 공용 ObjectMapper 설정(모듈, 날짜 형식)을 그대로 복사하여 사용한다.
+ * <p>
+ * Spring 7 에서 Jackson 2 컨버터는 deprecated 이지만, 애플리케이션 전체가 Jackson 2 ObjectMapper(JacksonConfig)를 사용하고
+ * MessagePack 데이터 포맷(jackson-dataformat-msgpack)이 Jackson 2 만 지원하므로 Jackson 3 전환 시 함께 교체한다.
+ */
+@Configuration
+@SuppressWarnings("deprecation")
+public class WireFormatConfig {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_MSGPACK = "application/x-msgpack";
+    public static final String APPLICATION_MSGPACK_ALIAS = "application/msgpack";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Bean
+    public MessagePackHttpMessageConverter messagePackHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MessagePackHttpMessageConverter(objectMapper.copyWith(new MessagePackFactory()));
+    }
+
+    public static class MessagePackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+        public MessagePackHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper, MediaType.parseMediaType(APPLICATION_MSGPACK),
+                MediaType.parseMediaType(APPLICATION_MSGPACK_ALIAS));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.prototype.proxy.context;
+
+import com.prototype.proxy.exception.DeadlineExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+/**
+ * 요청 단위 실행 컨텍스트<br/>요청 스레드에 묶이지 않는 불변 객체로, 실행 경로에 파라미터로 전달하여 어느 스레드에서나 사용
+ * <p>
+ * 예외 처리기 등 서블릿 계층에서 참조할 수 있도록 요청 속성에도 보관한다.
+ * 처리 기한(deadline)이 지정된 경우 매핑, SAP 호출 대기, RFC 실행 각 단계에서 {@link #checkDeadline(String)} 로 확인한다.
+ */
+@Getter
+public final class ExecutionContext {
+
+    private static final String ATTRIBUTE = ExecutionContext.class.getName();
+
+    private final String requestId;
+    private final String interfaceId;
+    private final long startTimeMillis;
+    /** 처리 기한 (ms), 기한이 없으면 -1 */
+    private final long timeoutMillis;
+    /** 처리 기한 (nanoTime 기준, 시스템 시계 변경의 영향을 받지 않음) */
+    private final long deadlineNanos;
+    /** 헤더나 인터페이스 정의로 지정된 기한 여부, 기본 기한이면 RFC 호출을 기한에 맞춰 포기하지 않음 */
+    private final boolean explicitDeadline;
+
+    private ExecutionContext(String requestId, String interfaceId, Duration timeout, boolean explicitDeadline) {
+        this.requestId = requestId;
+        this.interfaceId = interfaceId;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.timeoutMillis = (timeout != null) ? timeout.toMillis() : -1;
+        this.deadlineNanos = (timeout != null) ? System.nanoTime() + timeout.toNanos() : 0;
+        this.explicitDeadline = (timeout != null) && explicitDeadline;
+    }
+
+    public static ExecutionContext create(String interfaceId) {
+        return new ExecutionContext(RequestIds.current(), interfaceId, null, false);
+    }
+
+    public static ExecutionContext create(String interfaceId, Duration timeout) {
+        return new ExecutionContext(RequestIds.current(), interfaceId, timeout, true);
+    }
+
+    /**
+     * 컨텍스트 생성 후 요청 속성에 보관
+     */
+    public static ExecutionContext start(HttpServletRequest request, String interfaceId) {
+        return start(request, interfaceId, null, false);
+    }
+
+    /**
+     * 처리 기한을 지정하여 컨텍스트 생성 후 요청 속성에 보관
+     *
+     * @param timeout  요청 수신 시점부터의 처리 기한, null 이면 기한 없음
+     * @param explicit 헤더나 인터페이스 정의로 지정된 기한 여부 (기본값이면 false)
+     */
+    public static ExecutionContext start(HttpServletRequest request, String interfaceId, Duration timeout,
+        boolean explicit) {
+        ExecutionContext context = new ExecutionContext(RequestIds.current(), interfaceId, timeout, explicit);
+        request.setAttribute(ATTRIBUTE, context);
+        return context;
+    }
+
+    public boolean hasDeadline() {
+        return timeoutMillis >= 0;
+    }
+
+    /**
+     * 처리 기한까지 남은 시간 (ms), 기한이 지났으면 0 이하
+     */
+    public long remainingMillis() {
+        return hasDeadline() ? TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return remainingMillis() <= 0;
+    }
+
+    /**
+     * 처리 기한 확인, 지났으면 DeadlineExceededException
+     *
+     * @param stage 확인 단계 (통계 구분용)
+     */
+    public void checkDeadline(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(stage, timeoutMillis,
+                "Request deadline exceeded before " + stage + " (" + timeoutMillis + "ms)");
+        }
+    }
+
+    /**
+     * 요청 속성에 보관된 컨텍스트 조회
+     *
+     * @return 컨텍스트, 생성 전(바인딩 실패 등)이면 null
+     */
+    public static ExecutionContext find(HttpServletRequest request) {
+        return (request.getAttribute(ATTRIBUTE) instanceof ExecutionContext context) ? context : null;
+    }
+
+    /**
+     * 요청 ID 조회, 컨텍스트 생성 전이면 요청 스레드에 지정된 ID 사용
+     */
+    public static String requestIdOf(HttpServletRequest request) {
+        ExecutionContext context = find(request);
+        return (context != null) ? context.requestId : RequestIds.current();
+    }
+}
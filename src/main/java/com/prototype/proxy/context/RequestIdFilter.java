@@ -0,0 +1,47 @@
+package com.prototype.proxy.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 ID 지정 필터<br/>요청 ID 는 항상 서버에서 생성하여 응답 헤더와 로그(MDC)에 포함
+ * <p>
+ * 요청 ID 는 실행 로그의 키이므로 클라이언트 값을 사용하지 않는다. 수신한 X-Request-Id 가 유효하면
+ * 연결 ID(correlationId)로 로그와 실행 로그에 함께 남겨 호출 측 로그와 연결할 수 있도록 한다.
+ * <p>
+ * W3C traceparent 이어받기와 로그(MDC)의 traceId / spanId 는 Micrometer Tracing 이 관리한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String requestId = RequestIds.generate();
+        String correlationId = request.getHeader(REQUEST_ID_HEADER);
+
+        MDC.put(RequestIds.MDC_KEY, requestId);
+        if (RequestIds.isValid(correlationId)) {
+            MDC.put(RequestIds.CORRELATION_MDC_KEY, correlationId);
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestIds.MDC_KEY);
+            MDC.remove(RequestIds.CORRELATION_MDC_KEY);
+        }
+    }
+}
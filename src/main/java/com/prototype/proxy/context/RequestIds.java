@@ -0,0 +1,58 @@
+package com.prototype.proxy.context;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+
+/**
+ * 요청 ID 생성 및 조회<br/>시간 순으로 증가하는 UUID v7 형식을 사용하여 request_id 인덱스에 순차적으로 추가되도록 함
+ * <p>
+ * 상위 48비트는 밀리초 타임스탬프, 다음 12비트는 같은 밀리초 내 순번이며 나머지는 난수(ThreadLocalRandom)로 채운다.
+ * 순번은 lock 없이 CAS 로 증가시키므로 같은 프로세스에서 생성된 ID 는 항상 증가한다.
+ */
+public final class RequestIds {
+
+    /** MDC 및 로그 패턴에서 사용하는 키 */
+    public static final String MDC_KEY = "requestId";
+
+    /** 호출 측에서 전달한 X-Request-Id (연결 ID) MDC 키 */
+    public static final String CORRELATION_MDC_KEY = "correlationId";
+
+    /** 외부에서 전달된 ID 허용 형식 (correlation_id 컬럼 길이 이내) */
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._:\\-]{1,100}");
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private RequestIds() {
+    }
+
+    public static String generate() {
+        long candidate = System.currentTimeMillis() << 12;
+        long next = LAST.accumulateAndGet(candidate, (prev, now) -> Math.max(prev + 1, now));
+
+        long msb = ((next >>> 12) << 16) | 0x7000L | (next & 0xFFFL);
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    /**
+     * 현재 스레드의 요청 ID (RequestIdFilter 에서 지정), 없으면 새로 생성
+     */
+    public static String current() {
+        String requestId = MDC.get(MDC_KEY);
+        return (requestId != null) ? requestId : generate();
+    }
+
+    /**
+     * 현재 스레드의 연결 ID (호출 측 X-Request-Id), 없으면 null
+     */
+    public static String correlationId() {
+        return MDC.get(CORRELATION_MDC_KEY);
+    }
+
+    public static boolean isValid(String requestId) {
+        return requestId != null && VALID_ID.matcher(requestId).matches();
+    }
+}
@@ -0,0 +1,48 @@
+package com.prototype.proxy.controller;
+
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.FlightRecorderService;
+import com.prototype.proxy.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jfr")
+@Tag(name = "Admin - Flight Recorder", description = "JFR 기록 및 덤프")
+public class FlightRecorderController {
+
+    private final FlightRecorderService flightRecorderService;
+    private final StatisticsService statisticsService;
+
+    @Operation(summary = "기록 현황 조회", description = "상시 기록 상태, 진행 중인 기간 지정 기록, 저장된 파일 목록을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<SimpleProxyResponse> getStatus() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(flightRecorderService::getStatus);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "상시 기록 덤프", description = "상시 기록(proxy.jfr.continuous)의 최근 구간(max-age)을 파일로 저장합니다. 지연 급증 직후 호출합니다.")
+    @PostMapping("/dump")
+    public ResponseEntity<SimpleProxyResponse> dump() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(flightRecorderService::dumpContinuous);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "기간 지정 기록", description = "지정한 시간(예: 60s, 5m) 동안 기록한 뒤 파일로 저장합니다. 동시에 하나만 실행할 수 있습니다.")
+    @PostMapping("/recordings")
+    public ResponseEntity<SimpleProxyResponse> record(@RequestParam(defaultValue = "60s") String duration) {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(() ->
+            Map.of("recording", flightRecorderService.record(DurationStyle.detectAndParse(duration))));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.prototype.proxy.controller;
+
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.JcoPoolMonitor;
+import com.prototype.proxy.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jco")
+@Tag(name = "Admin - JCo 연결 풀", description = "SAP destination 연결 풀 현황")
+public class JcoMonitorController {
+
+    private final JcoPoolMonitor poolMonitor;
+    private final StatisticsService statisticsService;
+
+    @Operation(summary = "연결 풀 현황 조회", description = "destination 별 최근 수집된 풀 연결 수, 사용 중 연결 수, 대기 스레드 수를 조회합니다.")
+    @GetMapping
+    public ResponseEntity<SimpleProxyResponse> getCurrent() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(poolMonitor::getCurrent);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "연결 풀 이력 조회", description = "최근 수집 이력을 오래된 순으로 조회합니다. 응답 시간 추이와 비교하여 연결 풀 부족 시점을 확인할 수 있습니다.")
+    @GetMapping("/history")
+    public ResponseEntity<SimpleProxyResponse> getHistory(
+        @RequestParam(required = false) String destination,
+        @RequestParam(defaultValue = "120") int limit
+    ) {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(() ->
+            Map.of("samples", poolMonitor.getHistory(destination, limit)));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,11 +1,21 @@
 package com.prototype.proxy.controller;
 
+import com.prototype.proxy.config.WireFormatConfig;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.context.RequestIds;
 import com.prototype.proxy.model.SimpleProxyRequest;
 import com.prototype.proxy.model.SimpleProxyResponse;
 import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.service.DeadlinePolicy;
+import com.prototype.proxy.service.IdempotencyStore;
+import com.prototype.proxy.service.InterfaceCatalog;
+import com.prototype.proxy.service.InterfaceCatalog.Catalog;
+import com.prototype.proxy.service.ProxyRequestReader;
 import com.prototype.proxy.service.ProxyService;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -13,13 +23,18 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -31,18 +46,43 @@ public class ProxyController {
 
     private final InterfaceRegistry registry;
     private final ProxyService proxyService;
+    private final InterfaceCatalog interfaceCatalog;
+    private final ProxyRequestReader requestReader;
+    private final DeadlinePolicy deadlinePolicy;
 
     /**
      * Proxy 요청 실행
      */
-    @Operation(summary = "Proxy 요청 실행", description = "SAP RFC 인터페이스를 실행합니다.")
-    @PostMapping(value = "/execute", consumes = "application/json", produces = "application/json")
+    @Operation(summary = "Proxy 요청 실행", description = "SAP RFC 인터페이스를 실행합니다. "
+        + "JSON 외에 CBOR, Smile, MessagePack 형식을 Content-Type / Accept 헤더로 지정할 수 있습니다. "
+        + "X-Request-Timeout 헤더(예: 10s, 1500ms)로 처리 기한을 지정하면 기한이 지난 요청은 504 를 반환합니다. "
+        + "Idempotency-Key 헤더를 지정하면 같은 키로 재시도한 요청은 SAP 를 다시 호출하지 않고 최초 응답을 반환합니다.")
+    @PostMapping(value = "/execute",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.APPLICATION_CBOR,
+            WireFormatConfig.APPLICATION_SMILE, WireFormatConfig.APPLICATION_MSGPACK,
+            WireFormatConfig.APPLICATION_MSGPACK_ALIAS},
+        produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.APPLICATION_CBOR,
+            WireFormatConfig.APPLICATION_SMILE, WireFormatConfig.APPLICATION_MSGPACK,
+            WireFormatConfig.APPLICATION_MSGPACK_ALIAS})
     public ResponseEntity<SimpleProxyResponse> execute (
-        @Validated @RequestBody SimpleProxyRequest request,
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = @Content(schema = @Schema(implementation = SimpleProxyRequest.class)))
+        @RequestBody byte[] body,
+        @RequestHeader(value = DeadlinePolicy.TIMEOUT_HEADER, required = false) String timeout,
+        @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
         HttpServletRequest servletRequest
-    ) {
+    ) throws BindException {
+        if (idempotencyKey != null && !RequestIds.isValid(idempotencyKey)) {
+            throw new IllegalArgumentException("Invalid Idempotency-Key: " + idempotencyKey);
+        }
+
+        SimpleProxyRequest request = requestReader.read(body, servletRequest.getContentType());
         request.setIpAddress(servletRequest.getRemoteAddr());
-        SimpleProxyResponse response = proxyService.executeRfc(request);
+        request.setIdempotencyKey(idempotencyKey);
+        DeadlinePolicy.Deadline deadline = deadlinePolicy.resolve(timeout, request.getInterfaceId());
+        ExecutionContext context = ExecutionContext.start(servletRequest, request.getInterfaceId(),
+            deadline.timeout(), deadline.explicit());
+        SimpleProxyResponse response = proxyService.executeRfc(request, context);
         return ResponseEntity.ok(response);
     }
 
@@ -59,10 +99,40 @@ public class ProxyController {
     /**
      * 등록된 인터페이스 목록 조회
      */
-    @Operation(summary = "전체 인터페이스 조회", description = "현재 등록된 모든 인터페이스의 메타데이터를 조회합니다.")
-    @GetMapping("/interfaces")
-    public ResponseEntity<SimpleProxyResponse> listInterfaces(HttpServletRequest request) {
-        SimpleProxyResponse response = proxyService.getInterfaceList(request);
+    @Operation(summary = "전체 인터페이스 조회", description = "현재 등록된 모든 인터페이스의 메타데이터를 조회합니다. "
+        + "If-None-Match 헤더의 ETag 가 일치하면 304 를 반환합니다.")
+    @GetMapping(value = "/interfaces", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SimpleProxyResponse> listInterfaces(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        HttpServletRequest request
+    ) {
+        Catalog catalog = interfaceCatalog.getCatalog();
+        SimpleProxyResponse response = proxyService.getInterfaceList(request, catalog);
+
+        if (catalog.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.etag()).build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(catalog.etag())
+            .body(response);
+    }
+
+    /**
+     * 인터페이스 요약 목록 조회
+     */
+    @Operation(summary = "인터페이스 요약 조회", description = "ID, 이름, 모듈, RFC 만 페이지 단위로 조회합니다. 상세 정보는 개별 조회를 사용합니다.")
+    @GetMapping(value = "/interfaces", params = "view=summary")
+    public ResponseEntity<SimpleProxyResponse> listInterfaceSummaries(
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        HttpServletRequest request
+    ) {
+        if (page < 0 || size < 1 || size > 500) {
+            throw new IllegalArgumentException("Invalid page request: page=" + page + ", size=" + size);
+        }
+
+        SimpleProxyResponse response = proxyService.getInterfaceSummaries(request, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,67 @@
+package com.prototype.proxy.controller;
+
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.service.CallerRateLimiter;
+import com.prototype.proxy.service.CallerRateLimiter.Limit;
+import com.prototype.proxy.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/limits")
+@Tag(name = "Admin - 호출 제한", description = "호출자별 요청 수 / 동시 실행 수 제한 설정")
+public class RateLimitController {
+
+    private final CallerRateLimiter rateLimiter;
+    private final StatisticsService statisticsService;
+
+    @Operation(summary = "제한 설정 조회")
+    @GetMapping
+    public ResponseEntity<SimpleProxyResponse> getSettings() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(rateLimiter::getSettings);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "제한 사용 여부 변경")
+    @PutMapping("/enabled")
+    public ResponseEntity<SimpleProxyResponse> setEnabled(@RequestParam boolean enabled) {
+        rateLimiter.setEnabled(enabled);
+        return getSettings();
+    }
+
+    @Operation(summary = "범위 기본값 변경", description = "scope: user, ip, user-interface")
+    @PutMapping("/{scope}")
+    public ResponseEntity<SimpleProxyResponse> setDefault(@PathVariable String scope, @RequestBody Limit limit) {
+        rateLimiter.setLimit(scope, null, limit);
+        return getSettings();
+    }
+
+    @Operation(summary = "키별 제한 변경", description = "key: userId, IP 또는 userId/인터페이스 ID")
+    @PutMapping("/{scope}/keys")
+    public ResponseEntity<SimpleProxyResponse> setOverride(
+        @PathVariable String scope,
+        @RequestParam String key,
+        @RequestBody Limit limit
+    ) {
+        rateLimiter.setLimit(scope, key, limit);
+        return getSettings();
+    }
+
+    @Operation(summary = "키별 제한 삭제", description = "범위 기본값을 다시 적용합니다.")
+    @DeleteMapping("/{scope}/keys")
+    public ResponseEntity<SimpleProxyResponse> removeOverride(@PathVariable String scope, @RequestParam String key) {
+        rateLimiter.removeLimit(scope, key);
+        return getSettings();
+    }
+}
@@ -1,19 +1,33 @@
 package com.prototype.proxy.controller;
 
+import com.prototype.proxy.dto.LogSearchCondition;
 import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.DeadlineMetrics;
+import com.prototype.proxy.monitoring.LiveFeedService;
+import com.prototype.proxy.service.AdaptiveConcurrencyLimiter;
+import com.prototype.proxy.service.CallerRateLimiter;
+import com.prototype.proxy.service.FunctionMetadataCache;
+import com.prototype.proxy.service.IdempotencyStore;
+import com.prototype.proxy.service.RfcHedger;
 import com.prototype.proxy.service.StatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +36,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final LiveFeedService liveFeedService;
+    private final FunctionMetadataCache functionMetadataCache;
+    private final CallerRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final DeadlineMetrics deadlineMetrics;
+    private final RfcHedger rfcHedger;
+    private final IdempotencyStore idempotencyStore;
 
     @Operation(summary = "일별 모듈 통계 조회")
     @GetMapping("/daily")
@@ -52,4 +73,148 @@ public class StatisticsController {
         SimpleProxyResponse response = statisticsService.getErrorLogs(date, interfaceId);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "실행 로그 검색", description = "요청/응답 전문을 제외한 요약 정보를 최신순으로 조회합니다. 다음 페이지는 nextCursor 로 조회합니다.")
+    @GetMapping("/logs")
+    public ResponseEntity<SimpleProxyResponse> searchLogs(
+        @RequestParam(required = false) String interfaceId,
+        @RequestParam(required = false) String module,
+        @RequestParam(required = false) String userId,
+        @RequestParam(required = false) Boolean success,
+        @Parameter(description = "조회 시작 일시 (기본값: 종료 일시 - 1일)", example = "2025-01-01T00:00:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @Parameter(description = "조회 종료 일시 (기본값: 현재)", example = "2025-01-01T23:59:59")
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+        @Parameter(description = "최소 실행 시간(ms)")
+        @RequestParam(required = false) Long minExecutionTimeMs,
+        @Parameter(description = "이전 페이지의 nextCursor")
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        LogSearchCondition condition = LogSearchCondition.builder()
+            .interfaceId(interfaceId)
+            .module(module)
+            .userId(userId)
+            .success(success)
+            .from(from)
+            .to(to)
+            .minExecutionTimeMs(minExecutionTimeMs)
+            .cursor(cursor)
+            .size(size)
+            .build();
+
+        SimpleProxyResponse response = statisticsService.searchLogs(condition);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "실행 로그 상세 조회", description = "요청 ID 로 요청/응답 전문을 포함한 로그를 조회합니다.")
+    @GetMapping("/logs/{requestId}")
+    public ResponseEntity<SimpleProxyResponse> getLogDetail(@PathVariable String requestId) {
+        SimpleProxyResponse response = statisticsService.getLogDetail(requestId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "업무 키로 실행 로그 조회", description = "인터페이스 정의의 businessKeys 로 색인된 값(자재번호, 문서번호 등)으로 실행 이력을 조회합니다.")
+    @GetMapping("/keys")
+    public ResponseEntity<SimpleProxyResponse> findLogsByBusinessKey(
+        @Parameter(description = "업무 키 값", example = "100000123")
+        @RequestParam String value,
+        @Parameter(description = "업무 키 이름 (선택)", example = "matnr")
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) String interfaceId,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        SimpleProxyResponse response = statisticsService.findLogsByBusinessKey(value, name, interfaceId, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "구간별 추이 조회", description = "지정 기간을 bucket 크기로 나누어 건수, 에러율, 지연 시간 백분위를 조회합니다.")
+    @GetMapping("/trend")
+    public ResponseEntity<SimpleProxyResponse> getTrend(
+        @Parameter(description = "조회 시작 일시", example = "2025-01-01T00:00:00")
+        @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @Parameter(description = "조회 종료 일시 (기본값: 현재)")
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+        @Parameter(description = "구간 크기", example = "1h")
+        @RequestParam(defaultValue = "1h") String bucket,
+        @Parameter(description = "그룹 기준 (interface, module)")
+        @RequestParam(defaultValue = "interface") String groupBy,
+        @RequestParam(required = false) String interfaceId,
+        @RequestParam(required = false) String module
+    ) {
+        SimpleProxyResponse response = statisticsService.getTrend(
+            from, to, DurationStyle.detectAndParse(bucket), groupBy, interfaceId, module);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "통계 캐시 현황 조회", description = "통계 결과 캐시의 항목 수 및 적중률을 조회합니다.")
+    @GetMapping("/cache")
+    public ResponseEntity<SimpleProxyResponse> getCacheStats() {
+        SimpleProxyResponse response = statisticsService.getCacheStats();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "통계 캐시 초기화")
+    @DeleteMapping("/cache")
+    public ResponseEntity<SimpleProxyResponse> clearCache() {
+        SimpleProxyResponse response = statisticsService.clearCache();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "실시간 현황 구독 (SSE)", description = "인터페이스별 누적 건수, 최근 1분 지연 시간 백분위 및 신규 에러를 1초 단위로 전송합니다.")
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLive() {
+        return liveFeedService.subscribe();
+    }
+
+    @Operation(summary = "실시간 피드 현황 조회")
+    @GetMapping("/live/status")
+    public ResponseEntity<SimpleProxyResponse> getLiveFeedStatus() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(liveFeedService::getFeedStats);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "RFC 메타데이터 캐시 현황 조회")
+    @GetMapping("/metadata")
+    public ResponseEntity<SimpleProxyResponse> getMetadataCacheStats() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(functionMetadataCache::getStats);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "호출자별 사용 현황 조회", description = "userId, IP, (userId, 인터페이스) 단위 허용/거부 건수와 실행 중 요청 수를 조회합니다.")
+    @GetMapping("/callers")
+    public ResponseEntity<SimpleProxyResponse> getCallerUsage(
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(() -> rateLimiter.getUsage(limit));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "SAP 동시 호출 제한 현황 조회", description = "응답 시간에 따라 조절되는 현재 제한 값, 실행 중 호출 수, 거부 건수 및 RFC 별 기준 응답 시간을 조회합니다.")
+    @GetMapping("/sap-limit")
+    public ResponseEntity<SimpleProxyResponse> getSapLimit() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(concurrencyLimiter::getStats);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "처리 기한 초과 현황 조회", description = "SAP 호출 전에 폐기된 요청(단계별)과 실행 중 기한이 지나 응답을 기다리지 않은 RFC 호출을 구분하여 조회합니다.")
+    @GetMapping("/deadlines")
+    public ResponseEntity<SimpleProxyResponse> getDeadlineStats() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(deadlineMetrics::getStats);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "중복 요청(hedging) 현황 조회", description = "조회 전용 인터페이스의 중복 요청 비율, 예산 부족으로 생략된 건수 및 중복 요청이 먼저 응답한 건수를 조회합니다.")
+    @GetMapping("/hedging")
+    public ResponseEntity<SimpleProxyResponse> getHedgingStats() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(rfcHedger::getStats);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Idempotency-Key 저장소 현황 조회", description = "보관 중인 키 수, 최초 실행 건수, 저장된 응답 재사용 건수 및 다른 데이터로 키를 재사용한 건수를 조회합니다.")
+    @GetMapping("/idempotency")
+    public ResponseEntity<SimpleProxyResponse> getIdempotencyStats() {
+        SimpleProxyResponse response = statisticsService.executeStatsAction(idempotencyStore::getStats);
+        return ResponseEntity.ok(response);
+    }
 }
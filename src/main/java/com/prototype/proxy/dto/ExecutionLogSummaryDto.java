@@ -0,0 +1,25 @@
+package com.prototype.proxy.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실행 로그 요약 (요청/응답 전문 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionLogSummaryDto {
+    private Long id;
+    private String requestId;
+    private String interfaceId;
+    private String sapModule;
+    private String rfcFunction;
+    private String userId;
+    private Boolean success;
+    private String errorMessage;
+    private Long executionTimeMs;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.prototype.proxy.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 집계용 실행 로그 최소 정보
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionSampleDto {
+    private String interfaceId;
+    private String sapModule;
+    private Boolean success;
+    private Long executionTimeMs;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package com.prototype.proxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterfaceSummaryDto {
+    private String id;
+    private String name;
+    private String sapModule;
+    private String rfcFunction;
+}
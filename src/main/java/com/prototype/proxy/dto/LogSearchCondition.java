@@ -0,0 +1,22 @@
+package com.prototype.proxy.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+/**
+ * 실행 로그 검색 조건<br/>cursor 는 이전 페이지 마지막 로그 ID (keyset pagination)
+ */
+@Builder
+public record LogSearchCondition(
+    String interfaceId,
+    String module,
+    String userId,
+    Boolean success,
+    LocalDateTime from,
+    LocalDateTime to,
+    Long minExecutionTimeMs,
+    Long cursor,
+    int size
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.prototype.proxy.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendPointDto {
+    private LocalDateTime time;
+    private long totalCount;
+    private long successCount;
+    private long failCount;
+    private double errorRate;
+    private Long avgMs;
+    private Long p50Ms;
+    private Long p95Ms;
+    private Long p99Ms;
+    private Long maxMs;
+}
@@ -0,0 +1,17 @@
+package com.prototype.proxy.exception;
+
+import lombok.Getter;
+
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String stage;
+    private final long timeoutMillis;
+
+    public DeadlineExceededException(String stage, long timeoutMillis, String message) {
+        super(message);
+        this.stage = stage;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+}
@@ -1,14 +1,16 @@
 package com.prototype.proxy.exception;
 
-import com.prototype.proxy.context.RequestContext;
+import com.prototype.proxy.context.ExecutionContext;
 import com.prototype.proxy.model.SimpleProxyResponse;
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.NoHandlerFoundException;
@@ -19,14 +21,11 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
-@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    private final RequestContext requestContext;
-
     @ExceptionHandler(NotFoundException.class)
-    public ResponseEntity<SimpleProxyResponse> handleNotFoundException(NotFoundException ex) {
-        String requestId = requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleNotFoundException(NotFoundException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
         log.warn("Resource not found. requestId={}, resource={}, message={}",
             requestId, ex.getResource(), ex.getMessage());
 
@@ -40,8 +39,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler({NoResourceFoundException.class, NoHandlerFoundException.class})
-    public ResponseEntity<SimpleProxyResponse> handleApiNotFoundException(Exception ex) {
-        String requestId = requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleApiNotFoundException(Exception ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
         String path = (ex instanceof NoResourceFoundException nrfe) ? nrfe.getResourcePath() : "unknown";
 
         log.warn("URL path not found. requestId={}, path={}", requestId, path);
@@ -58,8 +57,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<SimpleProxyResponse> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex) {
-        String requestId = requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
 
         log.warn("Method not allowed. requestId={}, method={}, supported={}",
             requestId, ex.getMethod(), ex.getSupportedHttpMethods());
@@ -77,8 +76,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(InterfaceMappingException.class)
-    public ResponseEntity<SimpleProxyResponse> handleInterfaceMappingException(InterfaceMappingException ex) {
-        String requestId = requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleInterfaceMappingException(InterfaceMappingException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
 
         log.warn("Mapping validation failed. requestId={}, interfaceId={}, message={}",
             requestId, ex.getInterfaceId(), ex.getMessage());
@@ -94,9 +93,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<SimpleProxyResponse> handleValidationException(MethodArgumentNotValidException ex) {
-        String requestId = requestContext.getRequestId();
+    /**
+     * 요청 검증 실패 (@Validated 바인딩 및 ProxyRequestReader 의 필수 항목 검증)
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<SimpleProxyResponse> handleValidationException(BindException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
         Map<String, String> fieldErrors = new HashMap<>();
 
         for (FieldError fe : ex.getBindingResult().getFieldErrors()) {
@@ -114,9 +116,122 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<SimpleProxyResponse> handleRateLimitExceededException(RateLimitExceededException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
+
+        log.warn("Rate limit exceeded. requestId={}, scope={}, key={}, retryAfter={}s",
+            requestId, ex.getScope(), ex.getKey(), ex.getRetryAfterSeconds());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("errorType", "RATE_LIMITED");
+        data.put("scope", ex.getScope());
+        data.put("key", ex.getKey());
+        data.put("retryAfterSeconds", ex.getRetryAfterSeconds());
+
+        SimpleProxyResponse response = SimpleProxyResponse.error(ex.getMessage(), requestId, data);
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(response);
+    }
+
+    @ExceptionHandler(SapOverloadedException.class)
+    public ResponseEntity<SimpleProxyResponse> handleSapOverloadedException(SapOverloadedException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
+
+        log.warn("SAP overloaded, request shed. requestId={}, function={}, limit={}",
+            requestId, ex.getFunctionName(), ex.getLimit());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("errorType", "SAP_OVERLOADED");
+        data.put("limit", ex.getLimit());
+
+        SimpleProxyResponse response = SimpleProxyResponse.error(ex.getMessage(), requestId, data);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(response);
+    }
+
+    @ExceptionHandler(SubscriberLimitExceededException.class)
+    public ResponseEntity<SimpleProxyResponse> handleSubscriberLimitExceededException(SubscriberLimitExceededException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
+
+        log.warn("Subscriber limit reached. requestId={}, limit={}", requestId, ex.getLimit());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("errorType", "SUBSCRIBER_LIMIT");
+        data.put("limit", ex.getLimit());
+        data.put("retryAfterSeconds", ex.getRetryAfterSeconds());
+
+        SimpleProxyResponse response = SimpleProxyResponse.error(ex.getMessage(), requestId, data);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(response);
+    }
+
+    /**
+     * SSE 요청(Accept: text/event-stream)은 JSON 본문을 받을 수 없으므로 상태 코드와 Retry-After 만 반환
+     */
+    @ExceptionHandler(value = SubscriberLimitExceededException.class, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Void> handleSubscriberLimitExceededForStream(SubscriberLimitExceededException ex) {
+        log.warn("Subscriber limit reached. limit={}", ex.getLimit());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .build();
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<SimpleProxyResponse> handleDeadlineExceededException(DeadlineExceededException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
+
+        log.warn("Deadline exceeded. requestId={}, stage={}, timeout={}ms",
+            requestId, ex.getStage(), ex.getTimeoutMillis());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("errorType", "DEADLINE_EXCEEDED");
+        data.put("stage", ex.getStage());
+        data.put("timeoutMillis", ex.getTimeoutMillis());
+
+        SimpleProxyResponse response = SimpleProxyResponse.error(ex.getMessage(), requestId, data);
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<SimpleProxyResponse> handleIdempotencyConflictException(IdempotencyConflictException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
+
+        log.warn("Idempotency key conflict. requestId={}, key={}", requestId, ex.getIdempotencyKey());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("errorType", "IDEMPOTENCY_KEY_REUSED");
+
+        SimpleProxyResponse response = SimpleProxyResponse.error(ex.getMessage(), requestId, data);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyOutcomeUnknownException.class)
+    public ResponseEntity<SimpleProxyResponse> handleIdempotencyOutcomeUnknownException(IdempotencyOutcomeUnknownException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
+
+        log.warn("Idempotency key outcome unknown. requestId={}, key={}", requestId, ex.getIdempotencyKey());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("errorType", "IDEMPOTENCY_OUTCOME_UNKNOWN");
+
+        SimpleProxyResponse response = SimpleProxyResponse.error(ex.getMessage(), requestId, data);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<SimpleProxyResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
-        String requestId = requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleIllegalArgumentException(IllegalArgumentException ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
 
         log.warn("Bad request. requestId={}, message={}", requestId, ex.getMessage());
 
@@ -130,8 +245,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(ProxyException.class)
-    public ResponseEntity<SimpleProxyResponse> handleProxyException(ProxyException ex) {
-        String requestId = (ex.getRequestId() != null) ? ex.getRequestId() : requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleProxyException(ProxyException ex, HttpServletRequest request) {
+        String requestId = (ex.getRequestId() != null) ? ex.getRequestId() : ExecutionContext.requestIdOf(request);
 
         log.error("Proxy service error. requestId={}: {}", requestId, ex.getMessage(), ex);
 
@@ -144,8 +259,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<SimpleProxyResponse> handleException(Exception ex) {
-        String requestId = requestContext.getRequestId();
+    public ResponseEntity<SimpleProxyResponse> handleException(Exception ex, HttpServletRequest request) {
+        String requestId = ExecutionContext.requestIdOf(request);
 
         log.error("Unexpected error occurred. requestId={}", requestId, ex);
 
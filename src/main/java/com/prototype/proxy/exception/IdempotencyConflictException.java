@@ -0,0 +1,15 @@
+package com.prototype.proxy.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyConflictException(String idempotencyKey, String message) {
+        super(message);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+}
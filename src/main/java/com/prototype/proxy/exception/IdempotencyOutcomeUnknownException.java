@@ -0,0 +1,18 @@
+package com.prototype.proxy.exception;
+
+import lombok.Getter;
+
+/**
+ * 같은 Idempotency-Key 의 이전 실행 결과를 알 수 없음 (RFC 전송 후 실패, 기한 초과로 응답 대기 포기 등)
+ */
+@Getter
+public class IdempotencyOutcomeUnknownException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyOutcomeUnknownException(String idempotencyKey, String message) {
+        super(message);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.prototype.proxy.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String scope;
+    private final String key;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String scope, String key, long retryAfterSeconds, String message) {
+        super(message);
+        this.scope = scope;
+        this.key = key;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.prototype.proxy.exception;
+
+import lombok.Getter;
+
+@Getter
+public class SapOverloadedException extends RuntimeException {
+
+    private final String functionName;
+    private final int limit;
+
+    public SapOverloadedException(String functionName, int limit, String message) {
+        super(message);
+        this.functionName = functionName;
+        this.limit = limit;
+    }
+
+}
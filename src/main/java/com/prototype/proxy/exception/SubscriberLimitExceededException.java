@@ -0,0 +1,17 @@
+package com.prototype.proxy.exception;
+
+import lombok.Getter;
+
+@Getter
+public class SubscriberLimitExceededException extends RuntimeException {
+
+    private final int limit;
+    private final long retryAfterSeconds;
+
+    public SubscriberLimitExceededException(int limit, long retryAfterSeconds, String message) {
+        super(message);
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.prototype.proxy.logging;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceDefinition.BusinessKey;
+import com.prototype.proxy.registry.InterfaceDefinition.FieldMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.ImportMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.ReturnTableMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인터페이스 정의의 businessKeys 에 따라 요청/응답 데이터에서 업무 키 추출<br/>
+ * 경로의 첫 항목이 SAP 테이블명(또는 Import 파라미터명)인 경우 매핑 정의를 통해 WEB 필드명으로 변환
+ */
+@Component
+public class BusinessKeyExtractor {
+
+    private static final String SOURCE_RESPONSE = "response";
+
+    private static final int MAX_KEYS_PER_EXECUTION = 100;
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    public List<ExecutionBusinessKey> extract(String requestId, InterfaceDefinition definition,
+        Map<String, Object> requestData, Map<String, Object> responseData) {
+        List<ExecutionBusinessKey> keys = new ArrayList<>();
+
+        if (definition == null || definition.getBusinessKeys() == null) {
+            return keys;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (BusinessKey businessKey : definition.getBusinessKeys()) {
+            boolean fromResponse = SOURCE_RESPONSE.equalsIgnoreCase(businessKey.getSource());
+            Map<String, Object> data = fromResponse ? responseData : requestData;
+
+            if (data == null || businessKey.getName() == null || businessKey.getPath() == null) {
+                continue;
+            }
+
+            String[] path = fromResponse
+                ? toResponsePath(definition, businessKey.getPath())
+                : toRequestPath(definition, businessKey.getPath());
+
+            Set<String> values = new LinkedHashSet<>();
+            collect(data, path, 0, values);
+
+            for (String value : values) {
+                if (keys.size() >= MAX_KEYS_PER_EXECUTION) {
+                    return keys;
+                }
+
+                keys.add(ExecutionBusinessKey.builder()
+                    .requestId(requestId)
+                    .interfaceId(definition.getId().toUpperCase())
+                    .keyName(businessKey.getName())
+                    .keyValue(value)
+                    .createdAt(now)
+                    .build());
+            }
+        }
+
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(Object node, String[] path, int depth, Set<String> values) {
+        if (node == null) {
+            return;
+        }
+
+        if (node instanceof List<?> list) {
+            for (Object item : list) {
+                collect(item, path, depth, values);
+            }
+            return;
+        }
+
+        if (depth == path.length) {
+            String value = String.valueOf(node).trim();
+            if (!value.isEmpty() && value.length() <= MAX_VALUE_LENGTH) {
+                values.add(value);
+            }
+            return;
+        }
+
+        if (node instanceof Map) {
+            collect(((Map<String, Object>) node).get(path[depth]), path, depth + 1, values);
+        }
+    }
+
+    private String[] toRequestPath(InterfaceDefinition definition, String path) {
+        String[] segments = path.split("\\.");
+
+        if (segments.length == 1 && definition.getImportMapping() != null) {
+            for (ImportMapping mapping : definition.getImportMapping()) {
+                if (segments[0].equalsIgnoreCase(mapping.getSapField())) {
+                    return new String[]{mapping.getWebField()};
+                }
+            }
+        }
+
+        if (segments.length == 2 && definition.getTableMapping() != null) {
+            for (TableMapping mapping : definition.getTableMapping()) {
+                if (segments[0].equalsIgnoreCase(mapping.getSapTable())) {
+                    return new String[]{mapping.getWebFields(), toWebField(mapping.getFields(), segments[1])};
+                }
+            }
+        }
+
+        return segments;
+    }
+
+    private String[] toResponsePath(InterfaceDefinition definition, String path) {
+        String[] segments = path.split("\\.");
+
+        if (segments.length == 2 && definition.getReturnTableMapping() != null) {
+            for (ReturnTableMapping mapping : definition.getReturnTableMapping()) {
+                if (segments[0].equalsIgnoreCase(mapping.getSapReturnTable())) {
+                    return new String[]{mapping.getWebReturnList(), toWebField(mapping.getFields(), segments[1])};
+                }
+            }
+        }
+
+        return segments;
+    }
+
+    private String toWebField(List<FieldMapping> fields, String field) {
+        if (fields != null) {
+            for (FieldMapping mapping : fields) {
+                if (field.equalsIgnoreCase(mapping.getSapField())) {
+                    return mapping.getWebField();
+                }
+            }
+        }
+        return field;
+    }
+}
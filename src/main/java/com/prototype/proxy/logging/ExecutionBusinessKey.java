@@ -0,0 +1,49 @@
+package com.prototype.proxy.logging;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실행 로그 업무 키 색인 (인터페이스 정의의 businessKeys 기준으로 추출)
+ */
+@Entity
+@Table(name = "execution_business_key", indexes = {
+    @Index(name = "idx_execution_business_key_value", columnList = "key_value, key_name"),
+    @Index(name = "idx_execution_business_key_request_id", columnList = "request_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionBusinessKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "request_id", nullable = false, length = 100)
+    private String requestId;
+
+    @Column(name = "interface_id", nullable = false, length = 100)
+    private String interfaceId;
+
+    @Column(name = "key_name", nullable = false, length = 50)
+    private String keyName;
+
+    @Column(name = "key_value", nullable = false, length = 100)
+    private String keyValue;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
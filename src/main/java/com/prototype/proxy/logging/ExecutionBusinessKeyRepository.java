@@ -0,0 +1,30 @@
+package com.prototype.proxy.logging;
+
+import com.prototype.proxy.dto.ExecutionLogSummaryDto;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ExecutionBusinessKeyRepository extends JpaRepository<ExecutionBusinessKey, Long> {
+
+    /**
+     * 업무 키 값으로 실행 로그 요약 조회 (최신순)
+     */
+    @Query("SELECT DISTINCT new com.prototype.proxy.dto.ExecutionLogSummaryDto(" +
+           "  l.id, l.requestId, l.interfaceId, l.sapModule, l.rfcFunction, l.userId, " +
+           "  l.success, l.errorMessage, l.executionTimeMs, l.createdAt " +
+           ") " +
+           "FROM ExecutionBusinessKey k, ProxyExecutionLog l " +
+           "WHERE l.requestId = k.requestId " +
+           "AND k.keyValue = :value " +
+           "AND (:name IS NULL OR k.keyName = :name) " +
+           "AND (:interfaceId IS NULL OR k.interfaceId = :interfaceId) " +
+           "ORDER BY l.id DESC")
+    List<ExecutionLogSummaryDto> findLogsByKey(
+        @Param("value") String value,
+        @Param("name") String name,
+        @Param("interfaceId") String interfaceId,
+        Limit limit);
+}
@@ -2,8 +2,11 @@ package com.prototype.proxy.logging;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.context.RequestIds;
 import com.prototype.proxy.model.SimpleProxyRequest;
+import com.prototype.proxy.monitoring.ProxyFlightEvents;
 import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.ProxyMetrics;
 import com.prototype.proxy.registry.InterfaceDefinition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,11 +14,19 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Proxy 요청/응답 로깅 서비스
+ * <p>
+ * 저장 시간은 호출 측이 아닌 이 서비스 안에서 트랜잭션 완료(커밋 포함)까지 측정한다.
+ * 요청 로그는 요청 스레드에서 동기로(logging_sync), 응답/에러 로그는 비동기 스레드에서(logging_async) 저장되므로 구분하여 기록한다.
  */
 @Slf4j
 @Service
@@ -25,6 +36,9 @@ public class LoggingService {
     private final ProxyExecutionLogRepository proxyLogRepository;
     private final ObjectMapper objectMapper;
     private final SystemAccessLogRepository systemLogRepository;
+    private final ExecutionBusinessKeyRepository businessKeyRepository;
+    private final BusinessKeyExtractor businessKeyExtractor;
+    private final ProxyMetrics proxyMetrics;
 
     /**
      * 요청 로깅
@@ -36,9 +50,16 @@ public class LoggingService {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logRequest(SimpleProxyRequest request, InterfaceDefinition definition) {
+        recordOnCompletion(ProxyMetrics.PHASE_LOGGING_SYNC, request.getInterfaceId(), System.nanoTime());
+
+        ProxyFlightEvents.LogFlush event = new ProxyFlightEvents.LogFlush();
+        event.begin();
+
         ProxyExecutionLog logEntity = createExecutionLog(request, definition);
         proxyLogRepository.save(logEntity);
         log.debug("Request proxy execution logged: {}", request.getRequestId());
+
+        commitFlush(event, request, "request", logEntity.getRequestData(), true);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -53,6 +74,11 @@ public class LoggingService {
     @Async
     @Transactional
     public void logResponse(SimpleProxyRequest request, SimpleProxyResponse response, InterfaceDefinition definition) {
+        recordOnCompletion(ProxyMetrics.PHASE_LOGGING_ASYNC, request.getInterfaceId(), System.nanoTime());
+
+        ProxyFlightEvents.LogFlush event = new ProxyFlightEvents.LogFlush();
+        event.begin();
+
         ProxyExecutionLog logEntity = getOrCreateExecutionLog(request, definition);
 
         if (definition != null) {
@@ -69,6 +95,9 @@ public class LoggingService {
         }
 
         proxyLogRepository.save(logEntity);
+        saveBusinessKeys(request, definition, response.data());
+
+        commitFlush(event, request, "response", logEntity.getResponseData(), response.success());
     }
 
     @Async
@@ -95,6 +124,11 @@ public class LoggingService {
     @Async
     @Transactional
     public void logError(SimpleProxyRequest request, Exception error, InterfaceDefinition definition) {
+        recordOnCompletion(ProxyMetrics.PHASE_LOGGING_ASYNC, request.getInterfaceId(), System.nanoTime());
+
+        ProxyFlightEvents.LogFlush event = new ProxyFlightEvents.LogFlush();
+        event.begin();
+
         ProxyExecutionLog logEntity = getOrCreateExecutionLog(request, definition);
 
         if (definition != null) {
@@ -108,6 +142,9 @@ public class LoggingService {
         logEntity.setErrorMessage(error.getMessage());
 
         proxyLogRepository.save(logEntity);
+        saveBusinessKeys(request, definition, null);
+
+        commitFlush(event, request, "error", logEntity.getErrorMessage(), false);
     }
 
     @Async
@@ -121,8 +158,26 @@ public class LoggingService {
         systemLogRepository.save(logEntity);
     }
 
+    /**
+     * 업무 키 색인 저장 (실행 로그와 동일 트랜잭션)
+     */
+    private void saveBusinessKeys(SimpleProxyRequest request, InterfaceDefinition definition,
+        Map<String, Object> responseData) {
+        if (definition == null || definition.getBusinessKeys() == null || definition.getBusinessKeys().isEmpty()) {
+            return;
+        }
+
+        List<ExecutionBusinessKey> keys = businessKeyExtractor.extract(
+            request.getRequestId(), definition, getRequestData(request), responseData);
+
+        if (!keys.isEmpty()) {
+            businessKeyRepository.saveAll(keys);
+            log.debug("Business keys indexed: {} ({} keys)", request.getRequestId(), keys.size());
+        }
+    }
+
     private ProxyExecutionLog getOrCreateExecutionLog(SimpleProxyRequest request, InterfaceDefinition definition) {
-        ProxyExecutionLog logEntity = proxyLogRepository.findByRequestId(request.getRequestId());
+        ProxyExecutionLog logEntity = proxyLogRepository.findFirstByRequestIdOrderByIdDesc(request.getRequestId());
 
         if (logEntity == null) {
             log.debug("No existing log found for requestId: {}, creating new one", request.getRequestId());
@@ -133,7 +188,7 @@ public class LoggingService {
     }
 
     private SystemAccessLog getOrCreateSystemAccessLog(String requestId, String endpoint, String method, String ipAddress) {
-        SystemAccessLog logEntity = systemLogRepository.findByRequestId(requestId);
+        SystemAccessLog logEntity = systemLogRepository.findFirstByRequestIdOrderByIdDesc(requestId);
 
         if (logEntity == null) {
             log.debug("No existing log found for requestId: {}, creating new one", requestId);
@@ -146,12 +201,13 @@ public class LoggingService {
     private ProxyExecutionLog createExecutionLog(SimpleProxyRequest request, InterfaceDefinition definition) {
         return ProxyExecutionLog.builder()
             .requestId(request.getRequestId())
+            .correlationId(RequestIds.correlationId())
             .interfaceId(request.getInterfaceId())
             .rfcFunction(definition != null ? definition.getRfcFunction() : null)
             .sapModule(definition != null ? definition.getSapModule() : null)
             .userId(request.getUserId())
             .ipAddress(request.getIpAddress())
-            .requestData(toJson(request.getData()))
+            .requestData(getRequestDataJson(request))
             .createdAt(LocalDateTime.now())
             .build();
     }
@@ -166,6 +222,62 @@ public class LoggingService {
             .build();
     }
 
+    /**
+     * 요청 data 를 Map 으로 변환하지 않은 경우 원본에서 읽음
+     */
+    private Map<String, Object> getRequestData(SimpleProxyRequest request) {
+        if (request.getData() != null || request.getPayload() == null) {
+            return request.getData();
+        }
+
+        try {
+            return request.getPayload().toMap();
+        } catch (IOException e) {
+            log.warn("Failed to read request data for business keys: {}", request.getRequestId(), e);
+            return null;
+        }
+    }
+
+    private String getRequestDataJson(SimpleProxyRequest request) {
+        if (request.getData() != null || request.getPayload() == null) {
+            return toJson(request.getData());
+        }
+
+        try {
+            return request.getPayload().toJson();
+        } catch (IOException e) {
+            log.error("Request data serialization failed", e);
+            return "{\"error\": \"Serialization failed\"}";
+        }
+    }
+
+    /**
+     * 트랜잭션 완료 시 저장 시간 기록 (커밋 실패/롤백은 error)<br/>트랜잭션 밖에서 직접 호출된 경우는 완료 시점을 알 수 없으므로 기록하지 않음
+     */
+    private void recordOnCompletion(String phase, String interfaceId, long startNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                proxyMetrics.recordPhase(phase, interfaceId, status == STATUS_COMMITTED, startNanos);
+            }
+        });
+    }
+
+    private void commitFlush(ProxyFlightEvents.LogFlush event, SimpleProxyRequest request, String kind, String content,
+        boolean success) {
+        if (event.shouldCommit()) {
+            event.interfaceId = request.getInterfaceId();
+            event.kind = kind;
+            event.size = (content != null) ? content.length() : 0;
+            event.outcome = success ? ProxyFlightEvents.OUTCOME_SUCCESS : ProxyFlightEvents.OUTCOME_ERROR;
+            event.commit();
+        }
+    }
+
     private String toJson(Object obj) {
         try {
             return objectMapper.writeValueAsString(obj);
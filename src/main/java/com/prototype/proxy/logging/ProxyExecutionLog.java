@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -13,7 +14,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "proxy_execution_log")
+@Table(name = "proxy_execution_log", indexes = {
+    @Index(name = "idx_proxy_execution_log_request_id", columnList = "request_id"),
+    @Index(name = "idx_proxy_execution_log_correlation_id", columnList = "correlation_id"),
+    @Index(name = "idx_proxy_execution_log_created_at", columnList = "created_at"),
+    @Index(name = "idx_proxy_execution_log_interface_created", columnList = "interface_id, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -28,6 +34,10 @@ public class ProxyExecutionLog {
     @Column(name = "request_id", nullable = false, length = 100)
     private String requestId;
 
+    /** 호출 측에서 전달한 X-Request-Id, 중복될 수 있음 */
+    @Column(name = "correlation_id", length = 100)
+    private String correlationId;
+
     @Column(name = "interface_id", nullable = false, length = 100)
     private String interfaceId;
 
@@ -1,9 +1,12 @@
 package com.prototype.proxy.logging;
 
+import com.prototype.proxy.dto.ExecutionLogSummaryDto;
+import com.prototype.proxy.dto.ExecutionSampleDto;
 import com.prototype.proxy.dto.InterfaceStatsDto;
 import com.prototype.proxy.dto.ModuleStatsDto;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,7 +21,13 @@ public interface ProxyExecutionLogRepository extends JpaRepository<ProxyExecutio
     /**
      * Request ID로 조회
      */
-    ProxyExecutionLog findByRequestId(String requestId);
+    ProxyExecutionLog findFirstByRequestIdOrderByIdDesc(String requestId);
+
+    /**
+     * 가장 오래된 실행 로그 생성 일시 (로그가 없으면 null)
+     */
+    @Query("SELECT MIN(l.createdAt) FROM ProxyExecutionLog l")
+    LocalDateTime findOldestCreatedAt();
 
     @Query("SELECT new com.prototype.proxy.dto.ModuleStatsDto (" +
            "  COALESCE(l.sapModule, 'UNKNOWN'), " +
@@ -48,12 +57,46 @@ public interface ProxyExecutionLogRepository extends JpaRepository<ProxyExecutio
         @Param("module") String module
     );
 
-    @Query("SELECT l FROM ProxyExecutionLog l " +
+    /**
+     * 실행 로그 요약 검색 (keyset pagination)<br/>요청/응답 전문(TEXT)은 조회하지 않으며, cursor 보다 작은 ID 를 최신순으로 조회
+     */
+    @Query("SELECT new com.prototype.proxy.dto.ExecutionLogSummaryDto(" +
+           "  l.id, l.requestId, l.interfaceId, l.sapModule, l.rfcFunction, l.userId, " +
+           "  l.success, l.errorMessage, l.executionTimeMs, l.createdAt " +
+           ") " +
+           "FROM ProxyExecutionLog l " +
            "WHERE l.createdAt BETWEEN :start AND :end " +
-           "AND l.interfaceId = :interfaceId " +
-           "AND l.success = false")
-    List<ProxyExecutionLog> findErrorLogs(
+           "AND (:interfaceId IS NULL OR l.interfaceId = :interfaceId) " +
+           "AND (:module IS NULL OR COALESCE(l.sapModule, 'UNKNOWN') = :module) " +
+           "AND (:userId IS NULL OR l.userId = :userId) " +
+           "AND (:success IS NULL OR l.success = :success) " +
+           "AND (:minExecutionTimeMs IS NULL OR l.executionTimeMs >= :minExecutionTimeMs) " +
+           "AND (:cursor IS NULL OR l.id < :cursor) " +
+           "ORDER BY l.id DESC")
+    List<ExecutionLogSummaryDto> searchLogs(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("interfaceId") String interfaceId,
+        @Param("module") String module,
+        @Param("userId") String userId,
+        @Param("success") Boolean success,
+        @Param("minExecutionTimeMs") Long minExecutionTimeMs,
+        @Param("cursor") Long cursor,
+        Limit limit);
+
+    /**
+     * 구간 집계용 실행 로그 조회 (시작 시각 포함, 종료 시각 미포함)
+     */
+    @Query("SELECT new com.prototype.proxy.dto.ExecutionSampleDto(" +
+           "  l.interfaceId, l.sapModule, l.success, l.executionTimeMs, l.createdAt " +
+           ") " +
+           "FROM ProxyExecutionLog l " +
+           "WHERE l.createdAt >= :start AND l.createdAt < :end " +
+           "AND (:interfaceId IS NULL OR l.interfaceId = :interfaceId) " +
+           "AND (:module IS NULL OR COALESCE(l.sapModule, 'UNKNOWN') = :module)")
+    List<ExecutionSampleDto> findSamples(
         @Param("start") LocalDateTime start,
         @Param("end") LocalDateTime end,
-        @Param("interfaceId") String interfaceId);
+        @Param("interfaceId") String interfaceId,
+        @Param("module") String module);
 }
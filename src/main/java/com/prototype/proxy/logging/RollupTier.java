@@ -0,0 +1,26 @@
+package com.prototype.proxy.logging;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 통계 집계(rollup) 단위, raw → MINUTE → HOUR → DAY 순으로 점진 집계
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupTier {
+
+    MINUTE(Duration.ofMinutes(1), ChronoUnit.MINUTES),
+    HOUR(Duration.ofHours(1), ChronoUnit.HOURS),
+    DAY(Duration.ofDays(1), ChronoUnit.DAYS);
+
+    private final Duration duration;
+    private final ChronoUnit unit;
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,66 @@
+package com.prototype.proxy.logging;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인터페이스별 구간 집계 통계<br/>latencyBuckets 는 {@link com.prototype.proxy.monitoring.LatencyHistogram} 구간 카운트 (백분위 재계산용)
+ */
+@Entity
+@Table(name = "stats_rollup", indexes = {
+    @Index(name = "idx_stats_rollup_tier_bucket", columnList = "tier, bucket_start")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", nullable = false, length = 10)
+    private RollupTier tier;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "interface_id", nullable = false, length = 100)
+    private String interfaceId;
+
+    @Column(name = "sap_module", length = 20)
+    private String sapModule;
+
+    @Column(name = "total_count")
+    private long totalCount;
+
+    @Column(name = "success_count")
+    private long successCount;
+
+    @Column(name = "fail_count")
+    private long failCount;
+
+    @Column(name = "total_time")
+    private long totalTimeMs;
+
+    @Column(name = "max_time")
+    private long maxTimeMs;
+
+    @Column(name = "latency_buckets", length = 1000)
+    private String latencyBuckets;
+}
@@ -0,0 +1,22 @@
+package com.prototype.proxy.logging;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StatsRollupRepository extends JpaRepository<StatsRollup, Long> {
+
+    @Query("SELECT r FROM StatsRollup r " +
+           "WHERE r.tier = :tier " +
+           "AND r.bucketStart >= :start AND r.bucketStart < :end " +
+           "AND (:interfaceId IS NULL OR r.interfaceId = :interfaceId) " +
+           "AND (:module IS NULL OR COALESCE(r.sapModule, 'UNKNOWN') = :module)")
+    List<StatsRollup> findRollups(
+        @Param("tier") RollupTier tier,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("interfaceId") String interfaceId,
+        @Param("module") String module);
+}
@@ -0,0 +1,31 @@
+package com.prototype.proxy.logging;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 집계 단위별 집계 완료 시점 (rolledUntil 이전 구간은 집계 완료)
+ */
+@Entity
+@Table(name = "stats_rollup_watermark")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRollupWatermark {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", length = 10)
+    private RollupTier tier;
+
+    @Column(name = "rolled_until", nullable = false)
+    private LocalDateTime rolledUntil;
+}
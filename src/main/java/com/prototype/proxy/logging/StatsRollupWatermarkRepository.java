@@ -0,0 +1,7 @@
+package com.prototype.proxy.logging;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StatsRollupWatermarkRepository extends JpaRepository<StatsRollupWatermark, RollupTier> {
+
+}
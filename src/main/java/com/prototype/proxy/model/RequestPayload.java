@@ -0,0 +1,92 @@
+package com.prototype.proxy.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 요청 본문 원본<br/>data 항목을 객체로 변환하지 않고 보관하여, 필요한 시점에 토큰 단위로 다시 읽음
+ * <p>
+ * JSON 본문은 data 항목의 위치(byte offset)를 기억하여 해당 구간만 읽고, 로그에도 원문 그대로 사용한다.
+ */
+public final class RequestPayload {
+
+    private static final String DATA_FIELD = "data";
+
+    private final byte[] body;
+    private final ObjectMapper mapper;
+    private final int dataOffset;
+    private final int dataLength;
+
+    /**
+     * @param mapper     본문 형식(JSON, CBOR ...)에 맞는 ObjectMapper
+     * @param dataOffset data 객체 시작 위치, 알 수 없으면 -1
+     */
+    public RequestPayload(byte[] body, ObjectMapper mapper, int dataOffset, int dataLength) {
+        this.body = body;
+        this.mapper = mapper;
+        this.dataOffset = dataOffset;
+        this.dataLength = dataLength;
+    }
+
+    /**
+     * 본문 크기 (byte)
+     */
+    public int size() {
+        return body.length;
+    }
+
+    /**
+     * data 객체 시작(START_OBJECT) 위치의 Parser 생성
+     */
+    public JsonParser openData() throws IOException {
+        if (dataOffset >= 0) {
+            JsonParser parser = mapper.createParser(body, dataOffset, dataLength);
+            parser.nextToken();
+            return parser;
+        }
+
+        JsonParser parser = mapper.createParser(body);
+        parser.nextToken();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+
+            if (DATA_FIELD.equals(name)) {
+                return parser;
+            }
+            parser.skipChildren();
+        }
+
+        parser.close();
+        throw new IllegalStateException("No data object in request body");
+    }
+
+    /**
+     * data 항목을 Map 으로 변환 (업무 키 추출 등 Map 이 필요한 경우에만 사용)
+     */
+    public Map<String, Object> toMap() throws IOException {
+        try (JsonParser parser = openData()) {
+            return mapper.readValue(parser, new TypeReference<>() {
+            });
+        }
+    }
+
+    /**
+     * 로그 저장용 data JSON 문자열
+     */
+    public String toJson() throws IOException {
+        if (dataOffset >= 0) {
+            return new String(body, dataOffset, dataLength, StandardCharsets.UTF_8);
+        }
+
+        try (JsonParser parser = openData()) {
+            return mapper.readTree(parser).toString();
+        }
+    }
+}
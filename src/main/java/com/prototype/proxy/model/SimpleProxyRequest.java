@@ -1,5 +1,6 @@
 package com.prototype.proxy.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
 import jakarta.validation.constraints.NotBlank;
@@ -45,4 +46,18 @@ public class SimpleProxyRequest {
 
     @Schema(hidden = true)
     private String ipAddress;
+
+    /**
+     * Idempotency-Key 헤더 값 (재시도 요청 중복 실행 방지)
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String idempotencyKey;
+
+    /**
+     * 요청 본문 원본 (data 를 Map 으로 변환하지 않은 경우)
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private RequestPayload payload;
 }
@@ -0,0 +1,60 @@
+package com.prototype.proxy.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리 기한 초과 현황<br/>SAP 호출 전에 폐기된 요청과, 실행 중 기한이 지나 응답을 기다리지 않은(abandoned) RFC 호출을 구분하여 집계
+ */
+@Component
+public class DeadlineMetrics {
+
+    public static final String STAGE_SAP_QUEUE = "sap-queue";
+    public static final String STAGE_RFC = "rfc";
+
+    private final Map<String, LongAdder> expiredByStage = new ConcurrentHashMap<>();
+    private final LongAdder abandoned = new LongAdder();
+    private final LongAdder abandonedCompleted = new LongAdder();
+    private final LongAdder abandonedFailed = new LongAdder();
+    private final AtomicInteger abandonedRunning = new AtomicInteger();
+
+    /**
+     * SAP 호출 전 단계에서 기한 초과로 폐기된 요청 기록
+     */
+    public void recordExpired(String stage) {
+        expiredByStage.computeIfAbsent(stage, ignored -> new LongAdder()).increment();
+    }
+
+    /**
+     * 실행 중 기한이 지나 응답을 기다리지 않기로 한 RFC 호출 기록
+     */
+    public void recordAbandoned() {
+        abandoned.increment();
+        abandonedRunning.incrementAndGet();
+    }
+
+    /**
+     * 응답을 기다리지 않기로 한 RFC 호출이 SAP 에서 종료됨
+     */
+    public void recordAbandonedFinished(boolean success) {
+        abandonedRunning.decrementAndGet();
+        (success ? abandonedCompleted : abandonedFailed).increment();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Long> expired = new HashMap<>();
+        expiredByStage.forEach((stage, count) -> expired.put(stage, count.sum()));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("expiredBeforeSap", expired);
+        stats.put("abandonedInFlight", abandoned.sum());
+        stats.put("abandonedStillRunning", abandonedRunning.get());
+        stats.put("abandonedCompletedInSap", abandonedCompleted.sum());
+        stats.put("abandonedFailedInSap", abandonedFailed.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,299 @@
+package com.prototype.proxy.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * JDK Flight Recorder 기록 관리<br/>상시 기록(continuous) 및 관리자 요청에 의한 기간 지정 기록을 JFR 설정(proxy.jfr.settings)으로 수행
+ * <p>
+ * 상시 기록은 max-age / max-size 범위 안에서만 디스크에 보관되며, 지연 급증 직후 덤프하면 직전 구간을 확인할 수 있다.
+ * 기간 지정 기록은 지정 시간이 지나면 dump-dir 에 파일로 저장된다.
+ */
+@Slf4j
+@Component
+public class FlightRecorderService implements FlightRecorderListener {
+
+    private static final String CONTINUOUS_NAME = "proxy-continuous";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${proxy.jfr.continuous:true}")
+    private boolean continuousEnabled;
+
+    @Value("${proxy.jfr.settings:classpath:jfr/proxy.jfc}")
+    private String settingsLocation;
+
+    @Value("${proxy.jfr.max-age:30m}")
+    private Duration maxAge;
+
+    @Value("${proxy.jfr.max-size:256MB}")
+    private DataSize maxSize;
+
+    @Value("${proxy.jfr.dump-dir:build/jfr}")
+    private String dumpDir;
+
+    @Value("${proxy.jfr.max-duration:10m}")
+    private Duration maxDuration;
+
+    /** dump-dir 에 보관할 최대 파일 수 (오래된 파일부터 삭제) */
+    @Value("${proxy.jfr.max-files:20}")
+    private int maxFiles;
+
+    private Configuration configuration;
+    private volatile Recording continuous;
+
+    /** 진행 중인 기간 지정 기록 (recording id → 정보) */
+    private final Map<Long, TimedRecording> timedRecordings = new ConcurrentHashMap<>();
+
+    /**
+     * 기간 지정 기록
+     *
+     * @param file 기록 종료 후 저장 경로
+     */
+    public record TimedRecording(long id, String file, LocalDateTime startedAt, Duration duration) {
+
+    }
+
+    public FlightRecorderService(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!FlightRecorder.isAvailable()) {
+            log.info("Flight Recorder is not available on this JVM, JFR recordings disabled");
+            return;
+        }
+
+        FlightRecorder.addListener(this);
+
+        if (continuousEnabled) {
+            Recording recording = new Recording(configuration());
+            recording.setName(CONTINUOUS_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAge);
+            recording.setMaxSize(maxSize.toBytes());
+            recording.start();
+            continuous = recording;
+
+            log.info("Continuous JFR recording started (settings={}, maxAge={}, maxSize={})",
+                settingsLocation, maxAge, maxSize);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!FlightRecorder.isAvailable()) {
+            return;
+        }
+
+        FlightRecorder.removeListener(this);
+
+        Recording recording = continuous;
+        if (recording != null) {
+            continuous = null;
+            recording.close();
+        }
+    }
+
+    /**
+     * 상시 기록 덤프, max-age 범위의 직전 기록을 파일로 저장
+     */
+    public Map<String, Object> dumpContinuous() {
+        Recording recording = continuous;
+        if (recording == null) {
+            throw new IllegalArgumentException("Continuous JFR recording is not enabled (proxy.jfr.continuous)");
+        }
+
+        Path file = newFile("continuous");
+        try {
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording", e);
+        }
+        pruneFiles();
+
+        log.info("Continuous JFR recording dumped: {}", file);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("file", file.toString());
+        result.put("size", fileSize(file));
+        result.put("maxAge", maxAge.toString());
+        return result;
+    }
+
+    /**
+     * 기간 지정 기록 시작, 종료 시 dump-dir 에 저장
+     *
+     * @param duration 기록 시간 (최대 proxy.jfr.max-duration)
+     */
+    public synchronized TimedRecording record(Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalArgumentException("Flight Recorder is not available on this JVM");
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("Recording duration must be between 0 and " + maxDuration + ": " + duration);
+        }
+        if (!timedRecordings.isEmpty()) {
+            throw new IllegalArgumentException("A JFR recording is already in progress: "
+                + timedRecordings.keySet().iterator().next());
+        }
+
+        Path file = newFile("timed");
+        Recording recording = new Recording(configuration());
+        recording.setName("proxy-timed");
+        recording.setToDisk(true);
+        recording.setDuration(duration);
+
+        try {
+            recording.setDestination(file);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("Invalid JFR destination: " + file, e);
+        }
+
+        TimedRecording timed = new TimedRecording(recording.getId(), file.toString(), LocalDateTime.now(), duration);
+        timedRecordings.put(recording.getId(), timed);
+        recording.start();
+
+        log.info("Timed JFR recording started: id={}, duration={}, file={}", recording.getId(), duration, file);
+        return timed;
+    }
+
+    /**
+     * 기간 지정 기록이 끝나면 (파일 저장 후) 자원 해제
+     */
+    @Override
+    public void recordingStateChanged(Recording recording) {
+        if (recording.getState() == RecordingState.STOPPED && timedRecordings.remove(recording.getId()) != null) {
+            log.info("Timed JFR recording finished: id={}, file={}", recording.getId(), recording.getDestination());
+            recording.close();
+            pruneFiles();
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("available", FlightRecorder.isAvailable());
+        status.put("settings", settingsLocation);
+        status.put("dumpDir", dumpDir);
+        status.put("maxDuration", maxDuration.toString());
+
+        Recording recording = continuous;
+        Map<String, Object> continuousStatus = new HashMap<>();
+        continuousStatus.put("enabled", recording != null);
+        if (recording != null) {
+            continuousStatus.put("state", recording.getState().name());
+            continuousStatus.put("maxAge", maxAge.toString());
+            continuousStatus.put("maxSize", maxSize.toString());
+            continuousStatus.put("startTime", recording.getStartTime());
+        }
+        status.put("continuous", continuousStatus);
+        status.put("recordings", new ArrayList<>(timedRecordings.values()));
+        status.put("files", listFiles());
+        return status;
+    }
+
+    private synchronized Configuration configuration() {
+        if (configuration == null) {
+            Resource resource = resourceLoader.getResource(settingsLocation);
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                configuration = Configuration.create(reader);
+            } catch (IOException | ParseException e) {
+                throw new IllegalStateException("Failed to load JFR settings: " + settingsLocation, e);
+            }
+        }
+        return configuration;
+    }
+
+    private Path newFile(String kind) {
+        Path dir = Path.of(dumpDir);
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create JFR dump directory: " + dir, e);
+        }
+        return dir.resolve("proxy-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "-" + kind + ".jfr").toAbsolutePath();
+    }
+
+    private List<Path> jfrFiles() {
+        Path dir = Path.of(dumpDir);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(".jfr"))
+                .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list JFR dump directory: {}", dir, e);
+            return List.of();
+        }
+    }
+
+    private List<Map<String, Object>> listFiles() {
+        List<Map<String, Object>> files = new ArrayList<>();
+        for (Path file : jfrFiles()) {
+            Map<String, Object> info = new HashMap<>();
+            info.put("file", file.toAbsolutePath().toString());
+            info.put("size", fileSize(file));
+            files.add(info);
+        }
+        return files;
+    }
+
+    /**
+     * 보관 파일 수 초과 시 오래된 파일 삭제
+     */
+    private synchronized void pruneFiles() {
+        List<Path> files = jfrFiles();
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+                log.debug("Deleted old JFR dump: {}", files.get(i));
+            } catch (IOException e) {
+                log.warn("Failed to delete old JFR dump: {}", files.get(i), e);
+            }
+        }
+    }
+
+    private long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
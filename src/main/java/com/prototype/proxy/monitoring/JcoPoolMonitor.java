@@ -0,0 +1,197 @@
+package com.prototype.proxy.monitoring;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.monitor.JCoDestinationMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JCo 연결 풀 현황 수집<br/>destination 별 풀 사용량, 대기 스레드, 풀 연결 수 순증가 및 연결 오류를 주기적으로 수집하여 지표와 이력(고정 크기 ring buffer)으로 제공
+ * <p>
+ * JCo 는 연결 생성 누적값을 제공하지 않으므로 직전 수집 대비 풀 연결 수 순증가(pooledGrowth)만 기록한다.
+ * 수집 간격 사이에 닫히고 다시 생성된 연결은 포함되지 않으므로 연결 생성 수로 해석하지 않는다.
+ * 연결 획득 대기 시간은 JCo 가 execute 안에서 연결을 얻어 따로 측정할 수 없으므로 대기 스레드 수만 기록한다.
+ */
+@Slf4j
+@Component
+public class JcoPoolMonitor {
+
+    private final List<JCoDestination> destinations;
+    private final MeterRegistry meterRegistry;
+
+    private final PoolSample[] history;
+    private int historyIndex;
+    private long historyCount;
+
+    private final Map<String, DestinationState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 수집 시점의 destination 풀 상태
+     *
+     * @param pooledGrowth 직전 수집 대비 풀 연결 수 순증가 (감소는 0, 연결 생성 수 아님)
+     * @param errors       직전 수집 이후 연결 오류 수
+     */
+    public record PoolSample(
+        LocalDateTime timestamp,
+        String destination,
+        int poolCapacity,
+        int peakLimit,
+        int pooled,
+        int used,
+        int maxUsed,
+        int waitingThreads,
+        long pooledGrowth,
+        long errors
+    ) {
+
+    }
+
+    public JcoPoolMonitor(List<JCoDestination> destinations, MeterRegistry meterRegistry,
+        @Value("${sap.jco.monitor.history-size:720}") int historySize) {
+        this.destinations = destinations;
+        this.meterRegistry = meterRegistry;
+        this.history = new PoolSample[historySize];
+    }
+
+    @PostConstruct
+    public void init() {
+        for (JCoDestination destination : destinations) {
+            state(destination.getDestinationName());
+        }
+        sample();
+    }
+
+    /**
+     * 연결 오류 기록 (통신 오류, 연결 풀 부족 등)
+     */
+    public void recordConnectionError(String destinationName) {
+        DestinationState state = state(destinationName);
+        state.errors.increment();
+        state.errorCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${sap.jco.monitor.interval:5000}")
+    public void sample() {
+        for (JCoDestination destination : destinations) {
+            try {
+                DestinationState state = state(destination.getDestinationName());
+                JCoDestinationMonitor monitor = destination.getMonitor();
+
+                int pooled = monitor.getPooledConnectionCount();
+                long pooledGrowth = Math.max(0, pooled - state.lastPooled);
+                state.lastPooled = pooled;
+                state.growthCounter.increment(pooledGrowth);
+
+                PoolSample sample = new PoolSample(
+                    LocalDateTime.now(),
+                    destination.getDestinationName(),
+                    monitor.getPoolCapacity(),
+                    monitor.getPeakLimit(),
+                    pooled,
+                    monitor.getUsedConnectionCount(),
+                    monitor.getMaxUsedCount(),
+                    monitor.getWaitingThreadCount(),
+                    pooledGrowth,
+                    state.errors.sumThenReset()
+                );
+
+                state.latest = sample;
+                append(sample);
+            } catch (Exception e) {
+                log.warn("Failed to sample JCo destination {}", destination.getDestinationName(), e);
+            }
+        }
+    }
+
+    public Map<String, Object> getCurrent() {
+        List<PoolSample> current = new ArrayList<>();
+        states.values().forEach(state -> {
+            if (state.latest != null) {
+                current.add(state.latest);
+            }
+        });
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("destinations", current);
+        data.put("historySize", history.length);
+        return data;
+    }
+
+    /**
+     * 최근 이력 (오래된 순)
+     *
+     * @param destination destination 이름, null 이면 전체
+     */
+    public synchronized List<PoolSample> getHistory(String destination, int limit) {
+        int size = (int) Math.min(historyCount, history.length);
+        List<PoolSample> samples = new ArrayList<>();
+
+        for (int i = 1; i <= size && samples.size() < limit; i++) {
+            PoolSample sample = history[Math.floorMod(historyIndex - i, history.length)];
+            if (destination == null || destination.equalsIgnoreCase(sample.destination())) {
+                samples.add(sample);
+            }
+        }
+
+        Collections.reverse(samples);
+        return samples;
+    }
+
+    private synchronized void append(PoolSample sample) {
+        history[historyIndex] = sample;
+        historyIndex = (historyIndex + 1) % history.length;
+        historyCount++;
+    }
+
+    private DestinationState state(String destinationName) {
+        return states.computeIfAbsent(destinationName, name -> new DestinationState(name, meterRegistry));
+    }
+
+    private static final class DestinationState {
+
+        private volatile PoolSample latest;
+        private int lastPooled;
+        private final LongAdder errors = new LongAdder();
+        private final Counter errorCounter;
+        private final Counter growthCounter;
+
+        private DestinationState(String destination, MeterRegistry meterRegistry) {
+            gauge(meterRegistry, "sap.jco.pool.capacity", destination, PoolSample::poolCapacity);
+            gauge(meterRegistry, "sap.jco.pool.peak.limit", destination, PoolSample::peakLimit);
+            gauge(meterRegistry, "sap.jco.pool.pooled", destination, PoolSample::pooled);
+            gauge(meterRegistry, "sap.jco.pool.used", destination, PoolSample::used);
+            gauge(meterRegistry, "sap.jco.pool.max.used", destination, PoolSample::maxUsed);
+            gauge(meterRegistry, "sap.jco.pool.waiting.threads", destination, PoolSample::waitingThreads);
+
+            errorCounter = Counter.builder("sap.jco.connection.errors")
+                .tag("destination", destination)
+                .register(meterRegistry);
+            growthCounter = Counter.builder("sap.jco.pool.growth")
+                .description("Net increase of pooled connections between samples, not a connection creation count")
+                .tag("destination", destination)
+                .register(meterRegistry);
+        }
+
+        private void gauge(MeterRegistry meterRegistry, String name, String destination,
+            ToDoubleFunction<PoolSample> value) {
+            Gauge.builder(name, this, state -> (state.latest != null) ? value.applyAsDouble(state.latest) : Double.NaN)
+                .tag("destination", destination)
+                .register(meterRegistry);
+        }
+    }
+}
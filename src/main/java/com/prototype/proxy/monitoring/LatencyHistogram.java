@@ -0,0 +1,105 @@
+package com.prototype.proxy.monitoring;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 구간(ms) 지연 시간 히스토그램<br/>요청 경로에서는 lock 없이 구간 카운트만 증가시키며, 구간이 고정되어 있어 서로 합산(merge) 가능
+ */
+public class LatencyHistogram {
+
+    /**
+     * 구간 상한(ms), 마지막 구간은 상한 없음
+     */
+    public static final long[] BOUNDS_MS = {
+        1, 2, 3, 5, 7, 10, 15, 20, 30, 50, 70, 100, 150, 200, 300, 500, 700,
+        1_000, 1_500, 2_000, 3_000, 5_000, 7_000, 10_000, 15_000, 20_000, 30_000, 60_000
+    };
+
+    public static final int BUCKET_COUNT = BOUNDS_MS.length + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    public void record(long latencyMs) {
+        counts.incrementAndGet(indexOf(latencyMs));
+    }
+
+    /**
+     * 현재까지의 구간 카운트를 반환하고 0 으로 초기화
+     */
+    public long[] snapshotAndReset() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.getAndSet(i, 0);
+        }
+        return snapshot;
+    }
+
+    public static int indexOf(long latencyMs) {
+        int index = Arrays.binarySearch(BOUNDS_MS, latencyMs);
+        return (index >= 0) ? index : -index - 1;
+    }
+
+    /**
+     * 구간 카운트로부터 백분위 지연 시간 추정 (해당 구간의 상한 값)
+     *
+     * @param counts     구간 카운트
+     * @param percentile 0 ~ 1
+     * @return 추정 지연 시간(ms), 데이터가 없으면 null
+     */
+    public static Long percentile(long[] counts, double percentile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return (i < BOUNDS_MS.length) ? BOUNDS_MS[i] : BOUNDS_MS[BOUNDS_MS.length - 1];
+            }
+        }
+
+        return BOUNDS_MS[BOUNDS_MS.length - 1];
+    }
+
+    public static void merge(long[] target, long[] source) {
+        for (int i = 0; i < target.length && i < source.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    /**
+     * 구간 카운트 직렬화 (쉼표 구분)
+     */
+    public static String encode(long[] counts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < counts.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(counts[i]);
+        }
+        return sb.toString();
+    }
+
+    public static long[] decode(String encoded) {
+        long[] counts = new long[BUCKET_COUNT];
+        if (encoded == null || encoded.isEmpty()) {
+            return counts;
+        }
+
+        String[] values = encoded.split(",");
+        for (int i = 0; i < values.length && i < BUCKET_COUNT; i++) {
+            counts[i] = Long.parseLong(values[i]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,141 @@
+package com.prototype.proxy.monitoring;
+
+import com.prototype.proxy.exception.SubscriberLimitExceededException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 현황 SSE 피드<br/>1초마다 {@link LiveMetrics} 스냅샷을 생성하여 구독자별 bounded 버퍼에 적재하고, 느린 구독자는 오래된 스냅샷부터 버림
+ */
+@Slf4j
+@Service
+public class LiveFeedService {
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final LiveMetrics liveMetrics;
+    private final Executor sendExecutor;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    /** 예약된 구독 자리 수, 한도 확인과 예약을 한 번의 CAS 로 처리 */
+    private final AtomicInteger slots = new AtomicInteger();
+
+    @Value("${statistics.live.subscriber-buffer-size:5}")
+    private int bufferSize;
+
+    @Value("${statistics.live.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${statistics.live.emitter-timeout:30m}")
+    private Duration emitterTimeout;
+
+    public LiveFeedService(LiveMetrics liveMetrics, @Qualifier("liveFeedExecutor") Executor sendExecutor) {
+        this.liveMetrics = liveMetrics;
+        this.sendExecutor = sendExecutor;
+    }
+
+    public SseEmitter subscribe() {
+        int reserved;
+        do {
+            reserved = slots.get();
+            if (reserved >= maxSubscribers) {
+                // 구독자 수는 서버 전체 한도이므로 클라이언트 오류가 아닌 503 으로 응답, 재연결은 갱신 주기 이후
+                throw new SubscriberLimitExceededException(maxSubscribers, RETRY_AFTER_SECONDS,
+                    "Too many live feed subscribers: " + reserved);
+            }
+        } while (!slots.compareAndSet(reserved, reserved + 1));
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+
+        // 예약한 자리는 종료, 시간 초과, 오류 중 먼저 발생한 시점에 반환
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        log.debug("Live feed subscribed. subscribers={}", subscribers.size());
+
+        return emitter;
+    }
+
+    /**
+     * 구독 해제 및 자리 반환 (종료 콜백이 여러 번 호출되어도 한 번만 반환)
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            slots.decrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${statistics.live.interval:1000}")
+    public void publish() {
+        // 구독자가 없어도 1분 윈도우 갱신을 위해 tick 수행
+        LiveSnapshot snapshot = liveMetrics.tick();
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(snapshot);
+            if (subscriber.sending.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(() -> drain(subscriber));
+                } catch (RejectedExecutionException e) {
+                    subscriber.sending.set(false);
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> getFeedStats() {
+        long dropped = subscribers.stream().mapToLong(s -> s.dropped.get()).sum();
+        return Map.of("subscribers", subscribers.size(), "droppedSnapshots", dropped);
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            LiveSnapshot snapshot;
+            while ((snapshot = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event().name("stats").data(snapshot));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live feed subscriber disconnected: {}", e.getMessage());
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private record Subscriber(
+        SseEmitter emitter,
+        BlockingQueue<LiveSnapshot> buffer,
+        AtomicBoolean sending,
+        AtomicLong dropped
+    ) {
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<LiveSnapshot> buffer) {
+            this(emitter, buffer, new AtomicBoolean(), new AtomicLong());
+        }
+
+        private void offer(LiveSnapshot snapshot) {
+            while (!buffer.offer(snapshot)) {
+                if (buffer.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+    }
+}
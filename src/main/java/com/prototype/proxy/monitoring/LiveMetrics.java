@@ -0,0 +1,134 @@
+package com.prototype.proxy.monitoring;
+
+import com.prototype.proxy.monitoring.LiveSnapshot.ErrorEvent;
+import com.prototype.proxy.monitoring.LiveSnapshot.InterfaceLive;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 실시간 실행 현황 집계<br/>요청 경로에서는 카운터 증가와 non-blocking 큐 적재만 수행하며, 집계는 {@link #tick()} 에서 수행
+ */
+@Component
+public class LiveMetrics {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final Map<String, InterfaceCounters> counters = new ConcurrentHashMap<>();
+    private final BlockingQueue<ErrorEvent> errorEvents;
+    private final AtomicLong droppedErrors = new AtomicLong();
+
+    public LiveMetrics(@Value("${statistics.live.error-buffer-size:1000}") int errorBufferSize) {
+        this.errorEvents = new ArrayBlockingQueue<>(errorBufferSize);
+    }
+
+    /**
+     * 실행 결과 기록 (요청 경로에서 호출)
+     */
+    public void record(String interfaceId, String sapModule, boolean success, long executionTimeMs) {
+        InterfaceCounters counter = counters.computeIfAbsent(
+            interfaceId.toUpperCase(), InterfaceCounters::new);
+
+        if (sapModule != null) {
+            counter.sapModule = sapModule;
+        }
+
+        counter.total.increment();
+        counter.interval.increment();
+        (success ? counter.success : counter.fail).increment();
+        counter.latency.record(executionTimeMs);
+    }
+
+    /**
+     * 에러 이벤트 기록, 버퍼가 가득 찬 경우 대기하지 않고 버림
+     */
+    public void recordError(String requestId, String interfaceId, String message) {
+        ErrorEvent event = new ErrorEvent(requestId, interfaceId, message, LocalDateTime.now());
+        if (!errorEvents.offer(event)) {
+            droppedErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * 직전 tick 이후의 변경분을 병합하여 스냅샷 생성 (단일 스레드에서 주기적으로 호출)
+     */
+    public LiveSnapshot tick() {
+        List<InterfaceLive> interfaces = new ArrayList<>();
+
+        for (InterfaceCounters counter : counters.values()) {
+            long[] window = counter.advanceWindow();
+
+            interfaces.add(new InterfaceLive(
+                counter.interfaceId,
+                counter.sapModule,
+                counter.total.sum(),
+                counter.success.sum(),
+                counter.fail.sum(),
+                counter.interval.sumThenReset(),
+                LatencyHistogram.percentile(window, 0.50),
+                LatencyHistogram.percentile(window, 0.95),
+                LatencyHistogram.percentile(window, 0.99)
+            ));
+        }
+
+        interfaces.sort(Comparator.comparing(InterfaceLive::interfaceId));
+
+        List<ErrorEvent> errors = new ArrayList<>();
+        errorEvents.drainTo(errors);
+
+        return new LiveSnapshot(LocalDateTime.now(), interfaces, errors, droppedErrors.get());
+    }
+
+    /**
+     * 인터페이스별 최근 1분 지연 시간 구간 카운트
+     */
+    public long[] getRecentLatency(String interfaceId) {
+        InterfaceCounters counter = counters.get(interfaceId.toUpperCase());
+        return (counter != null) ? counter.windowSum.clone() : new long[LatencyHistogram.BUCKET_COUNT];
+    }
+
+    private static class InterfaceCounters {
+
+        private final String interfaceId;
+        private volatile String sapModule;
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder success = new LongAdder();
+        private final LongAdder fail = new LongAdder();
+        private final LongAdder interval = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        // tick 스레드에서만 변경
+        private final long[][] window = new long[WINDOW_SECONDS][];
+        private int windowIndex;
+        private volatile long[] windowSum = new long[LatencyHistogram.BUCKET_COUNT];
+
+        private InterfaceCounters(String interfaceId) {
+            this.interfaceId = interfaceId;
+        }
+
+        private long[] advanceWindow() {
+            window[windowIndex] = latency.snapshotAndReset();
+            windowIndex = (windowIndex + 1) % WINDOW_SECONDS;
+
+            long[] sum = new long[LatencyHistogram.BUCKET_COUNT];
+            for (long[] slot : window) {
+                if (slot != null) {
+                    LatencyHistogram.merge(sum, slot);
+                }
+            }
+
+            windowSum = sum;
+            return sum;
+        }
+    }
+}
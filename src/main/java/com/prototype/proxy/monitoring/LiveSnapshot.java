@@ -0,0 +1,41 @@
+package com.prototype.proxy.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실시간 피드 전송 단위 (1초 단위로 병합된 상태)
+ */
+public record LiveSnapshot(
+    LocalDateTime timestamp,
+    List<InterfaceLive> interfaces,
+    List<ErrorEvent> errors,
+    long droppedErrors
+) {
+
+    /**
+     * 인터페이스별 실시간 현황<br/>누적 건수는 서버 기동 이후 기준, 지연 시간 백분위는 최근 1분 기준
+     */
+    public record InterfaceLive(
+        String interfaceId,
+        String sapModule,
+        long totalCount,
+        long successCount,
+        long failCount,
+        long lastSecondCount,
+        Long p50Ms,
+        Long p95Ms,
+        Long p99Ms
+    ) {
+
+    }
+
+    public record ErrorEvent(
+        String requestId,
+        String interfaceId,
+        String message,
+        LocalDateTime timestamp
+    ) {
+
+    }
+}
@@ -0,0 +1,130 @@
+package com.prototype.proxy.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder 이벤트<br/>요청 처리 단계를 GC, 락 경합 등 JVM 이벤트와 같은 타임라인에서 확인하기 위한 이벤트
+ * <p>
+ * 기록 여부와 임계값은 JFR 설정(jfr/proxy.jfc)으로 지정하며, 기록 중이 아니면 commit 은 비용 없이 반환된다.
+ */
+public final class ProxyFlightEvents {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_BUSINESS_ERROR = "business_error";
+    public static final String OUTCOME_ERROR = "error";
+
+    private ProxyFlightEvents() {
+    }
+
+    @Name("com.prototype.proxy.Request")
+    @Label("Proxy Request")
+    @Category({"Interface Proxy"})
+    @Description("Proxy 실행 요청 전체 (호출자 제한 ~ 응답 생성)")
+    @StackTrace(false)
+    public static class Request extends Event {
+
+        @Label("Interface ID")
+        public String interfaceId;
+
+        @Label("RFC Function")
+        public String rfcFunction;
+
+        @Label("Request Bytes")
+        @DataAmount
+        public long requestBytes;
+
+        @Label("Response Bytes")
+        @Description("직렬화된 응답 본문 크기")
+        @DataAmount
+        public long responseBytes;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("com.prototype.proxy.Mapping")
+    @Label("Mapping")
+    @Category({"Interface Proxy"})
+    @Description("요청 바인딩 또는 응답 매핑")
+    @StackTrace(false)
+    public static class Mapping extends Event {
+
+        @Label("Interface ID")
+        public String interfaceId;
+
+        @Label("Direction")
+        @Description("request 또는 response")
+        public String direction;
+
+        @Label("Rows")
+        public long rows;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("com.prototype.proxy.RfcExecute")
+    @Label("RFC Execute")
+    @Category({"Interface Proxy", "SAP"})
+    @Description("RFC 호출 (연결 풀 대기, 중복 요청 포함)")
+    @StackTrace(false)
+    public static class RfcExecute extends Event {
+
+        @Label("Interface ID")
+        public String interfaceId;
+
+        @Label("RFC Function")
+        public String rfcFunction;
+
+        @Label("Request Rows")
+        public long rows;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("com.prototype.proxy.RfcExtract")
+    @Label("RFC Extraction")
+    @Category({"Interface Proxy", "SAP"})
+    @Description("Export 파라미터, Return Table 추출")
+    @StackTrace(false)
+    public static class RfcExtract extends Event {
+
+        @Label("Interface ID")
+        public String interfaceId;
+
+        @Label("RFC Function")
+        public String rfcFunction;
+
+        @Label("Rows")
+        public long rows;
+    }
+
+    @Name("com.prototype.proxy.LogFlush")
+    @Label("Log Flush")
+    @Category({"Interface Proxy"})
+    @Description("실행 로그 저장 (트랜잭션 커밋 제외)")
+    @StackTrace(false)
+    public static class LogFlush extends Event {
+
+        @Label("Interface ID")
+        public String interfaceId;
+
+        @Label("Kind")
+        @Description("request, response, error")
+        public String kind;
+
+        @Label("Size")
+        @Description("저장한 요청/응답 JSON 길이 (문자 수)")
+        public long size;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+}
@@ -0,0 +1,159 @@
+package com.prototype.proxy.monitoring;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.registry.InterfaceRegistryChangedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 처리 단계별 Micrometer 지표<br/>요청 매핑, RFC 준비, SAP 호출(연결 대기 포함), 결과 추출, 응답 매핑, 로그 저장 시간과 행 수, 요청/응답 크기 기록
+ * <p>
+ * interface 태그는 등록된 인터페이스 ID 만 사용하고 max-interfaces 를 넘으면 "other" 로 묶어 태그 조합 수를 제한한다.
+ * 태그 캐시는 대문자 ID 기준이며 정의가 변경/삭제되면 해당 ID 를 다시 조회한다.
+ * Meter 는 태그 조합별로 한 번만 조회하여 보관하므로 요청 경로에서는 기록만 수행한다.
+ */
+@Component
+public class ProxyMetrics {
+
+    public static final String PHASE_REQUEST_MAPPING = "request_mapping";
+    public static final String PHASE_RFC_PREPARE = "rfc_prepare";
+    public static final String PHASE_RFC_CALL = "rfc_call";
+    public static final String PHASE_RFC_EXTRACT = "rfc_extract";
+    public static final String PHASE_RESPONSE_MAPPING = "response_mapping";
+    public static final String PHASE_LOGGING_SYNC = "logging_sync";
+    public static final String PHASE_LOGGING_ASYNC = "logging_async";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_BUSINESS_ERROR = "business_error";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static final String UNKNOWN = "unknown";
+    private static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final InterfaceRegistry registry;
+    private final int maxInterfaces;
+
+    private final Map<String, String[]> interfaceTags = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public ProxyMetrics(MeterRegistry meterRegistry, InterfaceRegistry registry,
+        @Value("${proxy.metrics.max-interfaces:500}") int maxInterfaces) {
+        this.meterRegistry = meterRegistry;
+        this.registry = registry;
+        this.maxInterfaces = maxInterfaces;
+    }
+
+    /**
+     * 요청 전체 처리 시간 (백분위 히스토그램 포함)
+     */
+    public void recordRequest(String interfaceId, String outcome, long durationMs) {
+        String[] tags = tagsOf(interfaceId);
+
+        timers.computeIfAbsent("request|" + tags[0] + "|" + tags[1] + "|" + outcome, ignored -> Timer.builder("proxy.request")
+                .description("Proxy request processing time")
+                .tags("interface", tags[0], "module", tags[1], "outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(meterRegistry))
+            .record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 단계별 처리 시간
+     *
+     * @param startNanos System.nanoTime() 기준 시작 시각
+     */
+    public void recordPhase(String phase, String interfaceId, boolean success, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        String[] tags = tagsOf(interfaceId);
+        String outcome = success ? OUTCOME_SUCCESS : OUTCOME_ERROR;
+
+        timers.computeIfAbsent(phase + "|" + tags[0] + "|" + tags[1] + "|" + outcome, ignored -> Timer.builder("proxy.phase")
+                .description("Proxy request pipeline phase time")
+                .tags("phase", phase, "interface", tags[0], "module", tags[1], "outcome", outcome)
+                .register(meterRegistry))
+            .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 테이블 행 수
+     *
+     * @param direction request (SAP 로 전송) 또는 response (SAP 에서 수신)
+     */
+    public void recordRows(String interfaceId, String direction, long rows) {
+        summary("proxy.rows", "rows", "Table rows per request", interfaceId, direction).record(rows);
+    }
+
+    /**
+     * 요청 / 응답 본문 크기
+     *
+     * @param direction request (수신 본문) 또는 response (직렬화된 응답 본문)
+     */
+    public void recordBytes(String interfaceId, String direction, long bytes) {
+        summary("proxy.payload", "bytes", "Payload size per request", interfaceId, direction).record(bytes);
+    }
+
+    private DistributionSummary summary(String name, String unit, String description, String interfaceId,
+        String direction) {
+        String[] tags = tagsOf(interfaceId);
+
+        return summaries.computeIfAbsent(name + "|" + tags[0] + "|" + tags[1] + "|" + direction, ignored ->
+            DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tags("interface", tags[0], "module", tags[1], "direction", direction)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 변경/삭제된 인터페이스의 태그 캐시 제거 (모듈 변경 반영, 삭제된 ID 의 자리 반환)
+     */
+    @EventListener
+    public void onRegistryChanged(InterfaceRegistryChangedEvent event) {
+        if (event.fullReload()) {
+            interfaceTags.clear();
+            return;
+        }
+
+        event.changedIds().forEach(interfaceTags::remove);
+        event.removedIds().forEach(interfaceTags::remove);
+    }
+
+    /**
+     * 인터페이스 ID → [interface, module] 태그 값
+     */
+    private String[] tagsOf(String interfaceId) {
+        if (interfaceId == null) {
+            return new String[]{UNKNOWN, UNKNOWN};
+        }
+
+        String key = interfaceId.toUpperCase();
+        String[] tags = interfaceTags.get(key);
+        if (tags != null) {
+            return tags;
+        }
+
+        InterfaceDefinition definition = registry.find(key).orElse(null);
+        if (definition == null) {
+            return new String[]{UNKNOWN, UNKNOWN};
+        }
+        if (interfaceTags.size() >= maxInterfaces) {
+            return new String[]{OTHER, OTHER};
+        }
+
+        String module = (definition.getSapModule() != null) ? definition.getSapModule() : UNKNOWN;
+        return interfaceTags.computeIfAbsent(key, ignored -> new String[]{definition.getId(), module});
+    }
+}
@@ -0,0 +1,56 @@
+package com.prototype.proxy.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 처리 단계 trace span 생성<br/>현재 span(수신 traceparent 를 이어받은 HTTP 요청 span)의 하위 span 으로 생성
+ * <p>
+ * 추적이 꺼져 있으면 no-op span 을 사용하므로 호출부는 추적 여부를 확인하지 않는다.
+ */
+@Component
+public class ProxyTracing {
+
+    public static final String SPAN_EXECUTE = "proxy.execute";
+    public static final String SPAN_REQUEST_MAPPING = "proxy.request-mapping";
+    public static final String SPAN_RESPONSE_MAPPING = "proxy.response-mapping";
+    public static final String SPAN_RFC_PREPARE = "sap.rfc.prepare";
+    public static final String SPAN_RFC_CALL = "sap.rfc.call";
+    public static final String SPAN_RFC_EXTRACT = "sap.rfc.extract";
+
+    public static final String ATTR_INTERFACE_ID = "proxy.interface.id";
+    public static final String ATTR_RFC_FUNCTION = "sap.rfc.function";
+    public static final String ATTR_ROWS = "proxy.rows";
+    public static final String ATTR_OUTCOME = "proxy.outcome";
+
+    private final Tracer tracer;
+
+    public ProxyTracing(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    /**
+     * span 시작, 호출부에서 end() 필요
+     */
+    public Span start(String name, String interfaceId, String rfcFunction) {
+        Span span = tracer.nextSpan().name(name);
+
+        if (interfaceId != null) {
+            span.tag(ATTR_INTERFACE_ID, interfaceId);
+        }
+        if (rfcFunction != null) {
+            span.tag(ATTR_RFC_FUNCTION, rfcFunction);
+        }
+
+        return span.start();
+    }
+
+    /**
+     * span 을 현재 span 으로 지정 (하위 span 의 부모)
+     */
+    public Tracer.SpanInScope inScope(Span span) {
+        return tracer.withSpan(span);
+    }
+}
@@ -0,0 +1,127 @@
+package com.prototype.proxy.monitoring;
+
+import com.prototype.proxy.context.ExecutionContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 실행 응답 본문 크기 측정 필터<br/>직렬화된 응답(JSON, CBOR, Smile, MessagePack)이 출력 스트림으로 나간 바이트 수를 proxy.payload(direction=response)로 기록
+ * <p>
+ * 본문을 복사하지 않고 쓰기 바이트 수만 센다. 인터페이스 ID 는 컨트롤러가 요청에 남긴 ExecutionContext 에서 읽으며,
+ * 요청 본문을 읽기 전에 거부된 요청(ExecutionContext 없음)은 기록하지 않는다.
+ * <p>
+ * Request JFR 이벤트도 응답 크기를 포함하도록 응답 직렬화가 끝난 뒤 이 필터에서 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseSizeFilter extends OncePerRequestFilter {
+
+    private static final String EXECUTE_PATH = "/api/proxy/execute";
+    private static final String FILTERED = ResponseSizeFilter.class.getName() + ".FILTERED";
+    private static final String PENDING_EVENT = ResponseSizeFilter.class.getName() + ".PENDING_EVENT";
+
+    private final ProxyMetrics proxyMetrics;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !EXECUTE_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        CountingResponse counting = new CountingResponse(response);
+        request.setAttribute(FILTERED, Boolean.TRUE);
+
+        try {
+            filterChain.doFilter(request, counting);
+        } finally {
+            ExecutionContext context = ExecutionContext.find(request);
+            if (context != null) {
+                proxyMetrics.recordBytes(context.getInterfaceId(), "response", counting.bytes);
+            }
+            if (request.getAttribute(PENDING_EVENT) instanceof ProxyFlightEvents.Request event) {
+                event.responseBytes = counting.bytes;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 응답 직렬화 후 Request 이벤트 기록<br/>이 필터를 거치지 않은 호출(요청 스레드 밖 등)은 응답 크기 없이 바로 기록
+     */
+    public static void commitAfterResponse(ProxyFlightEvents.Request event) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || attributes.getAttribute(FILTERED, RequestAttributes.SCOPE_REQUEST) == null) {
+            event.commit();
+            return;
+        }
+
+        attributes.setAttribute(PENDING_EVENT, event, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 출력 스트림 쓰기 바이트 수를 세는 응답 래퍼
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        private ServletOutputStream outputStream;
+        private long bytes;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.prototype.proxy.monitoring;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tail sampling exporter<br/>trace 단위로 span 을 모았다가 로컬 root span 이 끝나면 그 root 아래 span 의 보관 여부를 결정하여 대상 exporter 로 전달
+ * <p>
+ * 판단은 로컬 root(이 프로세스의 요청 하나) 단위로 한다. 호출 측 trace 하나에서 재시도 등으로 요청이 여러 번 들어와도
+ * 앞선 요청의 판단을 이어받지 않는다. 판단이 끝난 root 아래로 늦게 도착한 span 만 같은 결정을 따른다.
+ * 오류 span 이 있거나 root 처리 시간이 기준 이상이면 항상 보관하고, 나머지는 traceId 기준 일정 비율만 보관한다.
+ * 비율 판단은 traceId 로 하므로 exporter 가 여러 개여도 같은 trace 를 보관한다.
+ * root span 이 max-wait 안에 도착하지 않거나 대기 trace 가 max-traces 를 넘으면 도착한 span 만으로 판단한다.
+ */
+@Slf4j
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    /** 판단이 끝난 span(spanId → 보관 여부) 최대 수, 늦게 도착한 하위 span 처리용 */
+    private static final int MAX_DECIDED = 100_000;
+
+    /**
+     * @param latencyThreshold 이 시간 이상 걸린 trace 는 보관
+     * @param baselineRatio    정상 trace 보관 비율 (0 ~ 1)
+     * @param maxTraces        판단 대기 trace 최대 수
+     * @param maxWait          root span 대기 최대 시간
+     */
+    public record Policy(Duration latencyThreshold, double baselineRatio, int maxTraces, Duration maxWait) {
+
+    }
+
+    private final SpanExporter delegate;
+    private final Policy policy;
+
+    private final LinkedHashMap<String, PendingTrace> pending = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Boolean> decided = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_DECIDED;
+        }
+    };
+
+    private final LongAdder keptTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private final LongAdder incompleteTraces = new LongAdder();
+
+    public TailSamplingSpanExporter(SpanExporter delegate, Policy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> export = new ArrayList<>();
+
+        for (SpanData span : spans) {
+            String traceId = span.getTraceId();
+
+            // 판단이 끝난 로컬 root 아래로 늦게 도착한 span
+            Boolean keep = isLocalRoot(span) ? null : decided.get(span.getParentSpanId());
+            if (keep != null) {
+                decided.put(span.getSpanId(), keep);
+                if (keep) {
+                    export.add(span);
+                }
+                continue;
+            }
+
+            PendingTrace trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+            trace.spans.add(span);
+
+            if (isLocalRoot(span)) {
+                List<SpanData> subtree = takeSubtree(trace.spans, span);
+                if (trace.spans.isEmpty()) {
+                    pending.remove(traceId);
+                }
+                decide(traceId, subtree, span, export);
+            }
+        }
+
+        evict(export, false);
+
+        return export.isEmpty() ? CompletableResultCode.ofSuccess() : delegate.export(export);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        List<SpanData> export = new ArrayList<>();
+        synchronized (this) {
+            evict(export, false);
+        }
+        if (!export.isEmpty()) {
+            delegate.export(export);
+        }
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        List<SpanData> export = new ArrayList<>();
+        synchronized (this) {
+            evict(export, true);
+        }
+        if (!export.isEmpty()) {
+            delegate.export(export);
+        }
+
+        log.info("Tail sampling for {} finished: kept={}, dropped={}, incomplete={}",
+            delegate.getClass().getSimpleName(), keptTraces.sum(), droppedTraces.sum(), incompleteTraces.sum());
+        return delegate.shutdown();
+    }
+
+    /**
+     * 대기 시간이 지났거나 대기 수를 넘은 trace 를 도착한 span 만으로 판단
+     */
+    private void evict(List<SpanData> export, boolean all) {
+        long expireBefore = System.nanoTime() - policy.maxWait().toNanos();
+        Iterator<Map.Entry<String, PendingTrace>> iterator = pending.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingTrace> entry = iterator.next();
+            boolean overflow = pending.size() > policy.maxTraces();
+            if (!all && !overflow && entry.getValue().firstSeenNanos - expireBefore > 0) {
+                break;
+            }
+
+            iterator.remove();
+            incompleteTraces.increment();
+            decide(entry.getKey(), entry.getValue().spans, null, export);
+        }
+    }
+
+    private void decide(String traceId, List<SpanData> spans, SpanData root, List<SpanData> export) {
+        boolean keep = spans.stream().anyMatch(span -> span.getStatus().getStatusCode() == StatusCode.ERROR)
+            || (root != null && root.getEndEpochNanos() - root.getStartEpochNanos() >= policy.latencyThreshold().toNanos())
+            || inBaseline(traceId);
+
+        for (SpanData span : spans) {
+            decided.put(span.getSpanId(), keep);
+        }
+
+        if (keep) {
+            keptTraces.increment();
+            export.addAll(spans);
+        } else {
+            droppedTraces.increment();
+        }
+    }
+
+    /**
+     * 대기 중인 span 에서 로컬 root 와 그 하위 span 을 꺼냄 (같은 trace 의 다른 요청 span 은 대기 유지)
+     */
+    private static List<SpanData> takeSubtree(List<SpanData> spans, SpanData root) {
+        Set<String> ids = new HashSet<>();
+        ids.add(root.getSpanId());
+        List<SpanData> subtree = new ArrayList<>();
+
+        boolean found = true;
+        while (found) {
+            found = false;
+            Iterator<SpanData> iterator = spans.iterator();
+            while (iterator.hasNext()) {
+                SpanData span = iterator.next();
+                if (span == root) {
+                    iterator.remove();
+                    subtree.add(span);
+                } else if (!isLocalRoot(span) && ids.contains(span.getParentSpanId())) {
+                    iterator.remove();
+                    subtree.add(span);
+                    ids.add(span.getSpanId());
+                    found = true;
+                }
+            }
+        }
+
+        return subtree;
+    }
+
+    /**
+     * traceId 하위 64bit 를 [0, 1) 로 변환하여 비율 판단
+     */
+    private boolean inBaseline(String traceId) {
+        if (policy.baselineRatio() <= 0) {
+            return false;
+        }
+        if (policy.baselineRatio() >= 1) {
+            return true;
+        }
+
+        long random = Long.parseUnsignedLong(traceId.substring(traceId.length() - 16), 16);
+        return (random >>> 11) * 0x1.0p-53 < policy.baselineRatio();
+    }
+
+    /**
+     * 이 프로세스에서 시작된 최상위 span (부모가 없거나 원격 호출자의 span)
+     */
+    private static boolean isLocalRoot(SpanData span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static final class PendingTrace {
+
+        private final long firstSeenNanos;
+        private final List<SpanData> spans = new ArrayList<>();
+
+        private PendingTrace(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+    }
+}
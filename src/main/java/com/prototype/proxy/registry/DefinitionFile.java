@@ -0,0 +1,12 @@
+package com.prototype.proxy.registry;
+
+/**
+ * 정의 파일 단위 로드 결과
+ *
+ * @param filename   정의 파일명
+ * @param hash       파일 내용 SHA-256 (hex)
+ * @param definition 파싱된 인터페이스 정의
+ */
+record DefinitionFile(String filename, String hash, InterfaceDefinition definition) {
+
+}
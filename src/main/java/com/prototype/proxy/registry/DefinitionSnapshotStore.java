@@ -0,0 +1,137 @@
+package com.prototype.proxy.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파싱된 인터페이스 정의의 바이너리(Smile) 스냅샷 저장소<br/>재시작 시 파일 해시가 같은 정의는 YAML 파싱 없이 스냅샷에서 재사용
+ * <p>
+ * InterfaceDefinition 필드 구성(schema)이 저장 시점과 다르면 스냅샷 전체를 무시하므로, 필드를 추가해도 이전 스냅샷의 누락된 값을 재사용하지 않는다.
+ */
+@Slf4j
+class DefinitionSnapshotStore {
+
+    /** 스냅샷 파일 구조(Content) 변경 시 증가 */
+    private static final int FORMAT_VERSION = 2;
+
+    /** InterfaceDefinition 과 하위 매핑 클래스의 필드 이름/타입으로 만든 값, 필드가 바뀌면 자동으로 달라짐 */
+    static final String SCHEMA = schemaOf(InterfaceDefinition.class);
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final Path file;
+
+    /**
+     * @param file 스냅샷 파일 경로, null 이면 사용 안 함
+     */
+    DefinitionSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 스냅샷 로드, 파일이 없거나 형식이 맞지 않으면 빈 결과 반환
+     *
+     * @return 정의 파일명 → 로드 결과
+     */
+    Map<String, DefinitionFile> load() {
+        Map<String, DefinitionFile> files = new HashMap<>();
+
+        if (file == null || !Files.isRegularFile(file)) {
+            return files;
+        }
+
+        try {
+            Content content = smileMapper.readValue(file.toFile(), Content.class);
+
+            if (content.formatVersion() != FORMAT_VERSION || !SCHEMA.equals(content.schema()) || content.files() == null) {
+                log.info("Ignoring interface definition snapshot with format version {} (schema {})",
+                    content.formatVersion(), content.schema());
+                return files;
+            }
+
+            for (DefinitionFile definitionFile : content.files()) {
+                if (isValid(definitionFile)) {
+                    files.put(definitionFile.filename(), definitionFile);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable interface definition snapshot: {} ({})", file, e.getMessage());
+        }
+
+        return files;
+    }
+
+    void save(Collection<DefinitionFile> files) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+            smileMapper.writeValue(temp.toFile(), new Content(FORMAT_VERSION, SCHEMA, List.copyOf(files)));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write interface definition snapshot: {}", file, e);
+        }
+    }
+
+    private boolean isValid(DefinitionFile definitionFile) {
+        return definitionFile != null
+            && definitionFile.filename() != null
+            && definitionFile.hash() != null
+            && definitionFile.definition() != null
+            && definitionFile.definition().getId() != null;
+    }
+
+    /**
+     * 정의 클래스와 중첩 클래스의 인스턴스 필드 이름/타입 해시
+     */
+    static String schemaOf(Class<?> type) {
+        StringBuilder schema = new StringBuilder();
+        appendFields("", type, schema);
+
+        Class<?>[] nested = type.getDeclaredClasses();
+        Arrays.sort(nested, Comparator.comparing(Class::getName));
+        for (Class<?> nestedType : nested) {
+            appendFields(nestedType.getSimpleName(), nestedType, schema);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(schema.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendFields(String name, Class<?> type, StringBuilder schema) {
+        schema.append(name).append('{');
+        Arrays.stream(type.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .sorted(Comparator.comparing(Field::getName))
+            .forEach(field -> schema.append(field.getName()).append(':').append(field.getGenericType().getTypeName()).append(';'));
+        schema.append('}');
+    }
+
+    private record Content(int formatVersion, String schema, List<DefinitionFile> files) {
+
+    }
+}
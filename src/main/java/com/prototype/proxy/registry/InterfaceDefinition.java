@@ -1,7 +1,11 @@
 package com.prototype.proxy.registry;
 
 import lombok.Data;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
@@ -16,11 +20,40 @@ public class InterfaceDefinition {
     private String sapModule;
     private String rfcFunction;
     private Boolean executable;
+    /** 처리 기한 (예: 10s, 1500ms), 없으면 proxy.deadline.default-timeout 적용 */
+    private String timeout;
+    /** 조회 전용 여부 (중복 실행해도 안전한 경우만 true), true 이면 응답 지연 시 중복 요청(hedging) 대상 */
+    private Boolean readOnly;
 
     private List<ImportMapping> importMapping;
     private List<TableMapping> tableMapping;
     private List<ExportMapping> exportMapping;
     private List<ReturnTableMapping> returnTableMapping;
+    private List<BusinessKey> businessKeys;
+
+    /**
+     * 처리 기한 문자열 해석 ("10s", "1500ms", 단위가 없으면 ms)
+     *
+     * @return 처리 기한, 값이 없으면 null
+     * @throws IllegalArgumentException 형식이 잘못되었거나 0 이하인 경우
+     */
+    public static Duration parseTimeout(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        Duration timeout;
+        try {
+            timeout = DurationStyle.detectAndParse(value.trim(), ChronoUnit.MILLIS);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid timeout: " + value);
+        }
+
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Invalid timeout: " + value);
+        }
+        return timeout;
+    }
 
     @Data
     public static class FieldMapping {
@@ -76,4 +109,16 @@ public class InterfaceDefinition {
         private String sapReturnTable;
         private List<FieldMapping> fields;
     }
+
+    /**
+     * 실행 로그 조회용 업무 키 (자재번호, 문서번호 등)<br/>path 는 점(.) 구분 경로이며 목록은 모든 행을 대상으로 추출
+     * (예: request - movements.matnr, response - ET_RETURN.MBLNR 또는 results.mblnr)
+     */
+    @Data
+    public static class BusinessKey {
+
+        private String name;
+        private String source;
+        private String path;
+    }
 }
@@ -1,99 +1,424 @@
 package com.prototype.proxy.registry;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.prototype.proxy.exception.NotFoundException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 인터페이스 정의 관리 Registry <br/>애플리케이션 시작 시 YAML 파일들을 로드하여 메모리에 보관
+ * <p>
+ * 조회는 불변 스냅샷을 lock 없이 읽고, 재로드 시 새 스냅샷을 만들어 한 번에 교체한다.
+ * 정의 디렉토리가 파일 시스템 경로인 경우 변경된 파일만 감지하여 부분 재로드한다.
+ * 파싱 결과는 파일 해시와 함께 바이너리 스냅샷으로 저장하여 재시작 시 변경되지 않은 파일의 파싱을 생략한다.
  */
 
 @Slf4j
 @Component
 public class InterfaceRegistry {
 
+    private static final String EXTENSION = ".yml";
+
     @Value("${interface.definition-path:classpath:interfaces/}")
     private String definitionPath;
-    private final Map<String, InterfaceDefinition> registry = new HashMap<>();
+
+    @Value("${interface.watch.enabled:true}")
+    private boolean watchEnabled;
+
+    @Value("${interface.watch.debounce:500ms}")
+    private Duration watchDebounce;
+
+    @Value("${interface.snapshot-file:}")
+    private String snapshotFile;
+
     private final YAMLMapper yamlMapper = new YAMLMapper();
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private DefinitionSnapshotStore snapshotStore;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public InterfaceRegistry(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
 
     @PostConstruct
-    public void loadDefinitions() {
+    public void init() {
+        snapshotStore = new DefinitionSnapshotStore(
+            (snapshotFile == null || snapshotFile.isBlank()) ? null : Path.of(snapshotFile));
+        loadDefinitions();
+        startWatching();
+    }
+
+    public synchronized void loadDefinitions() {
         log.info("Loading interface definitions from: {}", definitionPath);
 
         try {
+            long startTime = System.nanoTime();
+
             PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-            String pattern = definitionPath + "*.yml";
+            String pattern = definitionPath + "*" + EXTENSION;
             Resource[] resources = resolver.getResources(pattern);
 
             log.info("Found {} interface definition files", resources.length);
+            long discoveredTime = System.nanoTime();
+
+            Map<String, DefinitionFile> cached = snapshotStore.load();
+            long snapshotLoadedTime = System.nanoTime();
+
+            // 파일 단위 병렬 파싱, 해시가 같은 파일은 스냅샷 재사용, 파싱에 실패한 파일은 이전 정의 유지
+            Snapshot loaded = snapshot;
+            AtomicInteger reused = new AtomicInteger();
+            List<DefinitionFile> files = Arrays.stream(resources)
+                .parallel()
+                .map(resource -> {
+                    DefinitionFile file = readDefinition(resource, cached, reused);
+                    return (file != null) ? file : keepPrevious(loaded, resource.getFilename());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+            long parsedTime = System.nanoTime();
 
-            for (Resource resource : resources) {
-                loadDefinition(resource);
+            Map<String, InterfaceDefinition> definitions = new HashMap<>();
+            Map<String, String> sources = new HashMap<>();
+            Map<String, DefinitionFile> fileMap = new HashMap<>();
+
+            for (DefinitionFile file : files) {
+                String id = file.definition().getId().toUpperCase();
+                definitions.put(id, file.definition());
+                sources.put(id, file.filename());
+                fileMap.put(file.filename(), file);
             }
 
-            log.info("Loaded {} interface definitions: {}", registry.size(), registry.keySet());
+            Snapshot previous = snapshot;
+            Snapshot next = new Snapshot(previous.version() + 1, definitions, sources, fileMap);
+            snapshot = next;
+
+            if (reused.get() != files.size() || cached.size() != files.size()) {
+                snapshotStore.save(files);
+            }
+            long finishedTime = System.nanoTime();
+
+            Set<String> removed = new HashSet<>(previous.definitions().keySet());
+            removed.removeAll(definitions.keySet());
+            eventPublisher.publishEvent(new InterfaceRegistryChangedEvent(
+                next.version(), next.definitions().keySet(), removed, true));
+
+            log.info("Loaded {} interface definitions ({} parsed, {} from snapshot) in {}ms "
+                    + "[discover={}ms, snapshot-read={}ms, parse={}ms, snapshot-write={}ms]: {}",
+                definitions.size(), files.size() - reused.get(), reused.get(),
+                toMillis(finishedTime - startTime),
+                toMillis(discoveredTime - startTime),
+                toMillis(snapshotLoadedTime - discoveredTime),
+                toMillis(parsedTime - snapshotLoadedTime),
+                toMillis(finishedTime - parsedTime),
+                definitions.keySet());
         } catch (IOException e) {
             log.error("Failed to load interface definitions", e);
             throw new RuntimeException("Failed to load interface definitions", e);
         }
     }
 
-    private void loadDefinition(Resource resource) {
+    /**
+     * 지정 파일만 다시 읽어 스냅샷 교체<br/>파일이 삭제되었으면 해당 파일의 정의 삭제, 내용이 같거나 읽을 수 없으면(작성 중인 파일 포함) 기존 정의 유지
+     */
+    public synchronized void refresh(Collection<Path> files) {
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> removed = new LinkedHashSet<>();
+
+        Map<String, InterfaceDefinition> definitions = new HashMap<>(snapshot.definitions());
+        Map<String, String> sources = new HashMap<>(snapshot.sources());
+        Map<String, DefinitionFile> fileMap = new HashMap<>(snapshot.files());
+
+        for (Path file : files) {
+            String filename = file.getFileName().toString();
+            DefinitionFile loaded = null;
+
+            if (Files.exists(file)) {
+                loaded = readDefinition(new FileSystemResource(file), snapshot.files(), new AtomicInteger());
+                if (loaded == null) {
+                    log.warn("Ignoring unreadable definition file {}, previous definitions kept", filename);
+                    continue;
+                }
+
+                DefinitionFile current = snapshot.files().get(filename);
+                if (current != null && loaded.hash().equals(current.hash())) {
+                    continue;
+                }
+            }
+
+            // 해당 파일에서 로드되었던 정의 제거
+            fileMap.remove(filename);
+            sources.entrySet().removeIf(entry -> {
+                if (entry.getValue().equals(filename)) {
+                    definitions.remove(entry.getKey());
+                    removed.add(entry.getKey());
+                    return true;
+                }
+                return false;
+            });
+
+            if (loaded != null) {
+                String id = loaded.definition().getId().toUpperCase();
+                definitions.put(id, loaded.definition());
+                sources.put(id, filename);
+                fileMap.put(filename, loaded);
+                removed.remove(id);
+                changed.add(id);
+            }
+        }
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        Snapshot next = new Snapshot(snapshot.version() + 1, definitions, sources, fileMap);
+        snapshot = next;
+        snapshotStore.save(fileMap.values());
+
+        eventPublisher.publishEvent(new InterfaceRegistryChangedEvent(next.version(), changed, removed, false));
+        log.info("Refreshed interface definitions. changed={}, removed={}", changed, removed);
+    }
+
+    /**
+     * 정의 파일 로드, 파일 해시가 스냅샷과 같으면 파싱 없이 스냅샷의 정의를 사용
+     */
+    private DefinitionFile readDefinition(Resource resource, Map<String, DefinitionFile> cached, AtomicInteger reused) {
         try {
-            Map<String, Object> yaml = yamlMapper.readValue(
-                resource.getInputStream(),
-                Map.class
-            );
+            byte[] content = resource.getContentAsByteArray();
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+            DefinitionFile cachedFile = cached.get(resource.getFilename());
+            if (cachedFile != null && cachedFile.hash().equals(hash)) {
+                reused.incrementAndGet();
+                return cachedFile;
+            }
 
-            Map<String, Object> interfaceData = (Map<String, Object>) yaml.get("interface");
+            // YAML → 정의 객체 단일 패스 변환
+            DefinitionDocument document = yamlMapper.readValue(content, DefinitionDocument.class);
 
-            if (interfaceData == null) {
+            if (document.definition == null) {
                 log.warn("No 'interface' key found in: {}", resource.getFilename());
-                return;
+                return null;
             }
 
-            InterfaceDefinition definition = yamlMapper.convertValue(
-                interfaceData,
-                InterfaceDefinition.class
-            );
+            if (document.definition.getId() == null) {
+                log.warn("No interface id found in: {}", resource.getFilename());
+                return null;
+            }
 
-            registry.put(definition.getId().toUpperCase(), definition);
-            log.debug("Loaded interface: {} from {}", definition.getId(), resource.getFilename());
-        } catch (IOException e) {
+            // 잘못된 처리 기한은 요청마다 400 으로 실패하므로 파일 단위로 거부 (이전 정의 유지)
+            InterfaceDefinition.parseTimeout(document.definition.getTimeout());
+
+            log.debug("Loaded interface: {} from {}", document.definition.getId(), resource.getFilename());
+            return new DefinitionFile(resource.getFilename(), hash, document.definition);
+        } catch (IOException | IllegalArgumentException e) {
             log.error("Failed to load definition from: {}", resource.getFilename(), e);
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
-    public InterfaceDefinition get(String interfaceId) {
-        InterfaceDefinition definition = registry.get(interfaceId.toUpperCase());
-        if (definition == null) {
-            throw new NotFoundException(interfaceId, "Interface definition not found: " + interfaceId);
+    private static DefinitionFile keepPrevious(Snapshot previous, String filename) {
+        DefinitionFile file = previous.files().get(filename);
+        if (file != null) {
+            log.warn("Keeping previous definition {} from {} until the file can be loaded",
+                file.definition().getId(), filename);
         }
+        return file;
+    }
 
-        return definition;
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
+    public InterfaceDefinition get(String interfaceId) {
+        return find(interfaceId)
+            .orElseThrow(() -> new NotFoundException(interfaceId, "Interface definition not found: " + interfaceId));
+    }
+
+    /**
+     * 현재 스냅샷에서 한 번만 조회<br/>재로드 중에도 존재 여부와 정의가 같은 스냅샷 기준이 되도록 exists + get 대신 사용
+     */
+    public Optional<InterfaceDefinition> find(String interfaceId) {
+        return Optional.ofNullable(snapshot.definitions().get(interfaceId.toUpperCase()));
+    }
+
+    /**
+     * 현재 스냅샷의 전체 정의 (읽기 전용)
+     */
     public Map<String, InterfaceDefinition> getAllDefinitions() {
-        return new HashMap<>(registry);
+        return snapshot.definitions();
+    }
+
+    public long getVersion() {
+        return snapshot.version();
     }
 
     public void reload() {
         log.info("Reloading interface definitions...");
-        registry.clear();
         loadDefinitions();
     }
 
     public boolean exists(String interfaceId) {
-        return registry.containsKey(interfaceId.toUpperCase());
+        return snapshot.definitions().containsKey(interfaceId.toUpperCase());
+    }
+
+    /**
+     * 정의 디렉토리 변경 감지 시작 (파일 시스템 경로인 경우에만)
+     */
+    private void startWatching() {
+        if (!watchEnabled) {
+            return;
+        }
+
+        Path directory;
+        try {
+            directory = new PathMatchingResourcePatternResolver().getResource(definitionPath).getFile().toPath();
+        } catch (IOException e) {
+            log.info("Interface definition path is not a directory, file watching disabled: {}", definitionPath);
+            return;
+        }
+
+        if (!Files.isDirectory(directory)) {
+            log.info("Interface definition directory does not exist, file watching disabled: {}", directory);
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("Failed to watch interface definition directory: {}", directory, e);
+            return;
+        }
+
+        watchThread = Thread.ofPlatform()
+            .name("interface-watcher")
+            .daemon()
+            .start(() -> watch(directory));
+        log.info("Watching interface definition directory: {}", directory);
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Failed to close watch service", e);
+        }
+        watchThread.interrupt();
+    }
+
+    /**
+     * 변경 이벤트를 debounce 시간 동안 모아 한 번에 부분 재로드
+     */
+    private void watch(Path directory) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = watchService.take();
+
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            loadDefinitions();
+                            continue;
+                        }
+
+                        Path file = directory.resolve((Path) event.context());
+                        if (file.getFileName().toString().endsWith(EXTENSION)) {
+                            changed.add(file);
+                        }
+                    }
+                    key.reset();
+                    key = watchService.poll(watchDebounce.toMillis(), TimeUnit.MILLISECONDS);
+                }
+
+                if (!changed.isEmpty()) {
+                    refresh(changed);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Interface definition watcher stopped", e);
+        }
+    }
+
+    /**
+     * YAML 문서 최상위 구조 (interface 외 항목은 무시)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class DefinitionDocument {
+
+        @JsonProperty("interface")
+        private InterfaceDefinition definition;
+    }
+
+    /**
+     * 불변 Registry 스냅샷
+     *
+     * @param sources 인터페이스 ID → 정의 파일명
+     * @param files   정의 파일명 → 로드 결과
+     */
+    private record Snapshot(
+        long version,
+        Map<String, InterfaceDefinition> definitions,
+        Map<String, String> sources,
+        Map<String, DefinitionFile> files
+    ) {
+
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of(), Map.of(), Map.of());
+
+        private Snapshot {
+            definitions = Map.copyOf(definitions);
+            sources = Map.copyOf(sources);
+            files = Map.copyOf(files);
+        }
     }
 }
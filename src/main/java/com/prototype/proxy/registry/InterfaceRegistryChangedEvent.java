@@ -0,0 +1,20 @@
+package com.prototype.proxy.registry;
+
+import java.util.Set;
+
+/**
+ * 인터페이스 정의 변경 이벤트<br/>인터페이스 정의로부터 만들어진 캐시는 변경/삭제된 ID 만 다시 생성
+ *
+ * @param version    변경 후 Registry 버전
+ * @param changedIds 추가 또는 변경된 인터페이스 ID
+ * @param removedIds 삭제된 인터페이스 ID
+ * @param fullReload 전체 재로드 여부
+ */
+public record InterfaceRegistryChangedEvent(
+    long version,
+    Set<String> changedIds,
+    Set<String> removedIds,
+    boolean fullReload
+) {
+
+}
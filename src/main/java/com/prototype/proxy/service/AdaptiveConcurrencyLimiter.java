@@ -0,0 +1,270 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.exception.SapOverloadedException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * SAP 동시 RFC 호출 수 적응형 제한<br/>RFC 응답 시간을 기준 응답 시간과 비교하여 허용 동시 호출 수를 조절 (gradient 방식)
+ * <p>
+ * RFC 마다 처리 시간이 크게 다르므로 기준 응답 시간(장기 평균)과 최근 응답 시간(단기 평균)은 RFC 별로 관리하고,
+ * 그 비율(gradient)로 전체 제한 값을 갱신한다. 응답 시간이 기준보다 늘어나면 제한을 줄이고, 기준 수준이면 sqrt(limit) 만큼 늘린다.
+ * 제한을 넘는 요청은 대기하지 않고 즉시 거부한다. 응답 시간 반영은 잠금 없이 CAS 로 갱신하여 RFC 완료 처리가 서로 대기하지 않는다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final int WARMUP_SAMPLES = 10;
+    private static final int STATS_LIMIT = 50;
+
+    @Value("${sap.jco.adaptive-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sap.jco.adaptive-limit.min-limit:2}")
+    private int minLimit;
+
+    @Value("${sap.jco.adaptive-limit.max-limit:${sap.jco.peak-limit:20}}")
+    private int maxLimit;
+
+    @Value("${sap.jco.adaptive-limit.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${sap.jco.adaptive-limit.long-window:600}")
+    private int longWindow;
+
+    @Value("${sap.jco.adaptive-limit.short-window:10}")
+    private int shortWindow;
+
+    /** 허용 동시 호출 수 (double 비트값) */
+    private final AtomicLong limit = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, RttBaseline> baselines = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter(@Value("${sap.jco.adaptive-limit.initial-limit:${sap.jco.pool-capacity:10}}") int initialLimit) {
+        this.limit.set(Double.doubleToRawLongBits(initialLimit));
+    }
+
+    /**
+     * 호출 허가 획득, 제한을 넘으면 SapOverloadedException
+     */
+    public Permit acquire(String functionName) {
+        Permit permit = tryAcquire(functionName);
+
+        if (permit == null) {
+            rejected.increment();
+            int current = getLimit();
+            throw new SapOverloadedException(functionName, current,
+                "SAP concurrency limit reached (" + current + "), request shed: " + functionName);
+        }
+        return permit;
+    }
+
+    /**
+     * 호출 허가 획득 시도 (중복 요청 등 생략 가능한 호출용)
+     *
+     * @return 허가, 제한을 넘으면 null
+     */
+    public Permit tryAcquire(String functionName) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+
+        int max = getLimit();
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= max) {
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return new Permit(this, functionName, current + 1);
+    }
+
+    public int getLimit() {
+        return (int) currentLimit();
+    }
+
+    private double currentLimit() {
+        return Double.longBitsToDouble(limit.get());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("limit", getLimit());
+        stats.put("minLimit", minLimit);
+        stats.put("maxLimit", maxLimit);
+        stats.put("inFlight", inFlight.get());
+        stats.put("rejected", rejected.sum());
+        stats.put("dropped", dropped.sum());
+
+        List<Map<String, Object>> functions = new ArrayList<>();
+        baselines.entrySet().stream()
+            .map(e -> Map.entry(e.getKey(), e.getValue().get()))
+            .sorted(Comparator.comparingLong((Map.Entry<String, Rtt> e) -> e.getValue().samples()).reversed())
+            .limit(STATS_LIMIT)
+            .forEach(e -> {
+                Map<String, Object> item = new HashMap<>();
+                item.put("function", e.getKey());
+                item.put("samples", e.getValue().samples());
+                item.put("baselineMs", e.getValue().longRtt() / TimeUnit.MILLISECONDS.toNanos(1));
+                item.put("recentMs", e.getValue().shortRtt() / TimeUnit.MILLISECONDS.toNanos(1));
+                functions.add(item);
+            });
+        stats.put("functions", functions);
+
+        return stats;
+    }
+
+    /**
+     * 호출 결과 반영
+     *
+     * @param inFlightAtStart 호출 시작 시점의 동시 호출 수
+     * @param drop            연결 실패, 자원 부족 등 과부하로 볼 수 있는 실패
+     */
+    void onSample(String functionName, long rttNanos, int inFlightAtStart, boolean drop) {
+        double gradient;
+
+        if (drop) {
+            dropped.increment();
+            gradient = MIN_GRADIENT;
+        } else {
+            Rtt rtt = baselines.computeIfAbsent(functionName, ignored -> new RttBaseline())
+                .update(rttNanos, longWindow, shortWindow);
+
+            if (rtt.samples() < WARMUP_SAMPLES) {
+                return;
+            }
+
+            gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rtt.longRtt() / rtt.shortRtt()));
+        }
+
+        while (true) {
+            long bits = limit.get();
+            double current = Double.longBitsToDouble(bits);
+
+            // 제한의 절반도 사용하지 않는 동안에는 늘리지 않음 (부하가 없어 측정할 근거가 없음)
+            if (gradient >= 1.0 && inFlightAtStart < current / 2) {
+                return;
+            }
+
+            double target = current * gradient + Math.sqrt(current);
+            double next = current * (1 - smoothing) + target * smoothing;
+            next = Math.max(minLimit, Math.min(maxLimit, next));
+
+            if (limit.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                if ((int) next != (int) current) {
+                    log.debug("SAP concurrency limit {} -> {} (function={}, gradient={})",
+                        (int) current, (int) next, functionName, String.format("%.2f", gradient));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * RFC 별 응답 시간 (장기 평균, 단기 평균, 표본 수)
+     */
+    private record Rtt(double longRtt, double shortRtt, long samples) {
+
+    }
+
+    /**
+     * RFC 별 응답 시간 기준값<br/>같은 RFC 의 완료가 동시에 반영되어도 표본을 잃지 않도록 불변 값을 CAS 로 교체
+     */
+    private static final class RttBaseline {
+
+        private final AtomicReference<Rtt> rtt = new AtomicReference<>(new Rtt(0, 0, 0));
+
+        private Rtt get() {
+            return rtt.get();
+        }
+
+        private Rtt update(long rttNanos, int longWindow, int shortWindow) {
+            return rtt.updateAndGet(current -> {
+                if (current.samples() == 0) {
+                    return new Rtt(rttNanos, rttNanos, 1);
+                }
+
+                double longRtt = current.longRtt() + (rttNanos - current.longRtt()) * 2.0 / (longWindow + 1);
+                double shortRtt = current.shortRtt() + (rttNanos - current.shortRtt()) * 2.0 / (shortWindow + 1);
+
+                // 응답 시간이 장기간 높은 수준으로 유지되면 기준값도 따라 올려 제한이 최소값에 고정되지 않도록 함
+                if (longRtt / shortRtt > 2) {
+                    longRtt *= 0.95;
+                }
+                return new Rtt(longRtt, shortRtt, current.samples() + 1);
+            });
+        }
+    }
+
+    /**
+     * 호출 허가, 호출 종료 시 결과와 함께 반환<br/>여러 실패 경로에서 반환되어도 동시 호출 수는 한 번만 줄임
+     */
+    public static final class Permit {
+
+        private static final Permit NONE = new Permit(null, null, 0);
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final String functionName;
+        private final int inFlightAtStart;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, String functionName, int inFlightAtStart) {
+            this.limiter = limiter;
+            this.functionName = functionName;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 응답 (ABAP 예외 포함)
+         */
+        public void success() {
+            release(false);
+        }
+
+        /**
+         * 과부하로 인한 실패
+         */
+        public void dropped() {
+            release(true);
+        }
+
+        /**
+         * 응답 시간을 반영하지 않고 반환 (호출 전 실패 등)
+         */
+        public void ignore() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.inFlight.decrementAndGet();
+            }
+        }
+
+        private void release(boolean drop) {
+            if (limiter == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+
+            limiter.inFlight.decrementAndGet();
+            limiter.onSample(functionName, System.nanoTime() - startNanos, inFlightAtStart, drop);
+        }
+    }
+}
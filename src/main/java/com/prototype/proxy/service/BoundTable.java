@@ -0,0 +1,14 @@
+package com.prototype.proxy.service;
+
+import java.util.List;
+
+/**
+ * SAP Table 파라미터로 전달할 행 데이터<br/>행은 columns 와 같은 순서의 값 배열이며, null 값은 설정하지 않음
+ *
+ * @param sapTable SAP 테이블명
+ * @param columns  SAP 필드명
+ * @param rows     행 목록
+ */
+public record BoundTable(String sapTable, String[] columns, List<Object[]> rows) {
+
+}
@@ -0,0 +1,357 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.exception.RateLimitExceededException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출자별 요청 제한<br/>userId, IP, (userId, 인터페이스) 단위로 초당 요청 수(token bucket)와 동시 실행 수를 제한
+ * <p>
+ * 요청 수 제한은 GCRA(Generic Cell Rate Algorithm)로 구현하여 키마다 AtomicLong 하나만 CAS 로 갱신한다.
+ * 제한 값은 범위(scope)별 기본값과 키별 설정으로 구성되며 실행 중에 변경할 수 있다.
+ */
+@Slf4j
+@Component
+public class CallerRateLimiter {
+
+    public static final String SCOPE_USER = "user";
+    public static final String SCOPE_IP = "ip";
+    public static final String SCOPE_USER_INTERFACE = "user-interface";
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    @Value("${proxy.rate-limit.enabled:true}")
+    private volatile boolean enabled;
+
+    @Value("${proxy.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<String, Limit> defaults = new ConcurrentHashMap<>();
+    private final Map<String, Limit> overrides = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param rate        초당 허용 요청 수, 0 이하이면 제한 없음
+     * @param burst       순간 허용 요청 수
+     * @param concurrency 동시 실행 수, 0 이하이면 제한 없음
+     */
+    public record Limit(double rate, int burst, int concurrency) {
+
+    }
+
+    public CallerRateLimiter(
+        @Value("${proxy.rate-limit.user.rate:50}") double userRate,
+        @Value("${proxy.rate-limit.user.burst:100}") int userBurst,
+        @Value("${proxy.rate-limit.user.concurrency:20}") int userConcurrency,
+        @Value("${proxy.rate-limit.ip.rate:100}") double ipRate,
+        @Value("${proxy.rate-limit.ip.burst:200}") int ipBurst,
+        @Value("${proxy.rate-limit.ip.concurrency:40}") int ipConcurrency,
+        @Value("${proxy.rate-limit.user-interface.rate:20}") double userInterfaceRate,
+        @Value("${proxy.rate-limit.user-interface.burst:40}") int userInterfaceBurst,
+        @Value("${proxy.rate-limit.user-interface.concurrency:10}") int userInterfaceConcurrency
+    ) {
+        defaults.put(SCOPE_USER, new Limit(userRate, userBurst, userConcurrency));
+        defaults.put(SCOPE_IP, new Limit(ipRate, ipBurst, ipConcurrency));
+        defaults.put(SCOPE_USER_INTERFACE, new Limit(userInterfaceRate, userInterfaceBurst, userInterfaceConcurrency));
+    }
+
+    /**
+     * 실행 허가 획득, 제한을 넘으면 RateLimitExceededException
+     *
+     * @param interfaceId 등록된 인터페이스 ID, 미등록이면 null (인터페이스 단위 제한 제외)
+     * @return 실행 종료 시 반드시 닫아야 하는 허가
+     */
+    public Permit acquire(String userId, String ipAddress, String interfaceId) {
+        return acquire(userId, ipAddress, interfaceId, System.nanoTime());
+    }
+
+    /**
+     * @param now 요청 시각 (nanoTime 기준)
+     */
+    Permit acquire(String userId, String ipAddress, String interfaceId, long now) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+
+        String user = (userId == null || userId.isBlank()) ? ANONYMOUS : userId;
+        String[] scopes = (interfaceId != null)
+            ? new String[]{SCOPE_USER, SCOPE_IP, SCOPE_USER_INTERFACE}
+            : new String[]{SCOPE_USER, SCOPE_IP};
+        String[] keys = (interfaceId != null)
+            ? new String[]{user, String.valueOf(ipAddress), user + "/" + interfaceId.toUpperCase()}
+            : new String[]{user, String.valueOf(ipAddress)};
+
+        Bucket[] acquired = new Bucket[scopes.length];
+        long[] consumed = new long[scopes.length];
+
+        try {
+            for (int i = 0; i < scopes.length; i++) {
+                Limit limit = getLimit(scopes[i], keys[i]);
+                Bucket bucket = enter(scopes[i], keys[i], limit.concurrency());
+
+                if (bucket == null) {
+                    throw new RateLimitExceededException(scopes[i], keys[i], 1,
+                        "Too many concurrent requests for " + scopes[i] + " '" + keys[i] + "'");
+                }
+                acquired[i] = bucket;
+
+                long waitNanos = bucket.tryConsume(limit, now);
+                if (waitNanos > 0) {
+                    bucket.rejected.increment();
+                    throw new RateLimitExceededException(scopes[i], keys[i],
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)),
+                        "Rate limit exceeded for " + scopes[i] + " '" + keys[i] + "'");
+                }
+                consumed[i] = bucket.interval(limit);
+            }
+        } catch (RateLimitExceededException e) {
+            // 앞선 범위에서 이미 차감한 요청 수를 되돌림 (거부된 요청이 다른 범위의 한도를 소모하지 않도록)
+            for (int i = 0; i < acquired.length; i++) {
+                if (consumed[i] > 0) {
+                    acquired[i].refund(consumed[i]);
+                }
+            }
+            release(acquired);
+            throw e;
+        }
+
+        for (Bucket bucket : acquired) {
+            bucket.allowed.increment();
+        }
+        return () -> release(acquired);
+    }
+
+    public Limit getLimit(String scope, String key) {
+        Limit limit = overrides.get(scope + ":" + key);
+        return (limit != null) ? limit : defaults.get(scope);
+    }
+
+    /**
+     * 제한 값 변경
+     *
+     * @param key 키별 설정이면 userId, IP 또는 userId/인터페이스 ID, 범위 기본값이면 null
+     */
+    public void setLimit(String scope, String key, Limit limit) {
+        checkScope(scope);
+
+        if (key == null) {
+            defaults.put(scope, limit);
+        } else {
+            overrides.put(scope + ":" + key, limit);
+        }
+        log.info("Rate limit updated. scope={}, key={}, limit={}", scope, key, limit);
+    }
+
+    public void removeLimit(String scope, String key) {
+        checkScope(scope);
+        overrides.remove(scope + ":" + key);
+        log.info("Rate limit override removed. scope={}, key={}", scope, key);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        log.info("Rate limiting {}", enabled ? "enabled" : "disabled");
+    }
+
+    public Map<String, Object> getSettings() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("enabled", enabled);
+        settings.put("defaults", Map.copyOf(defaults));
+        settings.put("overrides", Map.copyOf(overrides));
+        return settings;
+    }
+
+    /**
+     * 호출자별 사용 현황 (허용 건수 순)
+     */
+    public Map<String, Object> getUsage(int limit) {
+        List<Map<String, Object>> usage = new ArrayList<>();
+
+        buckets.values().stream()
+            .sorted(Comparator.comparingLong((Bucket bucket) -> bucket.allowed.sum()).reversed())
+            .limit(limit)
+            .forEach(bucket -> {
+                Map<String, Object> item = new HashMap<>();
+                item.put("scope", bucket.scope);
+                item.put("key", bucket.key);
+                item.put("allowed", bucket.allowed.sum());
+                item.put("rejected", bucket.rejected.sum());
+                item.put("inFlight", Math.max(0, bucket.inFlight.get()));
+                item.put("limit", getLimit(bucket.scope, bucket.key));
+                usage.add(item);
+            });
+
+        return Map.of("enabled", enabled, "trackedKeys", buckets.size(), "callers", usage);
+    }
+
+    /**
+     * 오래 사용되지 않은 키 정리 (IP 등 키가 계속 늘어나는 것을 방지)
+     */
+    @Scheduled(fixedDelayString = "${proxy.rate-limit.evict-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> now - bucket.lastSeen > IDLE_EVICT_NANOS && bucket.tryEvict());
+    }
+
+    /**
+     * 키의 동시 실행 수 증가<br/>정리 중인 Bucket 을 받은 경우 새 Bucket 으로 다시 시도
+     *
+     * @return 동시 실행 수를 넘으면 null
+     */
+    private Bucket enter(String scope, String key, int concurrency) {
+        String id = scope + ":" + key;
+
+        while (true) {
+            Bucket bucket = buckets.get(id);
+
+            if (bucket == null) {
+                if (buckets.size() >= maxKeys) {
+                    evictIdle();
+                }
+                bucket = buckets.computeIfAbsent(id, ignored -> new Bucket(scope, key));
+            }
+
+            bucket.lastSeen = System.nanoTime();
+
+            switch (bucket.tryEnter(concurrency)) {
+                case Bucket.ENTERED -> {
+                    return bucket;
+                }
+                case Bucket.FULL -> {
+                    bucket.rejected.increment();
+                    return null;
+                }
+                default -> buckets.remove(id, bucket);
+            }
+        }
+    }
+
+    private void release(Bucket[] acquired) {
+        for (Bucket bucket : acquired) {
+            if (bucket != null) {
+                bucket.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void checkScope(String scope) {
+        if (!defaults.containsKey(scope)) {
+            throw new IllegalArgumentException("Unknown rate limit scope: " + scope);
+        }
+    }
+
+    /**
+     * 실행 허가 (동시 실행 수 반환)
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        Permit NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+
+    private static final class Bucket {
+
+        private static final int ENTERED = 0;
+        private static final int FULL = 1;
+        private static final int EVICTED = 2;
+
+        /** 정리된 Bucket 의 동시 실행 수 (이후 진입 불가) */
+        private static final int EVICTED_MARK = Integer.MIN_VALUE;
+
+        private final String scope;
+        private final String key;
+
+        /** GCRA 이론상 다음 도착 시각 (nanoTime 기준) */
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private volatile long lastSeen;
+
+        private Bucket(String scope, String key) {
+            this.scope = scope;
+            this.key = key;
+        }
+
+        /**
+         * @return ENTERED, FULL(동시 실행 수 초과) 또는 EVICTED(정리된 Bucket)
+         */
+        private int tryEnter(int concurrency) {
+            int current;
+            do {
+                current = inFlight.get();
+                if (current == EVICTED_MARK) {
+                    return EVICTED;
+                }
+                if (concurrency > 0 && current >= concurrency) {
+                    return FULL;
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+
+            return ENTERED;
+        }
+
+        /**
+         * 실행 중인 요청이 없으면 정리 표시 (표시 후에는 tryEnter 가 실패하므로 동시 실행 수를 잃지 않음)
+         */
+        private boolean tryEvict() {
+            return inFlight.compareAndSet(0, EVICTED_MARK);
+        }
+
+        /**
+         * @return 0 이면 허용, 양수이면 다음 요청까지 대기해야 하는 시간(ns)
+         */
+        private long tryConsume(Limit limit, long now) {
+            if (limit.rate() <= 0) {
+                return 0;
+            }
+
+            long interval = interval(limit);
+            long tolerance = interval * Math.max(limit.burst() - 1, 0);
+
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = (tat == Long.MIN_VALUE || tat - now < 0) ? now : tat;
+                long next = base + interval;
+
+                if (next - now > tolerance + interval) {
+                    return next - now - tolerance - interval;
+                }
+                if (theoreticalArrival.compareAndSet(tat, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * 요청 하나가 차지하는 간격(ns), 제한이 없으면 0
+         */
+        private long interval(Limit limit) {
+            return (limit.rate() <= 0) ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / limit.rate());
+        }
+
+        /**
+         * tryConsume 으로 차감한 요청 하나를 되돌림
+         */
+        private void refund(long interval) {
+            theoreticalArrival.addAndGet(-interval);
+        }
+    }
+}
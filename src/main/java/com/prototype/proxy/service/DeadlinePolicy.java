@@ -0,0 +1,65 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceRegistry;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 처리 기한 결정<br/>X-Request-Timeout 헤더 → 인터페이스 정의의 timeout → 기본값 순으로 적용하며 최대값을 넘지 않음
+ * <p>
+ * 헤더와 정의 값은 "10s", "1500ms" 형식이며 단위가 없으면 ms 로 해석한다.
+ * 기본값은 단계별 기한 확인(매핑, SAP 호출 대기 등)에만 쓰이고, 헤더나 정의로 지정된 기한만 실행 중인 RFC 호출을 포기한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadlinePolicy {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final InterfaceRegistry registry;
+
+    @Value("${proxy.deadline.default-timeout:30s}")
+    private Duration defaultTimeout;
+
+    @Value("${proxy.deadline.max-timeout:120s}")
+    private Duration maxTimeout;
+
+    /**
+     * 처리 기한
+     *
+     * @param timeout  요청 수신 시점부터의 처리 기한
+     * @param explicit 헤더나 인터페이스 정의로 지정된 기한 여부 (기본값이면 false)
+     */
+    public record Deadline(Duration timeout, boolean explicit) {
+
+    }
+
+    public Deadline resolve(String headerValue, String interfaceId) {
+        Duration timeout = parse(headerValue);
+
+        if (timeout == null && interfaceId != null) {
+            timeout = registry.find(interfaceId)
+                .map(definition -> parse(definition.getTimeout()))
+                .orElse(null);
+        }
+
+        if (timeout == null) {
+            return new Deadline(cap(defaultTimeout), false);
+        }
+
+        return new Deadline(cap(timeout), true);
+    }
+
+    private Duration cap(Duration timeout) {
+        return (timeout.compareTo(maxTimeout) > 0) ? maxTimeout : timeout;
+    }
+
+    private Duration parse(String value) {
+        return InterfaceDefinition.parseTimeout(value);
+    }
+}
@@ -0,0 +1,228 @@
+package com.prototype.proxy.service;
+
+import com.sap.conn.jco.JCo;
+import com.sap.conn.jco.JCoCustomRepository;
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoFunctionTemplate;
+import com.sap.conn.jco.JCoListMetaData;
+import com.sap.conn.jco.JCoMetaData;
+import com.sap.conn.jco.JCoRecordMetaData;
+import com.sap.conn.jco.JCoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * RFC Function 메타데이터 로컬 캐시<br/>SAP 에서 조회한 Function 메타데이터를 파일로 저장해 두고, 재시작 시 SAP 조회 없이 사용
+ * <p>
+ * 스냅샷에서 가져온 메타데이터는 처음 사용될 때 백그라운드에서 SAP 기준으로 다시 조회하여, 구조가 바뀐 경우에만 교체한다.
+ */
+@Slf4j
+@Component
+public class FunctionMetadataCache {
+
+    private static final String REPOSITORY_NAME = "PROXY_METADATA_SNAPSHOT";
+
+    private final JCoDestination destination;
+    private final Executor revalidateExecutor;
+
+    @Value("${sap.jco.metadata.snapshot-file:}")
+    private String snapshotFile;
+
+    private final JCoCustomRepository repository = JCo.createCustomRepository(REPOSITORY_NAME);
+
+    /** 이번 기동 이후 SAP 기준으로 확인(또는 SAP 에서 직접 조회)된 Function */
+    private final Set<String> validated = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public FunctionMetadataCache(JCoDestination destination,
+        @Qualifier("metadataExecutor") Executor revalidateExecutor) {
+        this.destination = destination;
+        this.revalidateExecutor = revalidateExecutor;
+    }
+
+    @PostConstruct
+    public void load() {
+        Path file = getSnapshotPath();
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            repository.load(reader);
+            log.info("Loaded {} RFC function templates from metadata snapshot in {}ms: {}",
+                repository.getCachedFunctionTemplateNames().length,
+                System.currentTimeMillis() - startTime, file);
+        } catch (Exception e) {
+            repository.clear();
+            log.warn("Ignoring unreadable RFC metadata snapshot: {} ({})", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 실행용 Function 생성, 캐시에 없으면 SAP 에서 메타데이터 조회
+     *
+     * @return Function, SAP 에 존재하지 않으면 null
+     */
+    public JCoFunction getFunction(String functionName) throws JCoException {
+        String name = functionName.toUpperCase();
+        JCoFunctionTemplate template = repository.getFunctionTemplate(name);
+
+        if (template == null) {
+            template = fetch(name);
+            if (template == null) {
+                return null;
+            }
+            repository.addFunctionTemplateToCache(template);
+            validated.add(name);
+            dirty.set(true);
+        } else if (validated.add(name)) {
+            scheduleRevalidation(name);
+        }
+
+        return template.getFunction();
+    }
+
+    /**
+     * 변경된 메타데이터가 있으면 스냅샷 파일에 반영
+     */
+    @Scheduled(fixedDelayString = "${sap.jco.metadata.flush-interval:60000}")
+    public void flush() {
+        Path file = getSnapshotPath();
+        if (file == null || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                repository.save(writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("RFC metadata snapshot written: {}", file);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("Failed to write RFC metadata snapshot: {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("cachedFunctions", repository.getCachedFunctionTemplateNames().length);
+        stats.put("validatedFunctions", validated.size());
+        stats.put("snapshotFile", snapshotFile);
+        return stats;
+    }
+
+    private void scheduleRevalidation(String name) {
+        try {
+            revalidateExecutor.execute(() -> revalidate(name));
+        } catch (TaskRejectedException e) {
+            // 다음 호출 시 다시 시도
+            validated.remove(name);
+        }
+    }
+
+    /**
+     * SAP 에서 메타데이터를 다시 조회하여 스냅샷과 구조가 다르면 교체
+     */
+    private void revalidate(String name) {
+        try {
+            JCoFunctionTemplate cached = repository.getFunctionTemplate(name);
+            JCoFunctionTemplate current = fetch(name);
+
+            if (current == null) {
+                repository.removeFunctionTemplateFromCache(name);
+                dirty.set(true);
+                log.warn("RFC function no longer exists in SAP, removed from metadata cache: {}", name);
+                return;
+            }
+
+            if (cached == null || !fingerprint(cached).equals(fingerprint(current))) {
+                repository.addFunctionTemplateToCache(current);
+                dirty.set(true);
+                log.info("RFC metadata changed in SAP, cache updated: {}", name);
+            }
+        } catch (Exception e) {
+            // SAP 연결 불가 등, 스냅샷 메타데이터를 계속 사용하고 다음 호출 시 다시 확인
+            validated.remove(name);
+            log.debug("RFC metadata revalidation failed: {} ({})", name, e.getMessage());
+        }
+    }
+
+    private JCoFunctionTemplate fetch(String name) throws JCoException {
+        JCoRepository remote = destination.getRepository();
+        // 대상 Destination 의 Repository 캐시가 아닌 SAP 의 현재 메타데이터 조회
+        remote.removeFunctionTemplateFromCache(name);
+        return remote.getFunctionTemplate(name);
+    }
+
+    /**
+     * 파라미터/필드 구조 비교용 문자열 (이름, 타입, 길이, 소수점)
+     */
+    private String fingerprint(JCoFunctionTemplate template) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, "I", template.getImportParameterList());
+        append(builder, "E", template.getExportParameterList());
+        append(builder, "C", template.getChangingParameterList());
+        append(builder, "T", template.getTableParameterList());
+        return builder.toString();
+    }
+
+    private void append(StringBuilder builder, String section, JCoMetaData metaData) {
+        builder.append(section).append('[');
+
+        if (metaData != null) {
+            for (int i = 0; i < metaData.getFieldCount(); i++) {
+                builder.append(metaData.getName(i)).append(':')
+                    .append(metaData.getTypeAsString(i)).append(':')
+                    .append(metaData.getLength(i)).append(':')
+                    .append(metaData.getDecimals(i));
+
+                if (metaData instanceof JCoListMetaData listMetaData && listMetaData.isOptional(i)) {
+                    builder.append('?');
+                }
+
+                if (metaData.isStructure(i) || metaData.isTable(i)) {
+                    JCoRecordMetaData recordMetaData = metaData.getRecordMetaData(i);
+                    append(builder, Objects.toString(recordMetaData.getName(), ""), recordMetaData);
+                }
+                builder.append(';');
+            }
+        }
+
+        builder.append(']');
+    }
+
+    private Path getSnapshotPath() {
+        return (snapshotFile == null || snapshotFile.isBlank()) ? null : Path.of(snapshotFile);
+    }
+}
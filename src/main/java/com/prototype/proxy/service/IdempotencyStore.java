@@ -0,0 +1,359 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.exception.DeadlineExceededException;
+import com.prototype.proxy.exception.IdempotencyConflictException;
+import com.prototype.proxy.exception.IdempotencyOutcomeUnknownException;
+import com.prototype.proxy.exception.InterfaceMappingException;
+import com.prototype.proxy.exception.NotFoundException;
+import com.prototype.proxy.exception.ProxyException;
+import com.prototype.proxy.exception.RateLimitExceededException;
+import com.prototype.proxy.exception.SapOverloadedException;
+import com.prototype.proxy.logging.IdempotencyRecord;
+import com.prototype.proxy.logging.IdempotencyRecordRepository;
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.DeadlineMetrics;
+import com.prototype.proxy.service.RequestBinder.BoundRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 별 실행 결과 저장소<br/>같은 키로 다시 들어온 요청은 SAP 를 호출하지 않고 저장된 응답을 반환
+ * <p>
+ * 키마다 매핑된 요청 데이터의 지문(SHA-256)을 함께 저장하여, 같은 키로 다른 데이터를 보내면 거부한다.
+ * 실행 중인 키로 들어온 요청은 그 실행이 끝날 때까지 기다렸다가 같은 응답을 받는다. RFC 전송 전에 실패하면(동시 호출 제한, 대기 중 기한 초과 등)
+ * 키를 삭제하여 재시도할 수 있도록 하고, 전송 후 실패하면(기한 초과로 응답 대기 포기, 응답 매핑 실패 등) SAP 처리 여부를 알 수 없으므로
+ * TTL 동안 "결과 알 수 없음" 으로 보관하여 같은 키의 재시도를 409 로 거부한다.
+ * 보관 한도를 넘으면 가장 먼저 완료된 키부터 정리한다.
+ * db-enabled 인 경우 완료된 응답을 DB 에도 저장하여 재기동 후나 다른 인스턴스에서도 재사용한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String WAIT_STAGE = "idempotency-wait";
+    private static final byte NULL_MARKER = 'N';
+    private static final byte VALUE_MARKER = 'V';
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${proxy.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${proxy.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${proxy.idempotency.db-enabled:false}")
+    private boolean dbEnabled;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+    private final LongAdder outcomeUnknown = new LongAdder();
+    /** 완료 순서의 키 (보관 한도 초과 시 오래된 키부터 정리) */
+    private final Queue<Completed> completed = new ConcurrentLinkedQueue<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 키 기준으로 한 번만 실행
+     *
+     * @param key         호출자 범위가 포함된 Idempotency-Key
+     * @param fingerprint 매핑된 요청 데이터 지문
+     * @param action      실제 실행 (최초 요청에서만 호출)
+     */
+    public SimpleProxyResponse execute(ExecutionContext context, String key, String fingerprint,
+        Callable<SimpleProxyResponse> action) throws Exception {
+        Entry created = new Entry(fingerprint);
+        Entry existing = entries.putIfAbsent(key, created);
+
+        if (existing != null && existing.isExpired()) {
+            entries.remove(key, existing);
+            existing = entries.putIfAbsent(key, created);
+        }
+
+        if (existing != null) {
+            return replay(context, key, existing, fingerprint);
+        }
+
+        boolean invoked = false;
+        try {
+            SimpleProxyResponse stored = dbEnabled ? findStored(key, fingerprint) : null;
+            if (stored != null) {
+                complete(key, created, stored);
+                replayed.increment();
+                log.info("Replaying stored response for Idempotency-Key {} (requestId={})", key, stored.requestId());
+                return stored;
+            }
+
+            invoked = true;
+            SimpleProxyResponse response = action.call();
+            executed.increment();
+            complete(key, created, response);
+
+            if (dbEnabled) {
+                save(key, fingerprint, response);
+            }
+            return response;
+        } catch (Exception e) {
+            if (invoked && !isNotSent(e)) {
+                // SAP 처리 여부를 알 수 없으므로 다시 실행하지 않도록 보관
+                created.outcomeUnknown = true;
+                created.expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+                completed.add(new Completed(key, created));
+                outcomeUnknown.increment();
+                log.warn("Outcome unknown for Idempotency-Key {}, retries are rejected until it expires", key);
+            } else {
+                entries.remove(key, created);
+            }
+            created.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * RFC 를 보내기 전에 실패했는지 (다시 실행해도 안전한지)
+     */
+    private static boolean isNotSent(Exception e) {
+        if (e instanceof DeadlineExceededException deadline) {
+            return !DeadlineMetrics.STAGE_RFC.equals(deadline.getStage());
+        }
+        return e instanceof SapOverloadedException
+            || e instanceof RateLimitExceededException
+            || e instanceof InterfaceMappingException
+            || e instanceof NotFoundException;
+    }
+
+    /**
+     * 응답 보관, 보관 한도를 넘으면 가장 먼저 완료된 키부터 정리
+     */
+    private void complete(String key, Entry entry, SimpleProxyResponse response) {
+        entry.complete(response);
+        completed.add(new Completed(key, entry));
+
+        if (entries.size() > maxEntries) {
+            evictExpired();
+        }
+        while (entries.size() > maxEntries) {
+            Completed oldest = completed.poll();
+            if (oldest == null) {
+                break;
+            }
+            if (entries.remove(oldest.key(), oldest.entry())) {
+                overflow.increment();
+            }
+        }
+    }
+
+    /**
+     * 매핑된 요청 데이터 지문 (인터페이스 ID, Import 파라미터, 테이블 행)
+     */
+    public static String fingerprint(String interfaceId, BoundRequest bound) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, interfaceId.toUpperCase());
+
+            Map<String, Object> importParams = (bound.importParams() != null) ? bound.importParams() : Map.of();
+            new TreeMap<>(importParams).forEach((name, value) -> {
+                update(digest, name);
+                updateValue(digest, value);
+            });
+
+            for (BoundTable table : bound.tables()) {
+                update(digest, table.sapTable());
+                for (String column : table.columns()) {
+                    update(digest, column);
+                }
+                for (Object[] row : table.rows()) {
+                    for (Object value : row) {
+                        updateValue(digest, value);
+                    }
+                }
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * 값 앞에 종류 표시 (null 과 문자열 "null" 구분)
+     */
+    private static void updateValue(MessageDigest digest, Object value) {
+        if (value == null) {
+            digest.update(NULL_MARKER);
+            return;
+        }
+        digest.update(VALUE_MARKER);
+        update(digest, String.valueOf(value));
+    }
+
+    private SimpleProxyResponse replay(ExecutionContext context, String key, Entry existing, String fingerprint) {
+        if (!existing.fingerprint.equals(fingerprint)) {
+            conflicts.increment();
+            throw new IdempotencyConflictException(key, "Idempotency-Key was already used with a different request payload");
+        }
+
+        if (existing.outcomeUnknown) {
+            throw outcomeUnknown(key);
+        }
+
+        try {
+            SimpleProxyResponse response = context.hasDeadline()
+                ? existing.response.get(Math.max(context.remainingMillis(), 1), TimeUnit.MILLISECONDS)
+                : existing.response.get();
+
+            replayed.increment();
+            log.info("Replaying response for Idempotency-Key {} (requestId={})", key, response.requestId());
+            return response;
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(WAIT_STAGE, context.getTimeoutMillis(),
+                "Request deadline exceeded while waiting for the in-flight request with the same Idempotency-Key");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProxyException("Interrupted while waiting for Idempotency-Key " + key, e);
+        } catch (ExecutionException e) {
+            if (existing.outcomeUnknown) {
+                throw outcomeUnknown(key);
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ProxyException("Request with the same Idempotency-Key failed: " + e.getCause().getMessage(),
+                e.getCause());
+        }
+    }
+
+    private IdempotencyOutcomeUnknownException outcomeUnknown(String key) {
+        return new IdempotencyOutcomeUnknownException(key,
+            "The request with the same Idempotency-Key may have been processed by SAP but its outcome is unknown");
+    }
+
+    private SimpleProxyResponse findStored(String key, String fingerprint) {
+        IdempotencyRecord record = repository.findById(key)
+            .filter(found -> found.getExpiresAt().isAfter(LocalDateTime.now()))
+            .orElse(null);
+
+        if (record == null) {
+            return null;
+        }
+        if (!record.getFingerprint().equals(fingerprint)) {
+            conflicts.increment();
+            throw new IdempotencyConflictException(key, "Idempotency-Key was already used with a different request payload");
+        }
+
+        try {
+            return objectMapper.readValue(record.getResponse(), SimpleProxyResponse.class);
+        } catch (Exception e) {
+            log.warn("Failed to read stored response for Idempotency-Key {}", key, e);
+            return null;
+        }
+    }
+
+    private void save(String key, String fingerprint, SimpleProxyResponse response) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            repository.save(IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .fingerprint(fingerprint)
+                .requestId(response.requestId())
+                .response(objectMapper.writeValueAsString(response))
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+        } catch (Exception e) {
+            log.warn("Failed to store response for Idempotency-Key {}", key, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${proxy.idempotency.evict-interval:60000}")
+    public void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        completed.removeIf(item -> entries.get(item.key()) != item.entry());
+
+        if (dbEnabled) {
+            try {
+                repository.deleteExpired(LocalDateTime.now());
+            } catch (Exception e) {
+                log.warn("Failed to delete expired idempotency records", e);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttl", ttl.toString());
+        stats.put("dbEnabled", dbEnabled);
+        stats.put("executed", executed.sum());
+        stats.put("replayed", replayed.sum());
+        stats.put("conflicts", conflicts.sum());
+        stats.put("overflow", overflow.sum());
+        stats.put("outcomeUnknown", outcomeUnknown.sum());
+        return stats;
+    }
+
+    private record Completed(String key, Entry entry) {
+
+    }
+
+    private final class Entry {
+
+        private final String fingerprint;
+        private final CompletableFuture<SimpleProxyResponse> response = new CompletableFuture<>();
+        /** 완료 전에는 만료되지 않음 */
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+        /** RFC 전송 후 실패 (response 완료 전에 설정) */
+        private volatile boolean outcomeUnknown;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void complete(SimpleProxyResponse value) {
+            expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+            response.complete(value);
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
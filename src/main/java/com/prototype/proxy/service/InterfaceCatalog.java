@@ -0,0 +1,137 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.prototype.proxy.dto.InterfaceSummaryDto;
+import com.prototype.proxy.exception.ProxyException;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.registry.InterfaceRegistryChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인터페이스 목록 캐시<br/>Registry 버전별로 전체 정의 목록을 한 번만 직렬화하여 보관하고, 내용 기반 ETag 를 함께 제공
+ * <p>
+ * 응답 본문(requestId, executionTimeMs 등)은 요청마다 만들고, 정의 목록만 직렬화된 JSON 을 그대로 포함한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterfaceCatalog {
+
+    private final InterfaceRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    private volatile Catalog catalog;
+
+    public Catalog getCatalog() {
+        Catalog current = catalog;
+        if (current != null && current.version() == registry.getVersion()) {
+            return current;
+        }
+
+        return rebuild();
+    }
+
+    /**
+     * 인터페이스 요약 목록 조회 (ID 순)
+     */
+    public Map<String, Object> getSummaries(int page, int size) {
+        List<InterfaceSummaryDto> summaries = getCatalog().summaries();
+
+        int from = Math.min(page * size, summaries.size());
+        int to = Math.min(from + size, summaries.size());
+
+        return Map.of(
+            "interfaces", summaries.subList(from, to),
+            "page", page,
+            "size", size,
+            "totalCount", summaries.size()
+        );
+    }
+
+    @EventListener
+    public void onRegistryChanged(InterfaceRegistryChangedEvent event) {
+        catalog = null;
+    }
+
+    private synchronized Catalog rebuild() {
+        long version = registry.getVersion();
+        Catalog current = catalog;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        Map<String, InterfaceDefinition> definitions = new TreeMap<>(registry.getAllDefinitions());
+
+        try {
+            byte[] content = objectMapper.writeValueAsBytes(definitions);
+
+            List<InterfaceSummaryDto> summaries = definitions.values().stream()
+                .map(d -> new InterfaceSummaryDto(d.getId(), d.getName(), d.getSapModule(), d.getRfcFunction()))
+                .toList();
+
+            Catalog rebuilt = new Catalog(version, new RawValue(new String(content, StandardCharsets.UTF_8)),
+                etagOf(content), summaries);
+            catalog = rebuilt;
+
+            log.debug("Interface catalog rebuilt. version={}, interfaces={}, bytes={}",
+                version, definitions.size(), content.length);
+            return rebuilt;
+        } catch (JsonProcessingException e) {
+            throw new ProxyException("Failed to serialize interface catalog", e);
+        }
+    }
+
+    /**
+     * 여러 서버 간에도 동일한 정의이면 같은 값이 되도록 내용 해시로 생성
+     */
+    private static String etagOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 인터페이스 목록
+     *
+     * @param definitions 인터페이스 ID 순 정의 목록 (JSON), 응답 직렬화 시 그대로 출력
+     * @param etag        따옴표를 포함한 ETag 값
+     */
+    public record Catalog(long version, RawValue definitions, String etag, List<InterfaceSummaryDto> summaries) {
+
+        /**
+         * If-None-Match 헤더 값과 일치 여부 (목록 및 weak 비교 지원)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals(etag) || candidate.equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
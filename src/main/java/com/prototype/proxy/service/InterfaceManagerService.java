@@ -3,6 +3,7 @@ package com.prototype.proxy.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import com.prototype.proxy.context.RequestIds;
 import com.prototype.proxy.logging.LoggingService;
 import com.prototype.proxy.model.SimpleProxyResponse;
 import com.prototype.proxy.registry.InterfaceDefinition;
@@ -10,8 +11,8 @@ import com.prototype.proxy.registry.InterfaceRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -56,7 +57,7 @@ public class InterfaceManagerService {
         }
 
         long start = System.currentTimeMillis();
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestIds.current();
         String filename = definition.getId() + ".yml";
         File file = new File(getRealFilePath() + filename);
 
@@ -79,7 +80,7 @@ public class InterfaceManagerService {
                 response
             );
 
-            registry.reload();
+            registry.refresh(List.of(file.toPath()));
         } catch (IOException e) {
             log.error("Failed to save interface definition", e);
             loggingService.logError(
@@ -95,7 +96,7 @@ public class InterfaceManagerService {
 
     public void deleteInterface(String interfaceId, HttpServletRequest request) {
         long start = System.currentTimeMillis();
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestIds.current();
         String filename = interfaceId.toUpperCase() + ".yml";
         File file = new File(getRealFilePath() + filename);
 
@@ -103,7 +104,7 @@ public class InterfaceManagerService {
             if (file.exists()) {
                 if (file.delete()) {
                     log.info("Interface definition deleted: {}", filename);
-                    registry.reload();
+                    registry.refresh(List.of(file.toPath()));
                 } else {
                     throw new RuntimeException("Failed to delete file: " + filename);
                 }
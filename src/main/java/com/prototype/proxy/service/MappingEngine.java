@@ -1,13 +1,12 @@
 package com.prototype.proxy.service;
 
-import com.prototype.proxy.context.RequestContext;
+import com.prototype.proxy.context.ExecutionContext;
 import com.prototype.proxy.exception.InterfaceMappingException;
 import com.prototype.proxy.registry.InterfaceDefinition.FieldMapping;
 import com.prototype.proxy.registry.InterfaceDefinition.ReturnTableMapping;
 import com.prototype.proxy.registry.InterfaceDefinition.ExportMapping;
 import com.prototype.proxy.registry.InterfaceDefinition.ImportMapping;
 import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
@@ -15,25 +14,39 @@ import org.springframework.util.ObjectUtils;
 import java.util.*;
 
 /**
- * WEB ↔ SAP 데이터 매핑 엔진
+ * WEB ↔ SAP 데이터 매핑 엔진<br/>다중 행 테이블은 행 수가 proxy.mapping.parallel-threshold 이상이면 ParallelRowMapper 로 병렬 매핑
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MappingEngine {
 
-    private final RequestContext requestContext;
+    private final ParallelRowMapper rowMapper;
+
+    public MappingEngine(ParallelRowMapper rowMapper) {
+        this.rowMapper = rowMapper;
+    }
 
     /**
      * 공통 값 검증 메서드
      */
-    private Object validate(String field, Object value, boolean required, int size,
+    private Object validate(ExecutionContext context, String field, Object value, boolean required, int size,
         String defaultValue) {
-        String interfaceId = requestContext.getInterfaceId();
+        return validate(context, null, -1, field, value, required, size, defaultValue);
+    }
+
+    /**
+     * 테이블 필드 값 검증<br/>필드 경로(table[row].field)는 오류 메시지를 만들 때만 생성
+     *
+     * @param table 테이블 WEB 필드명, 최상위 필드이면 null
+     * @param row   행 번호, 단일 값 테이블이면 -1
+     */
+    Object validate(ExecutionContext context, String table, int row, String field, Object value,
+        boolean required, int size, String defaultValue) {
+        String interfaceId = context.getInterfaceId();
 
         if (size <= 0) {
             throw new InterfaceMappingException(interfaceId,
-                "Size configuration missing for: " + field);
+                "Size configuration missing for: " + fieldPath(table, row, field));
         }
 
         if (ObjectUtils.isEmpty(value) && defaultValue != null) {
@@ -43,28 +56,37 @@ public class MappingEngine {
         if (ObjectUtils.isEmpty(value)) {
             if (required) {
                 throw new InterfaceMappingException(interfaceId,
-                    "Required field missing: " + field);
+                    "Required field missing: " + fieldPath(table, row, field));
             }
             return defaultValue;
         }
 
-        if (String.valueOf(value).length() > size) {
+        int length = (value instanceof String text) ? text.length() : String.valueOf(value).length();
+        if (length > size) {
             throw new InterfaceMappingException(interfaceId,
                 String.format("Size exceeded, field: %s (Max: %d, Actual: %d)",
-                    field, size, String.valueOf(value).length()));
+                    fieldPath(table, row, field), size, length));
         }
 
         return value;
     }
 
+    private String fieldPath(String table, int row, String field) {
+        if (table == null) {
+            return field;
+        }
+        return (row < 0) ? table + "." + field : table + "[" + row + "]." + field;
+    }
+
     /**
      * WEB 데이터 → SAP RFC Import 파라미터 매핑
      *
+     * @param context  실행 컨텍스트
      * @param webData  WEB에서 전송한 데이터
      * @param mappings Import 매핑 정의
      * @return 매핑된 Import 파라미터
      */
-    public Map<String, Object> mapImportParameters(Map<String, Object> webData,
+    public Map<String, Object> mapImportParameters(ExecutionContext context, Map<String, Object> webData,
         List<ImportMapping> mappings) {
         Map<String, Object> importParams = new HashMap<>();
 
@@ -74,6 +96,7 @@ public class MappingEngine {
 
         for (ImportMapping mapping : mappings) {
             Object value = validate(
+                context,
                 mapping.getWebField(),
                 webData.get(mapping.getWebField()),
                 mapping.isRequired(),
@@ -92,12 +115,13 @@ public class MappingEngine {
     /**
      * WEB 데이터 → SAP RFC Table 매핑<br/>단일 값(singleValue=true)과 배열 모두 지원
      *
+     * @param context  실행 컨텍스트
      * @param webData  WEB에서 전송한 데이터
      * @param mappings Table 매핑 정의
      * @return 매핑된 Table 데이터 (테이블명 → 행 목록)
      */
     @SuppressWarnings("unchecked")
-    public Map<String, List<Map<String, Object>>> mapTables(Map<String, Object> webData,
+    public Map<String, List<Map<String, Object>>> mapTables(ExecutionContext context, Map<String, Object> webData,
         List<TableMapping> mappings) {
         Map<String, List<Map<String, Object>>> tables = new HashMap<>();
 
@@ -111,7 +135,7 @@ public class MappingEngine {
             // 테이블 필수 데이터가 비어있는지 체크
             if (ObjectUtils.isEmpty(webValue)) {
                 if (tableMapping.isRequired()) {
-                    throw new InterfaceMappingException(requestContext.getInterfaceId(),
+                    throw new InterfaceMappingException(context.getInterfaceId(),
                         "Required table missing: " + tableMapping.getWebFields());
                 }
             }
@@ -119,7 +143,7 @@ public class MappingEngine {
             // 필드 매핑 설정 정보가 없는 경우
             if (ObjectUtils.isEmpty(tableMapping.getFields())) {
                 throw new InterfaceMappingException(
-                    requestContext.getInterfaceId(),
+                    context.getInterfaceId(),
                     "No fields configured for table mapping: SAP table ["
                         + tableMapping.getSapTable() + "]"
                 );
@@ -129,7 +153,7 @@ public class MappingEngine {
 
             if (tableMapping.isSingleValue()) {
                 if (webValue instanceof List) {
-                    throw new InterfaceMappingException(requestContext.getInterfaceId(),
+                    throw new InterfaceMappingException(context.getInterfaceId(),
                         String.format(
                             "Expected object for single value field '%s', but received array/list.",
                             tableMapping.getWebFields()
@@ -148,7 +172,10 @@ public class MappingEngine {
                     }
 
                     Object validatedValue = validate(
-                        tableMapping.getWebFields() + "." + fieldMapping.getWebField(),
+                        context,
+                        tableMapping.getWebFields(),
+                        -1,
+                        fieldMapping.getWebField(),
                         rawValue,
                         fieldMapping.isRequired(),
                         fieldMapping.getSize(),
@@ -165,7 +192,7 @@ public class MappingEngine {
                     tableMapping.getWebFields(), tableMapping.getSapTable(), webValue);
             } else {
                 if (!(webValue instanceof List)) {
-                    throw new InterfaceMappingException(requestContext.getInterfaceId(),
+                    throw new InterfaceMappingException(context.getInterfaceId(),
                         String.format(
                             "Expected array/list for multi-row field '%s', but received object/string.",
                             tableMapping.getWebFields()
@@ -175,14 +202,17 @@ public class MappingEngine {
 
                 List<Map<String, Object>> rows = (List<Map<String, Object>>) webValue;
 
-                for (int i = 0; i < rows.size(); i++) {
-                    Map<String, Object> webRow = rows.get(i);
+                // 병렬 매핑 시에도 행 순서를 유지하고, 검증 오류는 가장 앞선 행 기준으로 발생
+                tableRows = rowMapper.map(rows, (i, webRow) -> {
                     Map<String, Object> sapRow = new HashMap<>();
 
                     for (FieldMapping fieldMapping : tableMapping.getFields()) {
                         Object rawValue = webRow.get(fieldMapping.getWebField());
                         Object validatedValue = validate(
-                            tableMapping.getWebFields() + "[" + i + "]." + fieldMapping.getWebField(),
+                            context,
+                            tableMapping.getWebFields(),
+                            i,
+                            fieldMapping.getWebField(),
                             rawValue,
                             fieldMapping.isRequired(),
                             fieldMapping.getSize(),
@@ -193,8 +223,8 @@ public class MappingEngine {
                             sapRow.put(fieldMapping.getSapField(), validatedValue);
                         }
                     }
-                    tableRows.add(sapRow);
-                }
+                    return sapRow;
+                });
                 log.trace("Mapped table: {} -> {} ({} rows)",
                     tableMapping.getWebFields(), tableMapping.getSapTable(), rows.size());
             }
@@ -253,9 +283,7 @@ public class MappingEngine {
                 continue;
             }
 
-            List<Map<String, Object>> webRows = new ArrayList<>();
-
-            for (Map<String, Object> sapRow : sapTable) {
+            List<Map<String, Object>> webRows = rowMapper.map(sapTable, (i, sapRow) -> {
                 Map<String, Object> webRow = new HashMap<>();
 
                 for (FieldMapping fieldMapping : mapping.getFields()) {
@@ -265,8 +293,8 @@ public class MappingEngine {
                     }
                 }
 
-                webRows.add(webRow);
-            }
+                return webRow;
+            });
 
             result.put(mapping.getWebReturnList(), webRows);
         }
@@ -0,0 +1,131 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceDefinition.FieldMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.ImportMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인터페이스 정의에서 미리 계산한 요청 바인딩 계획<br/>WEB 필드명 → Import 슬롯 / 테이블 컬럼 위치를 조회 테이블로 보관
+ * <p>
+ * 하나의 WEB 필드를 여러 매핑이 사용하는 등 토큰 단위로 바인딩할 수 없는 정의는 streamable=false 로 표시하며,
+ * 이 경우 요청 데이터를 Map 으로 변환하여 기존 MappingEngine 으로 처리한다.
+ */
+final class MappingPlan {
+
+    private final InterfaceDefinition definition;
+    private final List<ImportMapping> imports;
+    private final Map<String, Integer> importIndex;
+    private final List<TablePlan> tables;
+    private final Map<String, TablePlan> tableIndex;
+    private final boolean streamable;
+
+    private MappingPlan(InterfaceDefinition definition, List<ImportMapping> imports, Map<String, Integer> importIndex,
+        List<TablePlan> tables, Map<String, TablePlan> tableIndex, boolean streamable) {
+        this.definition = definition;
+        this.imports = imports;
+        this.importIndex = importIndex;
+        this.tables = tables;
+        this.tableIndex = tableIndex;
+        this.streamable = streamable;
+    }
+
+    static MappingPlan compile(InterfaceDefinition definition) {
+        boolean streamable = true;
+
+        List<ImportMapping> imports = (definition.getImportMapping() != null)
+            ? List.copyOf(definition.getImportMapping()) : List.of();
+        Map<String, Integer> importIndex = new HashMap<>();
+
+        for (int i = 0; i < imports.size(); i++) {
+            String webField = imports.get(i).getWebField();
+            if (webField == null || importIndex.putIfAbsent(webField, i) != null) {
+                streamable = false;
+            }
+        }
+
+        List<TablePlan> tables = new ArrayList<>();
+        Map<String, TablePlan> tableIndex = new HashMap<>();
+
+        if (definition.getTableMapping() != null) {
+            for (TableMapping mapping : definition.getTableMapping()) {
+                TablePlan table = TablePlan.of(tables.size(), mapping);
+                tables.add(table);
+
+                String webFields = mapping.getWebFields();
+                if (webFields == null || !table.streamable() || importIndex.containsKey(webFields)
+                    || tableIndex.putIfAbsent(webFields, table) != null) {
+                    streamable = false;
+                }
+            }
+        }
+
+        return new MappingPlan(definition, imports, Map.copyOf(importIndex), List.copyOf(tables),
+            Map.copyOf(tableIndex), streamable);
+    }
+
+    InterfaceDefinition definition() {
+        return definition;
+    }
+
+    List<ImportMapping> imports() {
+        return imports;
+    }
+
+    /**
+     * @return Import 슬롯 위치, 매핑되지 않은 필드이면 null
+     */
+    Integer importSlot(String webField) {
+        return importIndex.get(webField);
+    }
+
+    List<TablePlan> tables() {
+        return tables;
+    }
+
+    /**
+     * @return 테이블 계획, 매핑되지 않은 필드이면 null
+     */
+    TablePlan table(String webFields) {
+        return tableIndex.get(webFields);
+    }
+
+    boolean streamable() {
+        return streamable;
+    }
+
+    /**
+     * @param position 정의 내 테이블 순서
+     * @param columns  SAP 필드명 (fields 순서)
+     */
+    record TablePlan(
+        int position,
+        TableMapping mapping,
+        FieldMapping[] fields,
+        String[] columns,
+        Map<String, Integer> fieldIndex,
+        boolean streamable
+    ) {
+
+        private static TablePlan of(int position, TableMapping mapping) {
+            List<FieldMapping> fieldList = (mapping.getFields() != null) ? mapping.getFields() : List.of();
+            FieldMapping[] fields = fieldList.toArray(FieldMapping[]::new);
+            String[] columns = new String[fields.length];
+            Map<String, Integer> fieldIndex = new HashMap<>();
+            boolean streamable = true;
+
+            for (int i = 0; i < fields.length; i++) {
+                columns[i] = fields[i].getSapField();
+                if (fields[i].getWebField() == null || fieldIndex.putIfAbsent(fields[i].getWebField(), i) != null) {
+                    streamable = false;
+                }
+            }
+
+            return new TablePlan(position, mapping, fields, columns, Map.copyOf(fieldIndex), streamable);
+        }
+    }
+}
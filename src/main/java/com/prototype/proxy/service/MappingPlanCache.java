@@ -0,0 +1,46 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceRegistryChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인터페이스별 요청 바인딩 계획 캐시<br/>정의가 교체되면(Registry 변경 이벤트 또는 다른 정의 객체) 다시 생성
+ */
+@Slf4j
+@Component
+public class MappingPlanCache {
+
+    private final Map<String, MappingPlan> plans = new ConcurrentHashMap<>();
+
+    MappingPlan get(InterfaceDefinition definition) {
+        String key = definition.getId().toUpperCase();
+        MappingPlan plan = plans.get(key);
+
+        if (plan == null || plan.definition() != definition) {
+            plan = MappingPlan.compile(definition);
+            plans.put(key, plan);
+
+            if (!plan.streamable()) {
+                log.info("Interface {} uses overlapping web fields, request data will be bound via map", key);
+            }
+        }
+
+        return plan;
+    }
+
+    @EventListener
+    public void onRegistryChanged(InterfaceRegistryChangedEvent event) {
+        if (event.fullReload()) {
+            plans.clear();
+            return;
+        }
+
+        event.changedIds().forEach(plans::remove);
+        event.removedIds().forEach(plans::remove);
+    }
+}
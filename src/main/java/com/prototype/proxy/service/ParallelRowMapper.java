@@ -0,0 +1,218 @@
+package com.prototype.proxy.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 행 단위 매핑 병렬 처리<br/>행 수가 기준 이상이면 전용 ForkJoinPool 에서 구간을 나누어 매핑하고, 미만이면 호출 스레드에서 순차 처리
+ * <p>
+ * 결과는 입력 행 순서를 유지한다. 매핑 중 예외가 발생하면 순차 처리와 같이 가장 앞선 행의 예외를 던지며,
+ * 실패 행 이후 구간은 처리를 중단한다. 풀의 스레드 수가 고정되어 있어 대량 매핑이 동시에 몰려도 요청 처리 스레드를 점유하지 않는다.
+ * 호출 스레드의 MDC(요청 ID 등)는 각 구간을 처리하는 동안 매핑 스레드에 전달된다.
+ */
+@Slf4j
+@Component
+public class ParallelRowMapper {
+
+    /** 구간 최소 행 수 (분할 비용 대비 효과가 있는 크기) */
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    /**
+     * 행 변환 함수
+     *
+     * @param <T> 입력 행
+     * @param <R> 매핑된 행
+     */
+    @FunctionalInterface
+    public interface RowFunction<T, R> {
+
+        R apply(int index, T row);
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelRowMapper(
+        @Value("${proxy.mapping.parallel-threshold:10000}") int threshold,
+        @Value("${proxy.mapping.parallelism:0}") int parallelism
+    ) {
+        this(threshold, createPool(parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1)));
+        log.info("Parallel row mapping enabled above {} rows (parallelism={})", threshold, pool.getParallelism());
+    }
+
+    ParallelRowMapper(int threshold, ForkJoinPool pool) {
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * 순차 처리만 하는 인스턴스 (스프링 컨텍스트 밖에서 MappingEngine 을 생성하는 경우)
+     */
+    static ParallelRowMapper sequential() {
+        return new ParallelRowMapper(Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * 매핑 전용 풀 생성<br/>스레드 수를 parallelism 으로 고정하고, 대기 중인 작업이 있어도 보상 스레드를 추가하지 않음
+     */
+    static ForkJoinPool createPool(int parallelism) {
+        AtomicInteger sequence = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("Mapping-" + sequence.incrementAndGet());
+            return thread;
+        };
+
+        return new ForkJoinPool(parallelism, factory, null, false,
+            0, parallelism, 1, pool -> true, 60, TimeUnit.SECONDS);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 행 목록 매핑
+     *
+     * @param rows     입력 행 (RandomAccess 목록)
+     * @param function 행 변환 함수, 같은 행에는 한 번만 호출
+     * @return 입력과 같은 순서의 매핑 결과
+     */
+    public <T, R> List<R> map(List<T> rows, RowFunction<T, R> function) {
+        int size = rows.size();
+
+        if (pool == null || size < threshold) {
+            List<R> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(function.apply(i, rows.get(i)));
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        R[] result = (R[]) new Object[size];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4));
+        Failure failure = new Failure();
+
+        pool.invoke(new Chunk<>(rows, function, result, 0, size, chunkSize, failure, MDC.getCopyOfContextMap()));
+
+        Failure.Entry first = failure.first.get();
+        if (first != null) {
+            throw first.exception();
+        }
+
+        return new ArrayList<>(Arrays.asList(result));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 가장 앞선 실패 행
+     */
+    private static final class Failure {
+
+        private record Entry(int index, RuntimeException exception) {
+
+        }
+
+        private final AtomicReference<Entry> first = new AtomicReference<>();
+
+        int index() {
+            Entry entry = first.get();
+            return (entry != null) ? entry.index() : Integer.MAX_VALUE;
+        }
+
+        void record(int index, RuntimeException exception) {
+            Entry candidate = new Entry(index, exception);
+            first.accumulateAndGet(candidate, (current, next) ->
+                (current == null || next.index() < current.index()) ? next : current);
+        }
+    }
+
+    private static final class Chunk<T, R> extends RecursiveAction {
+
+        private final List<T> rows;
+        private final RowFunction<T, R> function;
+        private final R[] result;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Failure failure;
+        private final Map<String, String> mdc;
+
+        private Chunk(List<T> rows, RowFunction<T, R> function, R[] result, int from, int to, int chunkSize,
+            Failure failure, Map<String, String> mdc) {
+            this.rows = rows;
+            this.function = function;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.failure = failure;
+            this.mdc = mdc;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new Chunk<>(rows, function, result, from, middle, chunkSize, failure, mdc),
+                    new Chunk<>(rows, function, result, middle, to, chunkSize, failure, mdc)
+                );
+                return;
+            }
+
+            // 매핑 스레드는 여러 요청의 구간을 처리하므로 구간마다 호출 스레드의 MDC 로 바꾸고 원래 값으로 복원
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setMdc(mdc);
+            try {
+                mapRows();
+            } finally {
+                setMdc(previous);
+            }
+        }
+
+        private void mapRows() {
+            for (int i = from; i < to; i++) {
+                // 앞선 행에서 이미 실패했으면 이후 행은 결과에 영향이 없으므로 중단
+                if (i > failure.index()) {
+                    return;
+                }
+
+                try {
+                    result[i] = function.apply(i, rows.get(i));
+                } catch (RuntimeException e) {
+                    failure.record(i, e);
+                    return;
+                }
+            }
+        }
+
+        private static void setMdc(Map<String, String> context) {
+            if (context != null) {
+                MDC.setContextMap(context);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.prototype.proxy.config.WireFormatConfig;
+import com.prototype.proxy.model.RequestPayload;
+import com.prototype.proxy.model.SimpleProxyRequest;
+import java.io.IOException;
+import java.util.Map;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+
+/**
+ * Proxy 실행 요청 본문 해석<br/>interfaceId, userId 만 읽고 data 항목은 건너뛰어 위치만 기록 (바인딩은 인터페이스 정의 확인 후 RequestBinder 에서 수행)
+ */
+@Component
+public class ProxyRequestReader {
+
+    private final ObjectMapper jsonMapper;
+    private final Map<String, ObjectMapper> binaryMappers;
+
+    public ProxyRequestReader(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+
+        ObjectMapper messagePackMapper = objectMapper.copyWith(new MessagePackFactory());
+        this.binaryMappers = Map.of(
+            WireFormatConfig.APPLICATION_CBOR, objectMapper.copyWith(new CBORFactory()),
+            WireFormatConfig.APPLICATION_SMILE, objectMapper.copyWith(new SmileFactory()),
+            WireFormatConfig.APPLICATION_MSGPACK, messagePackMapper,
+            WireFormatConfig.APPLICATION_MSGPACK_ALIAS, messagePackMapper
+        );
+    }
+
+    /**
+     * @throws BindException interfaceId 또는 data 가 없는 경우
+     */
+    public SimpleProxyRequest read(byte[] body, String contentType) throws BindException {
+        ObjectMapper mapper = resolveMapper(contentType);
+        boolean json = (mapper == jsonMapper);
+
+        SimpleProxyRequest request = new SimpleProxyRequest();
+        int dataOffset = -1;
+        int dataLength = -1;
+        boolean hasData = false;
+
+        try (JsonParser parser = mapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Request body must be an object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                switch (name) {
+                    case "interfaceId" -> request.setInterfaceId(parser.getValueAsString());
+                    case "userId" -> request.setUserId(parser.getValueAsString());
+                    case "data" -> {
+                        if (token == JsonToken.START_OBJECT) {
+                            hasData = true;
+                            long start = parser.currentTokenLocation().getByteOffset();
+                            parser.skipChildren();
+                            long end = parser.currentLocation().getByteOffset();
+
+                            if (json && start >= 0 && end > start) {
+                                dataOffset = (int) start;
+                                dataLength = (int) (end - start);
+                            }
+                        } else if (token != JsonToken.VALUE_NULL) {
+                            throw new IllegalArgumentException("Data must be an object");
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                parser.skipChildren();
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed request body: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read request body", e);
+        }
+
+        // @Validated 바인딩과 같은 형식(fieldErrors)으로 400 응답
+        BindingResult errors = new BeanPropertyBindingResult(request, "simpleProxyRequest");
+        if (!StringUtils.hasText(request.getInterfaceId())) {
+            errors.rejectValue("interfaceId", "NotBlank", "Interface ID is required");
+        }
+        if (!hasData) {
+            errors.rejectValue("data", "NotNull", "Data must exists");
+        }
+        if (errors.hasErrors()) {
+            throw new BindException(errors);
+        }
+
+        request.setPayload(new RequestPayload(body, mapper, dataOffset, dataLength));
+        return request;
+    }
+
+    private ObjectMapper resolveMapper(String contentType) {
+        if (contentType == null) {
+            return jsonMapper;
+        }
+
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        ObjectMapper mapper = binaryMappers.get(mediaType.getType() + "/" + mediaType.getSubtype());
+        return (mapper != null) ? mapper : jsonMapper;
+    }
+}
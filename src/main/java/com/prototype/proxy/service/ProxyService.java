@@ -1,17 +1,32 @@
 package com.prototype.proxy.service;
 
-import com.prototype.proxy.context.RequestContext;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.exception.DeadlineExceededException;
+import com.prototype.proxy.exception.IdempotencyConflictException;
+import com.prototype.proxy.exception.IdempotencyOutcomeUnknownException;
 import com.prototype.proxy.exception.InterfaceMappingException;
 import com.prototype.proxy.exception.NotFoundException;
 import com.prototype.proxy.exception.ProxyException;
+import com.prototype.proxy.exception.SapOverloadedException;
 import com.prototype.proxy.model.SimpleProxyRequest;
+import com.prototype.proxy.monitoring.DeadlineMetrics;
+import com.prototype.proxy.monitoring.LiveMetrics;
+import com.prototype.proxy.monitoring.ProxyFlightEvents;
+import com.prototype.proxy.monitoring.ProxyMetrics;
+import com.prototype.proxy.monitoring.ProxyTracing;
+import com.prototype.proxy.monitoring.ResponseSizeFilter;
 import com.prototype.proxy.registry.InterfaceDefinition;
 import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.service.InterfaceCatalog.Catalog;
+import com.prototype.proxy.service.RequestBinder.BoundRequest;
 import com.prototype.proxy.logging.LoggingService;
 import com.prototype.proxy.model.SimpleProxyResponse;
+import com.sap.conn.jco.JCoException;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,29 +43,77 @@ public class ProxyService {
 
     private final InterfaceRegistry registry;
     private final MappingEngine mappingEngine;
+    private final RequestBinder requestBinder;
     private final LoggingService loggingService;
     private final RfcExecutor rfcExecutor;
-    private final RequestContext requestContext;
+    private final LiveMetrics liveMetrics;
+    private final CallerRateLimiter rateLimiter;
+    private final DeadlineMetrics deadlineMetrics;
+    private final RfcHedger rfcHedger;
+    private final IdempotencyStore idempotencyStore;
+    private final ProxyMetrics proxyMetrics;
+    private final ProxyTracing tracing;
+    private final InterfaceCatalog interfaceCatalog;
 
     /**
      * Proxy 요청 실행
      */
-    public SimpleProxyResponse executeRfc(SimpleProxyRequest request) {
-        String requestId = UUID.randomUUID().toString();
-        request.setRequestId(requestId);
-        requestContext.setRequestId(requestId);
-        requestContext.setInterfaceId(request.getInterfaceId());
+    public SimpleProxyResponse executeRfc(SimpleProxyRequest request, ExecutionContext context) {
+        request.setRequestId(context.getRequestId());
 
         log.info("Received proxy request - ID: {}, Interface: {}",
             request.getRequestId(), request.getInterfaceId());
 
-        long startTime = System.currentTimeMillis();
+        long startTime = context.getStartTimeMillis();
+
+        // 매핑, 로그 저장 전에 호출자 제한 확인 (미등록 인터페이스는 인터페이스 단위 제한 제외)
+        // 정의는 여기서 한 번만 조회하여 이후 단계에 전달 (재로드 중 단계마다 다른 스냅샷을 읽지 않도록)
+        InterfaceDefinition registered = registry.find(request.getInterfaceId()).orElse(null);
+        String interfaceId = (registered != null) ? request.getInterfaceId() : null;
+        String rfcFunction = (registered != null) ? registered.getRfcFunction() : null;
+
+        ProxyFlightEvents.Request event = new ProxyFlightEvents.Request();
+        event.begin();
+        Span span = tracing.start(ProxyTracing.SPAN_EXECUTE, request.getInterfaceId(), rfcFunction);
+        try (Tracer.SpanInScope ignoredScope = tracing.inScope(span);
+             CallerRateLimiter.Permit ignored = rateLimiter.acquire(request.getUserId(), request.getIpAddress(), interfaceId)) {
+            SimpleProxyResponse response = execute(request, context, registered, startTime);
+            event.outcome = response.success() ? ProxyFlightEvents.OUTCOME_SUCCESS : ProxyFlightEvents.OUTCOME_BUSINESS_ERROR;
+            return response;
+        } catch (RuntimeException e) {
+            event.outcome = ProxyFlightEvents.OUTCOME_ERROR;
+            span.error(e);
+            throw e;
+        } finally {
+            if (event.outcome != null) {
+                span.tag(ProxyTracing.ATTR_OUTCOME, event.outcome);
+            }
+            span.end();
+            if (event.shouldCommit()) {
+                event.interfaceId = request.getInterfaceId();
+                event.rfcFunction = rfcFunction;
+                event.requestBytes = (request.getPayload() != null) ? request.getPayload().size() : 0;
+                // 응답 크기를 포함하도록 응답 직렬화 후 기록
+                ResponseSizeFilter.commitAfterResponse(event);
+            }
+        }
+    }
+
+    /**
+     * @param registered executeRfc 에서 조회한 정의, 등록되지 않은 인터페이스면 null
+     */
+    private SimpleProxyResponse execute(SimpleProxyRequest request, ExecutionContext context,
+        InterfaceDefinition registered, long startTime) {
         loggingService.logRequest(request);
 
         InterfaceDefinition definition = null;
 
         try {
-            definition = registry.get(request.getInterfaceId());
+            if (registered == null) {
+                throw new NotFoundException(request.getInterfaceId(),
+                    "Interface definition not found: " + request.getInterfaceId());
+            }
+            definition = registered;
 
             log.info("Executing interface: {} (Module: {}, RFC: {})",
                 definition.getId(),
@@ -58,36 +121,112 @@ public class ProxyService {
                 definition.getRfcFunction()
             );
 
-            Map<String, Object> importParams = mappingEngine.mapImportParameters(
-                request.getData(),
-                definition.getImportMapping()
-            );
-            Map<String, List<Map<String, Object>>> tables = mappingEngine.mapTables(
-                request.getData(),
-                definition.getTableMapping()
-            );
+            context.checkDeadline("mapping");
+            BoundRequest bound = bind(request, context, definition);
 
-            log.debug("Mapped import params: {}", importParams);
-            log.debug("Mapped tables: {}", tables.keySet());
+            log.debug("Mapped import params: {}", bound.importParams());
+            log.debug("Mapped tables: {}", bound.tables().stream().map(BoundTable::sapTable).toList());
 
-            // Mock 데이터 생성
-//            Map<String, Object> mockSapExport = createMockExportData(definition);
-//            Map<String, List<Map<String, Object>>> mockSapTables = createMockTableData(definition);
+            String idempotencyKey = request.getIdempotencyKey();
+            if (idempotencyKey == null) {
+                return invoke(request, context, definition, bound, startTime);
+            }
 
-            Map<String, Object> rfcResult = rfcExecutor.execute(
-                definition.getRfcFunction(),
-                importParams,
-                tables
+            InterfaceDefinition target = definition;
+            SimpleProxyResponse response = idempotencyStore.execute(
+                context,
+                (request.getUserId() != null ? request.getUserId() : "") + ":" + idempotencyKey,
+                IdempotencyStore.fingerprint(definition.getId(), bound),
+                () -> invoke(request, context, target, bound, startTime)
             );
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> sapExport = (Map<String, Object>) rfcResult.get("exportParams");
-            @SuppressWarnings("unchecked")
-            Map<String, List<Map<String, Object>>> sapTables =
-                (Map<String, List<Map<String, Object>>>) rfcResult.get("returnTables");
+            // 저장된 응답을 재사용한 경우 (요청 ID 는 최초 요청 기준)
+            if (!request.getRequestId().equals(response.requestId())) {
+                loggingService.logResponse(request, response, definition);
+            }
+            return response;
+        } catch (DeadlineExceededException e) {
+            if (!DeadlineMetrics.STAGE_RFC.equals(e.getStage())) {
+                deadlineMetrics.recordExpired(e.getStage());
+            }
+            loggingService.logError(request, e, definition);
+            recordFailure(request, definition, startTime, e);
+            throw e;
+        } catch (NotFoundException | InterfaceMappingException | SapOverloadedException
+                 | IdempotencyConflictException | IdempotencyOutcomeUnknownException e) {
+            loggingService.logError(request, e, definition);
+            recordFailure(request, definition, startTime, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("Request {} failed", request.getRequestId(), e);
+            loggingService.logError(request, e, definition);
+            recordFailure(request, definition, startTime, e);
+
+            throw new ProxyException(e.getMessage(), e, request.getRequestId());
+        }
+    }
+
+    private BoundRequest bind(SimpleProxyRequest request, ExecutionContext context, InterfaceDefinition definition) {
+        long mappingStart = System.nanoTime();
+        boolean mapped = false;
+        long rows = 0;
 
-            Map<String, Object> responseData = new HashMap<>();
+        ProxyFlightEvents.Mapping event = new ProxyFlightEvents.Mapping();
+        event.begin();
+        Span span = tracing.start(ProxyTracing.SPAN_REQUEST_MAPPING, definition.getId(), definition.getRfcFunction());
+        try {
+            BoundRequest bound = requestBinder.bind(context, request, definition);
+            mapped = true;
 
+            rows = bound.tables().stream().mapToLong(table -> table.rows().size()).sum();
+            proxyMetrics.recordRows(definition.getId(), "request", rows);
+            if (request.getPayload() != null) {
+                proxyMetrics.recordBytes(definition.getId(), "request", request.getPayload().size());
+            }
+            return bound;
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            proxyMetrics.recordPhase(ProxyMetrics.PHASE_REQUEST_MAPPING, definition.getId(), mapped, mappingStart);
+            commitMapping(event, definition, "request", rows, mapped);
+            span.tag(ProxyTracing.ATTR_ROWS, rows).end();
+        }
+    }
+
+    /**
+     * RFC 실행 및 응답 매핑
+     */
+    private SimpleProxyResponse invoke(SimpleProxyRequest request, ExecutionContext context,
+        InterfaceDefinition definition, BoundRequest bound, long startTime) throws JCoException {
+        // Mock 데이터 생성
+//        Map<String, Object> mockSapExport = createMockExportData(definition);
+//        Map<String, List<Map<String, Object>>> mockSapTables = createMockTableData(definition);
+
+        Map<String, Object> rfcResult = rfcExecutor.execute(
+            context,
+            definition.getRfcFunction(),
+            bound.importParams(),
+            bound.tables(),
+            rfcHedger.hedgeDelay(definition)
+        );
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> sapExport = (Map<String, Object>) rfcResult.get("exportParams");
+        @SuppressWarnings("unchecked")
+        Map<String, List<Map<String, Object>>> sapTables =
+            (Map<String, List<Map<String, Object>>>) rfcResult.get("returnTables");
+
+        Map<String, Object> responseData = new HashMap<>();
+
+        long mappingStart = System.nanoTime();
+        boolean mapped = false;
+        ProxyFlightEvents.Mapping mappingEvent = new ProxyFlightEvents.Mapping();
+        mappingEvent.begin();
+        long responseRows = (sapTables != null) ? sapTables.values().stream().mapToLong(List::size).sum() : 0;
+        Span mappingSpan = tracing.start(ProxyTracing.SPAN_RESPONSE_MAPPING, definition.getId(), definition.getRfcFunction())
+            .tag(ProxyTracing.ATTR_ROWS, responseRows);
+        try {
             responseData.putAll(mappingEngine.mapExportParameters(
                 sapExport,
                 definition.getExportMapping()
@@ -96,46 +235,81 @@ public class ProxyService {
                 sapTables,
                 definition.getReturnTableMapping()
             ));
+            mapped = true;
+        } catch (RuntimeException e) {
+            mappingSpan.error(e);
+            throw e;
+        } finally {
+            proxyMetrics.recordPhase(ProxyMetrics.PHASE_RESPONSE_MAPPING, definition.getId(), mapped, mappingStart);
+            commitMapping(mappingEvent, definition, "response", responseRows, mapped);
+            mappingSpan.end();
+        }
+        if (sapTables != null) {
+            proxyMetrics.recordRows(definition.getId(), "response", responseRows);
+        }
 
-            long executionTime = System.currentTimeMillis() - startTime;
+        long executionTime = System.currentTimeMillis() - startTime;
 
-            //비즈니스 로직 성공 여부 판단
-            boolean isSuccess = true;
-            String message = null;
+        //비즈니스 로직 성공 여부 판단
+        boolean isSuccess = true;
+        String message = null;
 
-            String eType = (String) responseData.get("E_TYPE");
-            String eMessage = (String) responseData.get("E_MESSAGE");
+        String eType = (String) responseData.get("E_TYPE");
+        String eMessage = (String) responseData.get("E_MESSAGE");
 
-            if (!ObjectUtils.isEmpty(eType)) {
-                if ("E".equalsIgnoreCase(eType)) {
-                    isSuccess = false;
-                    message = eMessage;
-                } else if ("P".equalsIgnoreCase(eType)) {
-                    message = eMessage;
-                }
+        if (!ObjectUtils.isEmpty(eType)) {
+            if ("E".equalsIgnoreCase(eType)) {
+                isSuccess = false;
+                message = eMessage;
+            } else if ("P".equalsIgnoreCase(eType)) {
+                message = eMessage;
             }
+        }
 
-            SimpleProxyResponse response = SimpleProxyResponse.of(
-                isSuccess,
-                message,
-                responseData,
-                request.getRequestId(),
-                executionTime
-            );
+        SimpleProxyResponse response = SimpleProxyResponse.of(
+            isSuccess,
+            message,
+            responseData,
+            request.getRequestId(),
+            executionTime
+        );
+
+        loggingService.logResponse(request, response, definition);
+
+        proxyMetrics.recordRequest(definition.getId(),
+            isSuccess ? ProxyMetrics.OUTCOME_SUCCESS : ProxyMetrics.OUTCOME_BUSINESS_ERROR, executionTime);
+        liveMetrics.record(definition.getId(), definition.getSapModule(), isSuccess, executionTime);
+        if (!isSuccess) {
+            liveMetrics.recordError(request.getRequestId(), definition.getId(), message);
+        }
+        log.info("Request {} completed in {}ms", request.getRequestId(), executionTime);
 
-            loggingService.logResponse(request, response, definition);
-            log.info("Request {} completed in {}ms", request.getRequestId(), executionTime);
+        return response;
+    }
 
-            return response;
-        } catch (NotFoundException | InterfaceMappingException e) {
-            loggingService.logError(request, e, definition);
-            throw e;
-        } catch (Exception e) {
-            log.error("Request {} failed", request.getRequestId(), e);
-            loggingService.logError(request, e, definition);
+    private void commitMapping(ProxyFlightEvents.Mapping event, InterfaceDefinition definition, String direction,
+        long rows, boolean success) {
+        if (event.shouldCommit()) {
+            event.interfaceId = definition.getId();
+            event.direction = direction;
+            event.rows = rows;
+            event.outcome = success ? ProxyFlightEvents.OUTCOME_SUCCESS : ProxyFlightEvents.OUTCOME_ERROR;
+            event.commit();
+        }
+    }
 
-            throw new ProxyException(e.getMessage(), e, request.getRequestId());
+    private void recordFailure(SimpleProxyRequest request, InterfaceDefinition definition, long startTime, Exception e) {
+        proxyMetrics.recordRequest(request.getInterfaceId(), ProxyMetrics.OUTCOME_ERROR,
+            System.currentTimeMillis() - startTime);
+
+        // 등록되지 않은 인터페이스 ID 는 집계 대상에서 제외 (임의 ID 로 인한 항목 증가 방지)
+        if (definition == null) {
+            return;
         }
+
+        liveMetrics.record(definition.getId(), definition.getSapModule(), false,
+            System.currentTimeMillis() - startTime);
+        liveMetrics.recordError(request.getRequestId(), definition.getId(), e.getMessage());
     }
 
     public SimpleProxyResponse getHealth(HttpServletRequest request) {
@@ -147,12 +321,22 @@ public class ProxyService {
         });
     }
 
-    public SimpleProxyResponse getInterfaceList(HttpServletRequest request) {
-        return executeSystemAction(request, () -> {
-            Map<String, Object> data = new HashMap<>();
-            data.put("interfaces", registry.getAllDefinitions());
-            return data;
-        });
+    /**
+     * 인터페이스 목록 조회<br/>정의 목록은 캐시된 JSON 을 그대로 사용하고, 접근 로그에는 정의 전체 대신 건수와 ETag 만 기록
+     */
+    public SimpleProxyResponse getInterfaceList(HttpServletRequest request, Catalog catalog) {
+        return executeSystemAction(request,
+            () -> Map.of("interfaces", catalog.definitions()),
+            data -> Map.of("interfaceCount", catalog.summaries().size(), "etag", catalog.etag()));
+    }
+
+    /**
+     * 인터페이스 요약 목록 페이지 조회<br/>접근 로그에는 목록 대신 페이지 정보와 전체 건수만 기록
+     */
+    public SimpleProxyResponse getInterfaceSummaries(HttpServletRequest request, int page, int size) {
+        return executeSystemAction(request,
+            () -> interfaceCatalog.getSummaries(page, size),
+            data -> Map.of("page", page, "size", size, "totalCount", data.get("totalCount")));
     }
 
     public SimpleProxyResponse getInterfaceDetail(String interfaceId, HttpServletRequest request) {
@@ -165,8 +349,15 @@ public class ProxyService {
     }
 
     private SimpleProxyResponse executeSystemAction(HttpServletRequest request, Supplier<Map<String, Object>> action) {
-        String requestId = UUID.randomUUID().toString();
-        requestContext.setRequestId(requestId);
+        return executeSystemAction(request, action, UnaryOperator.identity());
+    }
+
+    /**
+     * @param metadata 응답 데이터 → 접근 로그에 저장할 데이터
+     */
+    private SimpleProxyResponse executeSystemAction(HttpServletRequest request, Supplier<Map<String, Object>> action,
+        UnaryOperator<Map<String, Object>> metadata) {
+        String requestId = ExecutionContext.start(request, null).getRequestId();
 
         String path = request.getServletPath();
         String method = request.getMethod();
@@ -181,7 +372,8 @@ public class ProxyService {
             long duration = System.currentTimeMillis() - startTime;
             SimpleProxyResponse response = SimpleProxyResponse.success(data, requestId, duration);
 
-            loggingService.logResponse(requestId, path, method, ip, response);
+            loggingService.logResponse(requestId, path, method, ip,
+                SimpleProxyResponse.success(metadata.apply(data), requestId, duration));
             return response;
         } catch (Exception e) {
             loggingService.logError(requestId, path, method, ip, e);
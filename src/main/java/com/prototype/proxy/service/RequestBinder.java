@@ -0,0 +1,317 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.exception.InterfaceMappingException;
+import com.prototype.proxy.model.SimpleProxyRequest;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceDefinition.FieldMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.ImportMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
+import com.prototype.proxy.service.MappingPlan.TablePlan;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 요청 데이터 → SAP Import 파라미터 / Table 행 바인딩<br/>인터페이스별 바인딩 계획에 따라 요청 본문의 토큰을 바로 검증된 값과 테이블 행으로 변환
+ * <p>
+ * 매핑되지 않은 필드는 객체로 만들지 않고 건너뛴다. 검증 규칙과 오류 메시지는 MappingEngine 과 동일하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestBinder {
+
+    private final MappingEngine mappingEngine;
+    private final MappingPlanCache planCache;
+
+    /**
+     * @param importParams SAP Import 파라미터
+     * @param tables       SAP Table 파라미터 (정의 순서)
+     */
+    public record BoundRequest(Map<String, Object> importParams, List<BoundTable> tables) {
+
+    }
+
+    public BoundRequest bind(ExecutionContext context, SimpleProxyRequest request, InterfaceDefinition definition) {
+        MappingPlan plan = planCache.get(definition);
+
+        try {
+            if (request.getPayload() != null && plan.streamable()) {
+                try (JsonParser parser = request.getPayload().openData()) {
+                    return stream(context, plan, parser);
+                } catch (InterfaceMappingException e) {
+                    throw mappingError(context, plan, request, e);
+                }
+            }
+
+            Map<String, Object> data = (request.getData() != null)
+                ? request.getData()
+                : request.getPayload().toMap();
+            return bindMap(context, plan, data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request data", e);
+        }
+    }
+
+    /**
+     * 토큰 단위 바인딩 실패 시 MappingEngine 기준 오류<br/>토큰 단위 바인딩은 본문 순서로 검증하므로, 여러 항목이 잘못된 요청은
+     * Map 기반으로 다시 검증하여 MappingEngine 과 같은 순서(Import → 정의 순서의 Table)의 첫 오류를 반환
+     */
+    private InterfaceMappingException mappingError(ExecutionContext context, MappingPlan plan,
+        SimpleProxyRequest request, InterfaceMappingException streamError) {
+        try {
+            bindMap(context, plan, request.getPayload().toMap());
+        } catch (InterfaceMappingException e) {
+            return e;
+        } catch (IOException | RuntimeException e) {
+            return streamError;
+        }
+        return streamError;
+    }
+
+    /**
+     * 토큰 단위 바인딩
+     */
+    private BoundRequest stream(ExecutionContext context, MappingPlan plan, JsonParser parser) throws IOException {
+        Object[] importValues = new Object[plan.imports().size()];
+        List<TablePlan> tablePlans = plan.tables();
+        BoundTable[] tables = new BoundTable[tablePlans.size()];
+
+        checkTableFields(context, tablePlans);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+
+            Integer slot = plan.importSlot(name);
+            if (slot != null) {
+                importValues[slot] = readValue(parser);
+                continue;
+            }
+
+            TablePlan table = plan.table(name);
+            if (table != null) {
+                tables[table.position()] = readTable(context, table, parser);
+                continue;
+            }
+
+            parser.skipChildren();
+        }
+
+        Map<String, Object> importParams = new HashMap<>();
+        List<ImportMapping> imports = plan.imports();
+
+        for (int i = 0; i < importValues.length; i++) {
+            ImportMapping mapping = imports.get(i);
+            Object value = mappingEngine.validate(context, null, -1, mapping.getWebField(), importValues[i],
+                mapping.isRequired(), mapping.getSize(), mapping.getDefaultValue());
+
+            if (value != null) {
+                importParams.put(mapping.getSapField(), value);
+            }
+        }
+
+        List<BoundTable> boundTables = new ArrayList<>(tables.length);
+        for (TablePlan table : tablePlans) {
+            BoundTable bound = tables[table.position()];
+            boundTables.add((bound != null) ? bound : absentTable(context, table));
+        }
+
+        return new BoundRequest(importParams, boundTables);
+    }
+
+    private BoundTable readTable(ExecutionContext context, TablePlan table, JsonParser parser) throws IOException {
+        TableMapping mapping = table.mapping();
+        JsonToken token = parser.currentToken();
+
+        if (mapping.isSingleValue()) {
+            Object[] row;
+
+            if (token == JsonToken.START_OBJECT) {
+                row = new Object[table.fields().length];
+                if (readRow(table, parser, row) == 0) {
+                    requireTable(context, mapping);
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    requireTable(context, mapping);
+                }
+                throw new InterfaceMappingException(context.getInterfaceId(), String.format(
+                    "Expected object for single value field '%s', but received array/list.",
+                    mapping.getWebFields()));
+            } else {
+                Object value = readValue(parser);
+                if (ObjectUtils.isEmpty(value)) {
+                    requireTable(context, mapping);
+                }
+                row = new Object[table.fields().length];
+                Arrays.fill(row, value);
+            }
+
+            validateRow(context, table, -1, row);
+            return new BoundTable(mapping.getSapTable(), table.columns(), List.<Object[]>of(row));
+        }
+
+        if (token != JsonToken.START_ARRAY) {
+            boolean empty = (token == JsonToken.START_OBJECT)
+                ? parser.nextToken() == JsonToken.END_OBJECT
+                : ObjectUtils.isEmpty(readValue(parser));
+            if (empty) {
+                requireTable(context, mapping);
+            }
+            throw expectedArray(context, mapping);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new InterfaceMappingException(context.getInterfaceId(), String.format(
+                    "Expected object for row %d of field '%s'.", rows.size(), mapping.getWebFields()));
+            }
+
+            Object[] row = new Object[table.fields().length];
+            readRow(table, parser, row);
+            validateRow(context, table, rows.size(), row);
+            rows.add(row);
+        }
+
+        if (rows.isEmpty()) {
+            requireTable(context, mapping);
+        }
+
+        return new BoundTable(mapping.getSapTable(), table.columns(), rows);
+    }
+
+    /**
+     * 요청에 없는 테이블 (단일 값 테이블은 빈 값으로 한 행 생성)
+     */
+    private BoundTable absentTable(ExecutionContext context, TablePlan table) {
+        TableMapping mapping = table.mapping();
+        requireTable(context, mapping);
+
+        if (!mapping.isSingleValue()) {
+            throw expectedArray(context, mapping);
+        }
+
+        Object[] row = new Object[table.fields().length];
+        validateRow(context, table, -1, row);
+        return new BoundTable(mapping.getSapTable(), table.columns(), List.<Object[]>of(row));
+    }
+
+    /**
+     * 객체 하나를 행으로 읽음
+     *
+     * @return 객체의 필드 수 (매핑되지 않은 필드 포함)
+     */
+    private int readRow(TablePlan table, JsonParser parser, Object[] row) throws IOException {
+        int fieldCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            fieldCount++;
+            Integer column = table.fieldIndex().get(parser.currentName());
+            parser.nextToken();
+
+            if (column != null) {
+                row[column] = readValue(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return fieldCount;
+    }
+
+    private void validateRow(ExecutionContext context, TablePlan table, int rowIndex, Object[] row) {
+        FieldMapping[] fields = table.fields();
+        String webFields = table.mapping().getWebFields();
+
+        for (int i = 0; i < fields.length; i++) {
+            FieldMapping field = fields[i];
+            row[i] = mappingEngine.validate(context, webFields, rowIndex, field.getWebField(), row[i],
+                field.isRequired(), field.getSize(), field.getDefaultValue());
+        }
+    }
+
+    private Object readValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+            default -> parser.readValueAs(Object.class);
+        };
+    }
+
+    private void checkTableFields(ExecutionContext context, List<TablePlan> tables) {
+        for (TablePlan table : tables) {
+            if (table.fields().length == 0) {
+                throw new InterfaceMappingException(context.getInterfaceId(),
+                    "No fields configured for table mapping: SAP table [" + table.mapping().getSapTable() + "]");
+            }
+        }
+    }
+
+    private void requireTable(ExecutionContext context, TableMapping mapping) {
+        if (mapping.isRequired()) {
+            throw new InterfaceMappingException(context.getInterfaceId(),
+                "Required table missing: " + mapping.getWebFields());
+        }
+    }
+
+    private InterfaceMappingException expectedArray(ExecutionContext context, TableMapping mapping) {
+        return new InterfaceMappingException(context.getInterfaceId(), String.format(
+            "Expected array/list for multi-row field '%s', but received object/string.",
+            mapping.getWebFields()));
+    }
+
+    /**
+     * Map 기반 바인딩 (토큰 단위로 바인딩할 수 없는 정의)
+     */
+    private BoundRequest bindMap(ExecutionContext context, MappingPlan plan, Map<String, Object> data) {
+        InterfaceDefinition definition = plan.definition();
+
+        Map<String, Object> importParams = mappingEngine.mapImportParameters(
+            context, data, definition.getImportMapping());
+        Map<String, List<Map<String, Object>>> tables = mappingEngine.mapTables(
+            context, data, definition.getTableMapping());
+
+        List<BoundTable> boundTables = new ArrayList<>();
+        Set<String> boundNames = new HashSet<>();
+
+        for (TablePlan table : plan.tables()) {
+            List<Map<String, Object>> rows = tables.get(table.mapping().getSapTable());
+            if (rows == null || !boundNames.add(table.mapping().getSapTable())) {
+                continue;
+            }
+
+            String[] columns = table.columns();
+            List<Object[]> values = new ArrayList<>(rows.size());
+
+            for (Map<String, Object> row : rows) {
+                Object[] value = new Object[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    value[i] = row.get(columns[i]);
+                }
+                values.add(value);
+            }
+
+            boundTables.add(new BoundTable(table.mapping().getSapTable(), columns, values));
+        }
+
+        return new BoundRequest(importParams, boundTables);
+    }
+}
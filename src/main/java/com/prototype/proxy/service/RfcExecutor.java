@@ -1,9 +1,28 @@
 package com.prototype.proxy.service;
 
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.exception.DeadlineExceededException;
 import com.prototype.proxy.exception.NotFoundException;
+import com.prototype.proxy.exception.ProxyException;
+import com.prototype.proxy.exception.SapOverloadedException;
+import com.prototype.proxy.monitoring.DeadlineMetrics;
+import com.prototype.proxy.monitoring.JcoPoolMonitor;
+import com.prototype.proxy.monitoring.ProxyFlightEvents;
+import com.prototype.proxy.monitoring.ProxyMetrics;
+import com.prototype.proxy.monitoring.ProxyTracing;
 import com.sap.conn.jco.*;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.tracing.Span;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -13,51 +32,424 @@ import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RfcExecutor {
 
+    private static final int STATE_RUNNING = 0;
+    private static final int STATE_FINISHED = 1;
+    private static final int STATE_ABANDONED = 2;
+    private static final int STATE_DISCARDED = 3;
+
     private final JCoDestination destination;
+    private final JCoDestination hedgeDestination;
+    private final FunctionMetadataCache metadataCache;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RfcHedger rfcHedger;
+    private final DeadlineMetrics deadlineMetrics;
+    private final ProxyMetrics proxyMetrics;
+    private final JcoPoolMonitor poolMonitor;
+    private final Executor callExecutor;
+    private final ProxyTracing tracing;
+
+    public RfcExecutor(JCoDestination destination,
+        @Qualifier("hedgeDestination") ObjectProvider<JCoDestination> hedgeDestination,
+        FunctionMetadataCache metadataCache,
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        RfcHedger rfcHedger,
+        DeadlineMetrics deadlineMetrics,
+        ProxyMetrics proxyMetrics,
+        JcoPoolMonitor poolMonitor,
+        @Qualifier("rfcCallExecutor") Executor callExecutor,
+        ProxyTracing tracing) {
+        this.destination = destination;
+        // 보조 destination 이 없으면 RfcHedger 가 중복 요청을 비활성화함
+        this.hedgeDestination = hedgeDestination.getIfAvailable();
+        this.metadataCache = metadataCache;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rfcHedger = rfcHedger;
+        this.deadlineMetrics = deadlineMetrics;
+        this.proxyMetrics = proxyMetrics;
+        this.poolMonitor = poolMonitor;
+        this.callExecutor = callExecutor;
+        this.tracing = tracing;
+    }
+
+    public Map<String, Object> execute(ExecutionContext context
+        , String functionName
+        , Map<String, Object> importParams
+        , List<BoundTable> tables) throws JCoException {
+        return execute(context, functionName, importParams, tables, -1);
+    }
 
     /**
      * RFC Function 실행
      *
-     * @param functionName RFC Function 이름
-     * @param importParams Import 파라미터
-     * @param tables       Table 파라미터
+     * @param context          실행 컨텍스트 (처리 기한)
+     * @param functionName     RFC Function 이름
+     * @param importParams     Import 파라미터
+     * @param tables           Table 파라미터
+     * @param hedgeDelayMillis 응답이 없을 때 중복 요청을 보낼 때까지의 대기 시간(ms), 중복 요청하지 않으면 -1
      * @return Export 파라미터와 Return Table 데이터
      */
-    public Map<String, Object> execute(String functionName
+    public Map<String, Object> execute(ExecutionContext context
+        , String functionName
         , Map<String, Object> importParams
-        , Map<String, List<Map<String, Object>>> tables) throws JCoException {
+        , List<BoundTable> tables
+        , long hedgeDelayMillis) throws JCoException {
         log.debug("Executing RFC: {}", functionName);
 
-        JCoFunction function = destination.getRepository().getFunction(functionName);
-        if (function == null) {
-            throw new NotFoundException(functionName, "RFC function not found: " + functionName);
-        }
-
-        if (importParams != null && !importParams.isEmpty()) {
-            setImportParameters(function, importParams);
-        }
-
-        if (tables != null && !tables.isEmpty()) {
-            setTableParameters(function, tables);
+        // 대기 중 기한이 지난 요청은 SAP 호출 전에 폐기
+        context.checkDeadline(DeadlineMetrics.STAGE_SAP_QUEUE);
+
+        // SAP 동시 호출 제한 초과 시 파라미터 구성 전에 거부
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(functionName);
+
+        long prepareStart = System.nanoTime();
+        Span prepareSpan = tracing.start(ProxyTracing.SPAN_RFC_PREPARE, context.getInterfaceId(), functionName);
+        JCoFunction function;
+        try {
+            function = prepare(functionName, importParams, tables, permit);
+        } catch (JCoException | RuntimeException e) {
+            prepareSpan.error(e);
+            throw e;
+        } finally {
+            prepareSpan.end();
         }
+        proxyMetrics.recordPhase(ProxyMetrics.PHASE_RFC_PREPARE, context.getInterfaceId(), true, prepareStart);
 
         long startTime = System.currentTimeMillis();
-        function.execute(destination);
+        long callStart = System.nanoTime();
+        boolean called = false;
+        ProxyFlightEvents.RfcExecute callEvent = new ProxyFlightEvents.RfcExecute();
+        callEvent.begin();
+        // 연결 풀 대기(checkout)와 function.execute 를 포함, JCo 가 두 구간을 나누어 제공하지 않음
+        Span callSpan = tracing.start(ProxyTracing.SPAN_RFC_CALL, context.getInterfaceId(), functionName)
+            .tag("sap.destination", destination.getDestinationName());
+        try {
+            // 기본 기한만 있으면 요청 스레드에서 호출 (호출 스레드 풀을 점유하지 않음)
+            if (context.isExplicitDeadline() || hedgeDelayMillis >= 0) {
+                function = callAsync(context, function, permit, importParams, tables, hedgeDelayMillis);
+            } else {
+                call(function, destination, permit);
+            }
+            called = true;
+        } catch (JCoException | RuntimeException e) {
+            callSpan.error(e);
+            throw e;
+        } finally {
+            // 연결 풀 대기 시간 포함
+            proxyMetrics.recordPhase(ProxyMetrics.PHASE_RFC_CALL, context.getInterfaceId(), called, callStart);
+            if (called) {
+                rfcHedger.recordCallTime(context.getInterfaceId(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - callStart));
+            }
+            callSpan.end();
+            if (callEvent.shouldCommit()) {
+                callEvent.interfaceId = context.getInterfaceId();
+                callEvent.rfcFunction = functionName;
+                callEvent.rows = (tables != null) ? tables.stream().mapToLong(table -> table.rows().size()).sum() : 0;
+                callEvent.outcome = called ? ProxyFlightEvents.OUTCOME_SUCCESS : ProxyFlightEvents.OUTCOME_ERROR;
+                callEvent.commit();
+            }
+        }
         long executionTime = System.currentTimeMillis() - startTime;
 
         log.debug("RFC execution completed in {}ms", executionTime);
 
+        long extractStart = System.nanoTime();
+        ProxyFlightEvents.RfcExtract extractEvent = new ProxyFlightEvents.RfcExtract();
+        extractEvent.begin();
+        Span extractSpan = tracing.start(ProxyTracing.SPAN_RFC_EXTRACT, context.getInterfaceId(), functionName);
+        Map<String, List<Map<String, Object>>> returnTables = extractTableParameters(function);
         Map<String, Object> result = new HashMap<>();
         result.put("exportParams", extractExportParameters(function));
-        result.put("returnTables", extractTableParameters(function));
+        result.put("returnTables", returnTables);
         result.put("executionTimeMs", executionTime);
+        proxyMetrics.recordPhase(ProxyMetrics.PHASE_RFC_EXTRACT, context.getInterfaceId(), true, extractStart);
+        extractSpan.tag(ProxyTracing.ATTR_ROWS, returnTables.values().stream().mapToLong(List::size).sum()).end();
+        if (extractEvent.shouldCommit()) {
+            extractEvent.interfaceId = context.getInterfaceId();
+            extractEvent.rfcFunction = functionName;
+            extractEvent.rows = returnTables.values().stream().mapToLong(List::size).sum();
+            extractEvent.commit();
+        }
+
+        return result;
+    }
+
+    /**
+     * Function 생성 및 파라미터 설정, 어느 단계에서든 실패하면 허가 반환 (값 변환 오류 등)
+     */
+    private JCoFunction prepare(String functionName, Map<String, Object> importParams, List<BoundTable> tables,
+        AdaptiveConcurrencyLimiter.Permit permit) throws JCoException {
+        boolean prepared = false;
+        try {
+            JCoFunction function = metadataCache.getFunction(functionName);
+            if (function == null) {
+                throw new NotFoundException(functionName, "RFC function not found: " + functionName);
+            }
+
+            if (importParams != null && !importParams.isEmpty()) {
+                setImportParameters(function, importParams);
+            }
+
+            if (tables != null && !tables.isEmpty()) {
+                setTableParameters(function, tables);
+            }
+
+            prepared = true;
+            return function;
+        } finally {
+            if (!prepared) {
+                permit.ignore();
+            }
+        }
+    }
+
+    private void call(JCoFunction function, JCoDestination target, AdaptiveConcurrencyLimiter.Permit permit)
+        throws JCoException {
+        try {
+            function.execute(target);
+            permit.success();
+        } catch (JCoException e) {
+            if (isOverload(e)) {
+                permit.dropped();
+                poolMonitor.recordConnectionError(target.getDestinationName());
+            } else {
+                permit.success();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            permit.ignore();
+            throw e;
+        }
+    }
+
+    /**
+     * 별도 스레드에서 호출하고 처리 기한까지만 응답 대기 (연결 대기 시간 포함)<br/>헤더나 인터페이스 정의로 기한을 지정했거나 중복 요청을 하는 경우에만 사용
+     * <p>
+     * 기한이 지나면 호출을 포기(abandon)하고 DeadlineExceededException 을 던진다. JCo 는 실행 중인 RFC 를 다른 스레드에서
+     * 중단하는 API 를 제공하지 않으므로 SAP 측 처리는 끝날 때까지 진행되며, 그동안 동시 호출 허가도 유지하여 SAP 부하로 계산한다.
+     * 중복 요청 대기 시간 안에 응답이 없으면 hedge destination 으로 같은 호출을 보내고 먼저 성공한 응답을 사용한다.
+     *
+     * @return 응답을 받은 Function
+     */
+    private JCoFunction callAsync(ExecutionContext context, JCoFunction function, AdaptiveConcurrencyLimiter.Permit permit,
+        Map<String, Object> importParams, List<BoundTable> tables, long hedgeDelayMillis) throws JCoException {
+        Attempt primary = start(function, destination, permit);
+        if (primary == null) {
+            throw new SapOverloadedException(function.getName(), concurrencyLimiter.getLimit(),
+                "No RFC call thread available: " + function.getName());
+        }
+
+        if (hedgeDelayMillis >= 0 && hedgeDelayMillis < context.remainingMillis()) {
+            try {
+                return primary.future.get(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                Attempt hedge = startHedge(context, function.getName(), importParams, tables);
+                if (hedge != null) {
+                    return awaitHedged(context, primary, hedge);
+                }
+            } catch (InterruptedException e) {
+                throw interrupted(function.getName(), e, primary);
+            } catch (ExecutionException e) {
+                throw unwrap(e.getCause());
+            }
+        }
+
+        return await(context, primary.future, primary);
+    }
+
+    private Attempt start(JCoFunction function, JCoDestination target, AdaptiveConcurrencyLimiter.Permit permit) {
+        Attempt attempt = new Attempt(function, target, permit);
+
+        try {
+            attempt.future = CompletableFuture.supplyAsync(attempt::run, callExecutor);
+        } catch (RejectedExecutionException e) {
+            permit.ignore();
+            return null;
+        }
+
+        return attempt;
+    }
+
+    /**
+     * 중복 요청 시작, 예산이나 동시 호출 여유가 없으면 null
+     */
+    private Attempt startHedge(ExecutionContext context, String functionName,
+        Map<String, Object> importParams, List<BoundTable> tables) {
+        if (hedgeDestination == null || !rfcHedger.tryAcquireBudget(context.getInterfaceId())) {
+            return null;
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(functionName);
+        if (permit == null) {
+            return null;
+        }
+
+        try {
+            JCoFunction function = prepare(functionName, importParams, tables, permit);
+            log.debug("Hedging RFC {}. requestId={}", functionName, context.getRequestId());
+            return start(function, hedgeDestination, permit);
+        } catch (JCoException | RuntimeException e) {
+            // prepare/start 에서 반환하지 못한 경우에 대비 (반환은 한 번만 반영됨)
+            permit.ignore();
+            log.warn("Failed to start hedged RFC {}", functionName, e);
+            return null;
+        }
+    }
+
+    /**
+     * 먼저 성공한 응답 사용, 둘 다 실패하면 나중 실패 전달
+     */
+    private JCoFunction awaitHedged(ExecutionContext context, Attempt primary, Attempt hedge) throws JCoException {
+        CompletableFuture<JCoFunction> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (Attempt attempt : new Attempt[]{primary, hedge}) {
+            attempt.future.whenComplete((result, error) -> {
+                if (error == null) {
+                    first.complete(result);
+                } else if (failures.incrementAndGet() == 2) {
+                    first.completeExceptionally(error);
+                }
+            });
+        }
+
+        JCoFunction result = await(context, first, primary, hedge);
+        boolean hedgeWon = (result == hedge.function);
+
+        (hedgeWon ? primary : hedge).discard();
+        rfcHedger.recordResult(context.getInterfaceId(), hedgeWon);
+        log.debug("Hedged RFC {} answered by {}", result.getName(), hedgeWon ? "hedge" : "primary");
 
         return result;
     }
 
+    private JCoFunction await(ExecutionContext context, CompletableFuture<JCoFunction> future, Attempt... attempts)
+        throws JCoException {
+        try {
+            return context.hasDeadline()
+                ? future.get(Math.max(context.remainingMillis(), 1), TimeUnit.MILLISECONDS)
+                : future.get();
+        } catch (TimeoutException e) {
+            boolean abandoned = false;
+            for (Attempt attempt : attempts) {
+                abandoned |= attempt.abandon();
+            }
+
+            if (abandoned) {
+                log.warn("RFC {} abandoned after deadline. requestId={}",
+                    attempts[0].function.getName(), context.getRequestId());
+                throw new DeadlineExceededException(DeadlineMetrics.STAGE_RFC,
+                    context.getTimeoutMillis(),
+                    "Request deadline exceeded while waiting for SAP: " + attempts[0].function.getName());
+            }
+
+            // 기한과 동시에 종료된 경우 결과 사용
+            try {
+                return future.join();
+            } catch (CompletionException ce) {
+                throw unwrap(ce.getCause());
+            }
+        } catch (InterruptedException e) {
+            throw interrupted(attempts[0].function.getName(), e, attempts);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private ProxyException interrupted(String functionName, InterruptedException e, Attempt... attempts) {
+        Thread.currentThread().interrupt();
+        for (Attempt attempt : attempts) {
+            attempt.abandon();
+        }
+        return new ProxyException("Interrupted while waiting for RFC: " + functionName, e);
+    }
+
+    /**
+     * 비동기 호출 실패 원인 복원, RuntimeException 은 그대로 던짐
+     */
+    private JCoException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof JCoException jcoException) {
+            return jcoException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new ProxyException(cause);
+    }
+
+    /**
+     * 비동기 RFC 호출 1건 (중복 요청 포함)
+     */
+    private final class Attempt {
+
+        private final JCoFunction function;
+        private final JCoDestination target;
+        private final AdaptiveConcurrencyLimiter.Permit permit;
+        private final AtomicInteger state = new AtomicInteger(STATE_RUNNING);
+        private CompletableFuture<JCoFunction> future;
+
+        private Attempt(JCoFunction function, JCoDestination target, AdaptiveConcurrencyLimiter.Permit permit) {
+            this.function = function;
+            this.target = target;
+            this.permit = permit;
+        }
+
+        private JCoFunction run() {
+            boolean success = false;
+            try {
+                call(function, target, permit);
+                success = true;
+                return function;
+            } catch (JCoException e) {
+                throw new CompletionException(e);
+            } finally {
+                finish(success);
+            }
+        }
+
+        private void finish(boolean success) {
+            if (state.compareAndSet(STATE_RUNNING, STATE_FINISHED)) {
+                return;
+            }
+
+            if (state.get() == STATE_ABANDONED) {
+                deadlineMetrics.recordAbandonedFinished(success);
+                log.info("Abandoned RFC {} finished in SAP (success={})", function.getName(), success);
+            } else {
+                log.debug("Discarded hedged RFC {} finished (success={})", function.getName(), success);
+            }
+        }
+
+        private boolean abandon() {
+            if (state.compareAndSet(STATE_RUNNING, STATE_ABANDONED)) {
+                deadlineMetrics.recordAbandoned();
+                return true;
+            }
+            return false;
+        }
+
+        private void discard() {
+            state.compareAndSet(STATE_RUNNING, STATE_DISCARDED);
+        }
+    }
+
+    /**
+     * 연결 실패, 연결 풀 부족 등 SAP 측 과부하로 볼 수 있는 오류 여부 (ABAP 예외는 정상 응답으로 취급)
+     */
+    private boolean isOverload(JCoException e) {
+        return switch (e.getGroup()) {
+            case JCoException.JCO_ERROR_COMMUNICATION,
+                 JCoException.JCO_ERROR_RESOURCE,
+                 JCoException.JCO_ERROR_SYSTEM_FAILURE -> true;
+            default -> false;
+        };
+    }
+
     private void setImportParameters(JCoFunction function, Map<String, Object> params) {
         JCoParameterList importList = function.getImportParameterList();
 
@@ -94,29 +486,44 @@ public class RfcExecutor {
         }
     }
 
-    private void setTableParameters(JCoFunction function, Map<String, List<Map<String, Object>>> tables) {
+    /**
+     * Table 파라미터 설정<br/>SAP 연결 없이 벤치마크에서 호출할 수 있도록 인스턴스 상태를 사용하지 않음
+     */
+    static void setTableParameters(JCoFunction function, List<BoundTable> tables) {
         JCoParameterList tableList = function.getTableParameterList();
 
         if (tableList == null) {
             return;
         }
 
-        for (Map.Entry<String, List<Map<String, Object>>> entry : tables.entrySet()) {
-            String tableName = entry.getKey();
-            List<Map<String, Object>> rows = entry.getValue();
+        for (BoundTable bound : tables) {
+            String tableName = bound.sapTable();
 
             try {
                 JCoTable table = tableList.getTable(tableName);
+                JCoRecordMetaData metaData = table.getRecordMetaData();
+
+                // 필드명 → 인덱스는 테이블마다 한 번만 조회
+                String[] columns = bound.columns();
+                int[] indexes = new int[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    indexes[i] = metaData.indexOf(columns[i]);
+                    if (indexes[i] < 0) {
+                        log.warn("Unknown field {} in table {}, skipped", columns[i], tableName);
+                    }
+                }
 
-                for (Map<String, Object> row : rows) {
-                    table.appendRow();
+                List<Object[]> rows = bound.rows();
+                int firstRow = table.getNumRows();
+                table.appendRows(rows.size());
 
-                    for (Map.Entry<String, Object> field : row.entrySet()) {
-                        String fieldName = field.getKey();
-                        Object value = field.getValue();
+                for (int r = 0; r < rows.size(); r++) {
+                    Object[] row = rows.get(r);
+                    table.setRow(firstRow + r);
 
-                        if (value != null) {
-                            table.setValue(fieldName, value);
+                    for (int i = 0; i < indexes.length; i++) {
+                        if (indexes[i] >= 0 && row[i] != null) {
+                            table.setValue(indexes[i], row[i]);
                         }
                     }
                 }
@@ -148,7 +555,10 @@ public class RfcExecutor {
         return exports;
     }
 
-    private Map<String, List<Map<String, Object>>> extractTableParameters(JCoFunction function) {
+    /**
+     * Table 파라미터 추출<br/>SAP 연결 없이 벤치마크에서 호출할 수 있도록 인스턴스 상태를 사용하지 않음
+     */
+    static Map<String, List<Map<String, Object>>> extractTableParameters(JCoFunction function) {
         Map<String, List<Map<String, Object>>> tables = new HashMap<>();
         JCoParameterList tableList = function.getTableParameterList();
 
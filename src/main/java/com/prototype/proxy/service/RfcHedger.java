@@ -0,0 +1,222 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.monitoring.LatencyHistogram;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.sap.conn.jco.JCoDestination;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 전용 인터페이스의 중복 요청(hedged request) 정책<br/>첫 호출이 인터페이스의 최근 1분 RFC 호출 시간 p95 안에 끝나지 않으면 다른 destination 으로 같은 호출을 한 번 더 보냄
+ * <p>
+ * 추가 부하를 제한하기 위해 대상 요청 100건당 budget-percent 건까지만 중복 요청을 허용한다.
+ * 기준 시간은 요청 전체 처리 시간이 아니라 RfcExecutor 가 기록한 RFC 호출 시간(연결 대기 포함)이며,
+ * 보조 destination(sap.jco.hedge.ashost)이 없으면 같은 연결 풀로 중복 호출하게 되므로 비활성화한다.
+ */
+@Slf4j
+@Component
+public class RfcHedger {
+
+    /** 예산 단위 (요청 1건당 budgetPercent, 중복 요청 1건당 100 차감) */
+    private static final long BUDGET_UNIT = 100;
+    private static final long MAX_BUDGET = BUDGET_UNIT * 10;
+
+    /** 호출 시간 기준 구간 (10초 단위 6구간 = 최근 1분) */
+    private static final int WINDOW_SLOTS = 6;
+
+    private final ObjectProvider<JCoDestination> hedgeDestination;
+
+    @Value("${proxy.hedge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${proxy.hedge.budget-percent:5}")
+    private int budgetPercent;
+
+    @Value("${proxy.hedge.min-delay:20}")
+    private long minDelayMillis;
+
+    @Value("${proxy.hedge.min-samples:50}")
+    private long minSamples;
+
+    private final AtomicLong budget = new AtomicLong();
+    private final Map<String, HedgeCounters> counters = new ConcurrentHashMap<>();
+    private final Map<String, CallLatency> callLatency = new ConcurrentHashMap<>();
+
+    public RfcHedger(@Qualifier("hedgeDestination") ObjectProvider<JCoDestination> hedgeDestination) {
+        this.hedgeDestination = hedgeDestination;
+    }
+
+    @PostConstruct
+    void checkDestination() {
+        if (enabled && hedgeDestination.getIfAvailable() == null) {
+            enabled = false;
+            log.warn("RFC hedging disabled: proxy.hedge.enabled is true but no hedge destination (sap.jco.hedge.ashost) is configured");
+        }
+    }
+
+    /**
+     * 중복 요청 대기 시간 결정
+     *
+     * @return 대기 시간(ms), 중복 요청 대상이 아니면 -1
+     */
+    public long hedgeDelay(InterfaceDefinition definition) {
+        if (!enabled || !Boolean.TRUE.equals(definition.getReadOnly())) {
+            return -1;
+        }
+
+        counters(definition.getId()).eligible.increment();
+        budget.accumulateAndGet(budgetPercent, (current, credit) -> Math.min(current + credit, MAX_BUDGET));
+
+        CallLatency latency = callLatency.get(definition.getId().toUpperCase());
+        long[] window = (latency != null) ? latency.windowSum : new long[LatencyHistogram.BUCKET_COUNT];
+        long samples = 0;
+        for (long count : window) {
+            samples += count;
+        }
+
+        // 기준이 될 응답 시간 분포가 충분하지 않으면 중복 요청하지 않음
+        if (samples < minSamples) {
+            return -1;
+        }
+
+        Long p95 = LatencyHistogram.percentile(window, 0.95);
+        return Math.max(p95, minDelayMillis);
+    }
+
+    /**
+     * RFC 호출 시간 기록 (성공한 호출, 연결 대기 포함)
+     */
+    public void recordCallTime(String interfaceId, long callMillis) {
+        callLatency.computeIfAbsent(interfaceId.toUpperCase(), ignored -> new CallLatency())
+            .live.record(callMillis);
+    }
+
+    /**
+     * 호출 시간 구간 이동
+     */
+    @Scheduled(fixedRate = 10_000)
+    public void advanceWindow() {
+        callLatency.values().forEach(CallLatency::advance);
+    }
+
+    /**
+     * 중복 요청 예산 차감
+     */
+    public boolean tryAcquireBudget(String interfaceId) {
+        long current;
+        do {
+            current = budget.get();
+            if (current < BUDGET_UNIT) {
+                counters(interfaceId).budgetDenied.increment();
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - BUDGET_UNIT));
+
+        counters(interfaceId).hedged.increment();
+        return true;
+    }
+
+    /**
+     * 중복 요청 결과 기록
+     *
+     * @param hedgeWon 중복 요청이 먼저 응답한 경우 true
+     */
+    public void recordResult(String interfaceId, boolean hedgeWon) {
+        HedgeCounters counter = counters(interfaceId);
+        (hedgeWon ? counter.hedgeWins : counter.primaryWins).increment();
+    }
+
+    public Map<String, Object> getStats() {
+        List<Map<String, Object>> interfaces = new ArrayList<>();
+        long eligible = 0;
+        long hedged = 0;
+        long hedgeWins = 0;
+
+        for (HedgeCounters counter : counters.values()) {
+            eligible += counter.eligible.sum();
+            hedged += counter.hedged.sum();
+            hedgeWins += counter.hedgeWins.sum();
+            interfaces.add(counter.toMap());
+        }
+        interfaces.sort(Comparator.comparing(item -> (String) item.get("interfaceId")));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("budgetPercent", budgetPercent);
+        stats.put("availableHedges", budget.get() / BUDGET_UNIT);
+        stats.put("eligible", eligible);
+        stats.put("hedged", hedged);
+        stats.put("hedgeRate", (eligible > 0) ? (double) hedged / eligible : 0.0);
+        stats.put("hedgeWins", hedgeWins);
+        stats.put("interfaces", interfaces);
+        return stats;
+    }
+
+    private HedgeCounters counters(String interfaceId) {
+        return counters.computeIfAbsent(interfaceId.toUpperCase(), HedgeCounters::new);
+    }
+
+    /**
+     * 인터페이스별 최근 RFC 호출 시간 분포
+     */
+    private static class CallLatency {
+
+        private final LatencyHistogram live = new LatencyHistogram();
+
+        // advanceWindow 스레드에서만 변경
+        private final long[][] slots = new long[WINDOW_SLOTS][];
+        private int slotIndex;
+        private volatile long[] windowSum = new long[LatencyHistogram.BUCKET_COUNT];
+
+        private void advance() {
+            slots[slotIndex] = live.snapshotAndReset();
+            slotIndex = (slotIndex + 1) % WINDOW_SLOTS;
+
+            long[] sum = new long[LatencyHistogram.BUCKET_COUNT];
+            for (long[] slot : slots) {
+                if (slot != null) {
+                    LatencyHistogram.merge(sum, slot);
+                }
+            }
+            windowSum = sum;
+        }
+    }
+
+    private static class HedgeCounters {
+
+        private final String interfaceId;
+        private final LongAdder eligible = new LongAdder();
+        private final LongAdder hedged = new LongAdder();
+        private final LongAdder budgetDenied = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder primaryWins = new LongAdder();
+
+        private HedgeCounters(String interfaceId) {
+            this.interfaceId = interfaceId;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> item = new HashMap<>();
+            item.put("interfaceId", interfaceId);
+            item.put("eligible", eligible.sum());
+            item.put("hedged", hedged.sum());
+            item.put("budgetDenied", budgetDenied.sum());
+            item.put("hedgeWins", hedgeWins.sum());
+            item.put("primaryWins", primaryWins.sum());
+            return item;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.prototype.proxy.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 조회 결과 캐시<br/>마감된 일자(과거)의 통계는 더 이상 변하지 않으므로 만료 없이 보관하고, 당일 통계는 짧은 TTL 로 보관
+ */
+@Slf4j
+@Component
+public class StatisticsCache {
+
+    @Value("${statistics.cache.today-ttl:10s}")
+    private Duration todayTtl;
+
+    /**
+     * 자정 직후에는 전일 요청의 비동기 응답 로깅이 반영 중일 수 있으므로 유예 시간 이후에 마감 처리
+     */
+    @Value("${statistics.cache.close-grace:5m}")
+    private Duration closeGrace;
+
+    @Value("${statistics.cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<CacheKey, Entry> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 캐시 조회, 없거나 만료된 경우 loader 로 계산 후 보관
+     *
+     * @param type      통계 종류 (module, interface, errors ...)
+     * @param date      조회 일자
+     * @param qualifier 추가 조회 조건 (모듈명, 인터페이스 ID 등)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String type, LocalDate date, String qualifier, Supplier<T> loader) {
+        CacheKey key = new CacheKey(type, date, qualifier);
+        long now = System.currentTimeMillis();
+
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            hits.increment();
+            return (T) entry.value();
+        }
+
+        misses.increment();
+        T value = loader.get();
+
+        long expiresAt = isClosed(date) ? Long.MAX_VALUE : now + todayTtl.toMillis();
+        if (cache.size() >= maxEntries && !cache.containsKey(key)) {
+            evictOldest();
+        }
+        cache.put(key, new Entry(value, expiresAt));
+
+        return value;
+    }
+
+    /**
+     * 보관 기간 만료 등으로 로그가 삭제된 경우, 해당 일자까지의 캐시 제거
+     */
+    public void evictUntil(LocalDate date) {
+        cache.keySet().removeIf(key -> !key.date().isAfter(date));
+        log.info("Statistics cache evicted until {}", date);
+    }
+
+    public void clear() {
+        cache.clear();
+        log.info("Statistics cache cleared");
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", cache.size());
+        stats.put("hitCount", hitCount);
+        stats.put("missCount", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private boolean isClosed(LocalDate date) {
+        LocalDateTime closedAt = date.plusDays(1).atStartOfDay().plus(closeGrace);
+        return LocalDateTime.now().isAfter(closedAt);
+    }
+
+    private void evictOldest() {
+        cache.keySet().stream()
+            .min(Comparator.comparing(CacheKey::date))
+            .ifPresent(cache::remove);
+    }
+
+    private record CacheKey(String type, LocalDate date, String qualifier) {
+
+    }
+
+    private record Entry(Object value, long expiresAt) {
+
+    }
+}
@@ -0,0 +1,349 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.dto.ExecutionSampleDto;
+import com.prototype.proxy.dto.TrendPointDto;
+import com.prototype.proxy.logging.ProxyExecutionLogRepository;
+import com.prototype.proxy.logging.RollupTier;
+import com.prototype.proxy.logging.StatsRollup;
+import com.prototype.proxy.logging.StatsRollupRepository;
+import com.prototype.proxy.logging.StatsRollupWatermark;
+import com.prototype.proxy.logging.StatsRollupWatermarkRepository;
+import com.prototype.proxy.monitoring.LatencyHistogram;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시계열 통계 집계 서비스<br/>실행 로그를 분 → 시 → 일 단위로 점진 집계하고, 조회 시 요청 구간 크기에 맞는 가장 큰 집계 단위를 사용
+ * <p>
+ * 최초 집계는 가장 오래된 실행 로그가 속한 날부터 시작하므로 집계 이전 기간의 추이도 빈 구간 없이 조회된다.
+ */
+@Slf4j
+@Service
+public class StatisticsRollupService {
+
+    private static final RollupTier[] TIERS_COARSE_FIRST = {RollupTier.DAY, RollupTier.HOUR, RollupTier.MINUTE};
+
+    private final ProxyExecutionLogRepository logRepository;
+    private final StatsRollupRepository rollupRepository;
+    private final StatsRollupWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 비동기 응답 로깅이 반영될 때까지 분 단위 집계를 지연
+     */
+    @Value("${statistics.rollup.lag:5m}")
+    private Duration lag;
+
+    @Value("${statistics.rollup.batch:1h}")
+    private Duration batch;
+
+    @Value("${statistics.trend.max-points:10000}")
+    private long maxPoints;
+
+    @Value("${statistics.trend.max-raw-range:6h}")
+    private Duration maxRawRange;
+
+    /** 최초 집계 시작 시점 (watermark 가 없는 단위에 사용) */
+    private volatile LocalDateTime horizon;
+
+    public StatisticsRollupService(ProxyExecutionLogRepository logRepository,
+        StatsRollupRepository rollupRepository,
+        StatsRollupWatermarkRepository watermarkRepository,
+        PlatformTransactionManager transactionManager) {
+        this.logRepository = logRepository;
+        this.rollupRepository = rollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.rollup.interval:30000}", initialDelayString = "${statistics.rollup.initial-delay:10000}")
+    public void rollup() {
+        try {
+            rollupMinutes();
+            rollupTier(RollupTier.HOUR, RollupTier.MINUTE);
+            rollupTier(RollupTier.DAY, RollupTier.HOUR);
+        } catch (Exception e) {
+            log.error("Statistics rollup failed", e);
+        }
+    }
+
+    /**
+     * raw 실행 로그 → 분 단위 집계
+     */
+    private void rollupMinutes() {
+        LocalDateTime limit = RollupTier.MINUTE.truncate(LocalDateTime.now().minus(lag));
+        LocalDateTime from = getRolledUntil(RollupTier.MINUTE);
+
+        while (from.isBefore(limit)) {
+            LocalDateTime to = min(from.plus(batch), limit);
+            List<ExecutionSampleDto> samples = logRepository.findSamples(from, to, null, null);
+
+            Map<RollupKey, Aggregate> aggregates = new HashMap<>();
+            for (ExecutionSampleDto sample : samples) {
+                RollupKey key = new RollupKey(RollupTier.MINUTE.truncate(sample.getCreatedAt()), sample.getInterfaceId());
+                aggregates.computeIfAbsent(key, k -> new Aggregate()).add(sample);
+            }
+
+            save(RollupTier.MINUTE, aggregates, to);
+            log.debug("Rolled up {} samples into {} minute buckets until {}", samples.size(), aggregates.size(), to);
+            from = to;
+        }
+    }
+
+    /**
+     * 하위 단위 집계 → 상위 단위 집계, 하위 단위 집계가 완료된 구간까지만 처리
+     */
+    private void rollupTier(RollupTier target, RollupTier source) {
+        LocalDateTime limit = target.truncate(getRolledUntil(source));
+        LocalDateTime from = getRolledUntil(target);
+
+        while (from.isBefore(limit)) {
+            LocalDateTime to = min(from.plus(target.getDuration().multipliedBy(24)), limit);
+            List<StatsRollup> rows = rollupRepository.findRollups(source, from, to, null, null);
+
+            Map<RollupKey, Aggregate> aggregates = new HashMap<>();
+            for (StatsRollup row : rows) {
+                RollupKey key = new RollupKey(target.truncate(row.getBucketStart()), row.getInterfaceId());
+                aggregates.computeIfAbsent(key, k -> new Aggregate()).add(row);
+            }
+
+            save(target, aggregates, to);
+            log.debug("Rolled up {} {} rows into {} {} buckets until {}",
+                rows.size(), source, aggregates.size(), target, to);
+            from = to;
+        }
+    }
+
+    private void save(RollupTier tier, Map<RollupKey, Aggregate> aggregates, LocalDateTime rolledUntil) {
+        List<StatsRollup> rollups = new ArrayList<>(aggregates.size());
+        aggregates.forEach((key, aggregate) -> rollups.add(aggregate.toRollup(tier, key)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rollupRepository.saveAll(rollups);
+            watermarkRepository.save(new StatsRollupWatermark(tier, rolledUntil));
+        });
+    }
+
+    private LocalDateTime getRolledUntil(RollupTier tier) {
+        return watermarkRepository.findById(tier)
+            .map(StatsRollupWatermark::getRolledUntil)
+            .orElseGet(this::getHorizon);
+    }
+
+    /**
+     * 가장 오래된 실행 로그가 속한 날 (로그가 없으면 오늘)
+     */
+    private LocalDateTime getHorizon() {
+        LocalDateTime current = horizon;
+        if (current == null) {
+            LocalDateTime oldest = logRepository.findOldestCreatedAt();
+            current = RollupTier.DAY.truncate((oldest != null) ? oldest : LocalDateTime.now());
+            horizon = current;
+            log.info("Statistics rollup starts from {}", current);
+        }
+        return current;
+    }
+
+    /**
+     * 구간별 추이 조회
+     *
+     * @param from        조회 시작 일시
+     * @param to          조회 종료 일시
+     * @param bucket      구간 크기 (초 단위 이상)
+     * @param groupBy     interface 또는 module
+     * @param interfaceId 인터페이스 ID 필터 (선택)
+     * @param module      모듈 필터 (선택)
+     * @return 그룹별 구간 목록 (데이터가 있는 구간만 포함)
+     */
+    public Map<String, Object> queryTrend(LocalDateTime from, LocalDateTime to, Duration bucket,
+        String groupBy, String interfaceId, String module) {
+        boolean byModule = "module".equalsIgnoreCase(groupBy);
+        if (!byModule && !"interface".equalsIgnoreCase(groupBy)) {
+            throw new IllegalArgumentException("groupBy must be 'interface' or 'module': " + groupBy);
+        }
+        if (bucket.toSeconds() < 1 || bucket.toNanos() % 1_000_000_000L != 0) {
+            throw new IllegalArgumentException("Bucket must be a whole number of seconds: " + bucket);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        LocalDateTime start = alignDown(from, bucket);
+        LocalDateTime end = to;
+        long points = Duration.between(start, end).toSeconds() / bucket.toSeconds();
+        if (points > maxPoints) {
+            throw new IllegalArgumentException(
+                String.format("Too many buckets: %d (Max: %d), use a larger bucket", points, maxPoints));
+        }
+
+        Map<String, TreeMap<LocalDateTime, Aggregate>> series = new TreeMap<>();
+        LocalDateTime cursor = start;
+
+        // 구간 크기로 나누어 떨어지는 집계 단위 중 큰 단위부터, 집계 완료 구간까지 사용
+        for (RollupTier tier : TIERS_COARSE_FIRST) {
+            if (!cursor.isBefore(end) || !divides(tier.getDuration(), bucket)) {
+                continue;
+            }
+
+            // 집계 행은 구간 전체를 포함하므로 end 가 걸친 구간은 제외하고, 나머지는 하위 단위 또는 raw 로그로 채움
+            LocalDateTime segmentEnd = min(tier.truncate(end), getRolledUntil(tier));
+            if (!segmentEnd.isAfter(cursor)) {
+                continue;
+            }
+
+            for (StatsRollup row : rollupRepository.findRollups(tier, cursor, segmentEnd, interfaceId, module)) {
+                String key = byModule ? moduleOf(row.getSapModule()) : row.getInterfaceId();
+                series.computeIfAbsent(key, k -> new TreeMap<>())
+                    .computeIfAbsent(alignDown(row.getBucketStart(), bucket), k -> new Aggregate())
+                    .add(row);
+            }
+            cursor = segmentEnd;
+        }
+
+        // 집계되지 않은 최근 구간 또는 1분 미만 구간은 raw 로그 사용
+        if (cursor.isBefore(end)) {
+            if (bucket.compareTo(RollupTier.MINUTE.getDuration()) < 0
+                && Duration.between(cursor, end).compareTo(maxRawRange) > 0) {
+                throw new IllegalArgumentException(
+                    "Range too long for sub-minute buckets (Max: " + maxRawRange + ")");
+            }
+
+            for (ExecutionSampleDto sample : logRepository.findSamples(cursor, end, interfaceId, module)) {
+                String key = byModule ? moduleOf(sample.getSapModule()) : sample.getInterfaceId();
+                series.computeIfAbsent(key, k -> new TreeMap<>())
+                    .computeIfAbsent(alignDown(sample.getCreatedAt(), bucket), k -> new Aggregate())
+                    .add(sample);
+            }
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        series.forEach((key, buckets) -> {
+            List<TrendPointDto> trend = new ArrayList<>(buckets.size());
+            buckets.forEach((time, aggregate) -> trend.add(aggregate.toPoint(time)));
+            result.add(Map.of("key", key, "points", trend));
+        });
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("from", start);
+        data.put("to", end);
+        data.put("bucket", bucket.toString());
+        data.put("groupBy", byModule ? "module" : "interface");
+        data.put("series", result);
+        return data;
+    }
+
+    private static boolean divides(Duration unit, Duration bucket) {
+        return bucket.compareTo(unit) >= 0 && bucket.toSeconds() % unit.toSeconds() == 0;
+    }
+
+    private static LocalDateTime alignDown(LocalDateTime time, Duration bucket) {
+        long size = bucket.toSeconds();
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(seconds, size) * size, 0, ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String moduleOf(String sapModule) {
+        return (sapModule != null) ? sapModule : "UNKNOWN";
+    }
+
+    private record RollupKey(LocalDateTime bucketStart, String interfaceId) {
+
+    }
+
+    private static class Aggregate {
+
+        private String sapModule;
+        private long totalCount;
+        private long successCount;
+        private long failCount;
+        private long timedCount;
+        private long totalTimeMs;
+        private long maxTimeMs;
+        private final long[] latency = new long[LatencyHistogram.BUCKET_COUNT];
+
+        private void add(ExecutionSampleDto sample) {
+            if (sample.getSapModule() != null) {
+                sapModule = sample.getSapModule();
+            }
+
+            totalCount++;
+            if (Boolean.TRUE.equals(sample.getSuccess())) {
+                successCount++;
+            } else if (Boolean.FALSE.equals(sample.getSuccess())) {
+                failCount++;
+            }
+
+            Long time = sample.getExecutionTimeMs();
+            if (time != null) {
+                timedCount++;
+                totalTimeMs += time;
+                maxTimeMs = Math.max(maxTimeMs, time);
+                latency[LatencyHistogram.indexOf(time)]++;
+            }
+        }
+
+        private void add(StatsRollup row) {
+            if (row.getSapModule() != null) {
+                sapModule = row.getSapModule();
+            }
+
+            long[] rowLatency = LatencyHistogram.decode(row.getLatencyBuckets());
+            for (long count : rowLatency) {
+                timedCount += count;
+            }
+
+            totalCount += row.getTotalCount();
+            successCount += row.getSuccessCount();
+            failCount += row.getFailCount();
+            totalTimeMs += row.getTotalTimeMs();
+            maxTimeMs = Math.max(maxTimeMs, row.getMaxTimeMs());
+            LatencyHistogram.merge(latency, rowLatency);
+        }
+
+        private StatsRollup toRollup(RollupTier tier, RollupKey key) {
+            return StatsRollup.builder()
+                .tier(tier)
+                .bucketStart(key.bucketStart())
+                .interfaceId(key.interfaceId())
+                .sapModule(sapModule)
+                .totalCount(totalCount)
+                .successCount(successCount)
+                .failCount(failCount)
+                .totalTimeMs(totalTimeMs)
+                .maxTimeMs(maxTimeMs)
+                .latencyBuckets(LatencyHistogram.encode(latency))
+                .build();
+        }
+
+        private TrendPointDto toPoint(LocalDateTime time) {
+            return new TrendPointDto(
+                time,
+                totalCount,
+                successCount,
+                failCount,
+                totalCount == 0 ? 0.0 : (double) failCount / totalCount,
+                timedCount == 0 ? null : totalTimeMs / timedCount,
+                LatencyHistogram.percentile(latency, 0.50),
+                LatencyHistogram.percentile(latency, 0.95),
+                LatencyHistogram.percentile(latency, 0.99),
+                timedCount == 0 ? null : maxTimeMs
+            );
+        }
+    }
+}
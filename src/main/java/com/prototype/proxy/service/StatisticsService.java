@@ -1,19 +1,26 @@
 package com.prototype.proxy.service;
 
+import com.prototype.proxy.context.RequestIds;
+import com.prototype.proxy.dto.ExecutionLogSummaryDto;
 import com.prototype.proxy.dto.InterfaceStatsDto;
+import com.prototype.proxy.dto.LogSearchCondition;
 import com.prototype.proxy.dto.ModuleStatsDto;
+import com.prototype.proxy.exception.NotFoundException;
+import com.prototype.proxy.logging.ExecutionBusinessKeyRepository;
 import com.prototype.proxy.logging.ProxyExecutionLog;
 import com.prototype.proxy.logging.ProxyExecutionLogRepository;
 import com.prototype.proxy.model.SimpleProxyResponse;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,14 +30,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class StatisticsService {
 
+    private static final int ERROR_LOG_LIMIT = 200;
+    private static final int MAX_SEARCH_SIZE = 500;
+
     private final ProxyExecutionLogRepository logRepository;
+    private final StatisticsCache statisticsCache;
+    private final StatisticsRollupService rollupService;
+    private final ExecutionBusinessKeyRepository businessKeyRepository;
 
     public SimpleProxyResponse getDailyModuleStats(LocalDate date) {
         return executeStatsAction(() -> {
             LocalDateTime start = date.atStartOfDay();
             LocalDateTime end = date.atTime(LocalTime.MAX);
 
-            List<ModuleStatsDto> stats = logRepository.getModuleStatistics(start, end);
+            List<ModuleStatsDto> stats = statisticsCache.get("module", date, null,
+                () -> logRepository.getModuleStatistics(start, end));
             return Map.of("stats", stats);
         });
     }
@@ -40,7 +54,8 @@ public class StatisticsService {
             LocalDateTime start = date.atStartOfDay();
             LocalDateTime end = date.atTime(LocalTime.MAX);
 
-            List<InterfaceStatsDto> stats = logRepository.getInterfaceStatistics(start, end, module);
+            List<InterfaceStatsDto> stats = statisticsCache.get("interface", date, module,
+                () -> logRepository.getInterfaceStatistics(start, end, module));
             return Map.of("stats", stats);
         });
     }
@@ -50,13 +65,101 @@ public class StatisticsService {
             LocalDateTime start = date.atStartOfDay();
             LocalDateTime end = date.atTime(LocalTime.MAX);
 
-            List<ProxyExecutionLog> logs = logRepository.findErrorLogs(start, end, interfaceId);
+            List<ExecutionLogSummaryDto> logs = statisticsCache.get("errors", date, interfaceId,
+                () -> logRepository.searchLogs(
+                    start, end, interfaceId, null, null, false, null, null, Limit.of(ERROR_LOG_LIMIT)));
             return Map.of("logs", logs);
         });
     }
 
+    /**
+     * 실행 로그 검색 (요약, keyset pagination)
+     */
+    public SimpleProxyResponse searchLogs(LogSearchCondition condition) {
+        return executeStatsAction(() -> {
+            LocalDateTime end = (condition.to() != null) ? condition.to() : LocalDateTime.now();
+            LocalDateTime start = (condition.from() != null) ? condition.from() : end.minusDays(1);
+            int size = Math.min(Math.max(condition.size(), 1), MAX_SEARCH_SIZE);
+
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            List<ExecutionLogSummaryDto> logs = logRepository.searchLogs(
+                start,
+                end,
+                condition.interfaceId(),
+                condition.module(),
+                condition.userId(),
+                condition.success(),
+                condition.minExecutionTimeMs(),
+                condition.cursor(),
+                Limit.of(size + 1)
+            );
+
+            boolean hasNext = logs.size() > size;
+            if (hasNext) {
+                logs = logs.subList(0, size);
+            }
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("logs", logs);
+            data.put("hasNext", hasNext);
+            data.put("nextCursor", hasNext ? logs.get(logs.size() - 1).getId() : null);
+            return data;
+        });
+    }
+
+    /**
+     * 단건 실행 로그 상세 조회 (요청/응답 전문 포함)
+     */
+    public SimpleProxyResponse getLogDetail(String requestId) {
+        return executeStatsAction(() -> {
+            ProxyExecutionLog logEntity = logRepository.findFirstByRequestIdOrderByIdDesc(requestId);
+            if (logEntity == null) {
+                throw new NotFoundException(requestId, "Execution log not found: " + requestId);
+            }
+            return Map.of("log", logEntity);
+        });
+    }
+
+    /**
+     * 업무 키(자재번호, 문서번호 등)로 실행 로그 조회
+     */
+    public SimpleProxyResponse findLogsByBusinessKey(String value, String name, String interfaceId, int size) {
+        return executeStatsAction(() -> {
+            int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+            List<ExecutionLogSummaryDto> logs = businessKeyRepository.findLogsByKey(
+                value.trim(), name, (interfaceId != null) ? interfaceId.toUpperCase() : null, Limit.of(limit));
+            return Map.of("logs", logs);
+        });
+    }
+
+    /**
+     * 구간별 추이 조회 (건수, 에러율, 지연 시간 백분위)
+     */
+    public SimpleProxyResponse getTrend(LocalDateTime from, LocalDateTime to, Duration bucket,
+        String groupBy, String interfaceId, String module) {
+        return executeStatsAction(() -> rollupService.queryTrend(
+            from,
+            (to != null) ? to : LocalDateTime.now(),
+            bucket,
+            groupBy,
+            interfaceId,
+            module
+        ));
+    }
+
+    public SimpleProxyResponse getCacheStats() {
+        return executeStatsAction(statisticsCache::getStats);
+    }
+
+    public SimpleProxyResponse clearCache() {
+        return executeStatsAction(() -> {
+            statisticsCache.clear();
+            return statisticsCache.getStats();
+        });
+    }
+
     public SimpleProxyResponse executeStatsAction(Supplier<Map<String, Object>> action) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestIds.current();
         long startTime = System.currentTimeMillis();
 
         try {
@@ -64,6 +167,9 @@ public class StatisticsService {
             long executionTime = System.currentTimeMillis() - startTime;
 
             return SimpleProxyResponse.success(data, requestId, executionTime);
+        } catch (NotFoundException e) {
+            // GlobalExceptionHandler 에서 404 로 응답
+            throw e;
         } catch (Exception e) {
             log.error("Statistics Error (RequestId: {})", requestId, e);
             return SimpleProxyResponse.error(e.getMessage(), requestId);
@@ -1,24 +1,38 @@
 package com.prototype.proxy.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.prototype.proxy.context.RequestContext;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.prototype.proxy.config.JacksonConfig;
+import com.prototype.proxy.config.WireFormatConfig;
+import com.prototype.proxy.context.ExecutionContext;
 import com.prototype.proxy.exception.NotFoundException;
 import com.prototype.proxy.model.SimpleProxyRequest;
 import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.ProxyMetrics;
 import com.prototype.proxy.registry.InterfaceDefinition;
 import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.service.DeadlinePolicy;
+import com.prototype.proxy.service.InterfaceCatalog;
+import com.prototype.proxy.service.InterfaceCatalog.Catalog;
+import com.prototype.proxy.service.ProxyRequestReader;
 import com.prototype.proxy.service.ProxyService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.BDDMockito.given;
@@ -27,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @WebMvcTest(ProxyController.class)
+@Import({ProxyRequestReader.class, JacksonConfig.class})
 class ProxyControllerTest {
 
     @Autowired
@@ -39,7 +54,13 @@ class ProxyControllerTest {
     ProxyService proxyService;
 
     @MockitoBean
-    RequestContext requestContext;
+    InterfaceCatalog interfaceCatalog;
+
+    @MockitoBean
+    DeadlinePolicy deadlinePolicy;
+
+    @MockitoBean
+    ProxyMetrics proxyMetrics;
 
     @Test
     @DisplayName("Health Check")
@@ -61,18 +82,49 @@ class ProxyControllerTest {
     @Test
     @DisplayName("존재하는 인터페이스 전체 목록을 반환한다")
     void list_interfaces() throws Exception {
-        given(registry.getAllDefinitions()).willReturn(Map.of(
-            "WORK_ORDER", new InterfaceDefinition(),
-            "STOCK_MOVEMENT", new InterfaceDefinition()
-        ));
+        Catalog catalog = new Catalog(1L,
+            new RawValue("{\"STOCK_MOVEMENT\":{},\"WORK_ORDER\":{}}"), "\"v1\"", List.of());
+
+        given(interfaceCatalog.getCatalog()).willReturn(catalog);
+        given(proxyService.getInterfaceList(any(HttpServletRequest.class), eq(catalog))).willReturn(
+            SimpleProxyResponse.success(Map.of("interfaces", catalog.definitions()), "REQ-1", 1L));
 
         mockMvc.perform(get("/api/proxy/interfaces"))
             .andExpect(status().isOk())
             .andExpect(content().contentTypeCompatibleWith("application/json"))
-            .andExpect(jsonPath("$").isMap())
-            .andExpect(jsonPath("$.count").value(2))
-            .andExpect(jsonPath("$.interfaces.WORK_ORDER").exists())
-            .andExpect(jsonPath("$.interfaces.STOCK_MOVEMENT").exists());
+            .andExpect(header().string("ETag", "\"v1\""))
+            .andExpect(jsonPath("$.requestId").value("REQ-1"))
+            .andExpect(jsonPath("$.data.interfaces.WORK_ORDER").exists())
+            .andExpect(jsonPath("$.data.interfaces.STOCK_MOVEMENT").exists());
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 인터페이스 목록 대신 304를 반환한다")
+    void list_interfaces_not_modified() throws Exception {
+        Catalog catalog = new Catalog(1L, new RawValue("{}"), "\"v1\"", List.of());
+
+        given(interfaceCatalog.getCatalog()).willReturn(catalog);
+        given(proxyService.getInterfaceList(any(HttpServletRequest.class), eq(catalog))).willReturn(
+            SimpleProxyResponse.success(Map.of("interfaces", catalog.definitions()), "REQ-1", 1L));
+
+        mockMvc.perform(get("/api/proxy/interfaces").header("If-None-Match", "\"v1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"v1\""))
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("인터페이스 요약 목록은 요청 ID 와 처리 시간을 포함하여 반환한다")
+    void list_interface_summaries() throws Exception {
+        given(proxyService.getInterfaceSummaries(any(HttpServletRequest.class), eq(1), eq(20))).willReturn(
+            SimpleProxyResponse.success(Map.of("interfaces", List.of(), "page", 1, "size", 20, "totalCount", 0),
+                "REQ-1", 1L));
+
+        mockMvc.perform(get("/api/proxy/interfaces").param("view", "summary").param("page", "1").param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requestId").value("REQ-1"))
+            .andExpect(jsonPath("$.executionTimeMs").value(1))
+            .andExpect(jsonPath("$.data.page").value(1));
     }
 
     @Test
@@ -129,7 +181,8 @@ class ProxyControllerTest {
             1L
         );
 
-        given(proxyService.executeRfc(any(SimpleProxyRequest.class)))
+        given(deadlinePolicy.resolve(any(), any())).willReturn(new DeadlinePolicy.Deadline(Duration.ofSeconds(30), false));
+        given(proxyService.executeRfc(any(SimpleProxyRequest.class), any(ExecutionContext.class)))
             .willReturn(response);
 
         mockMvc.perform(
@@ -143,4 +196,41 @@ class ProxyControllerTest {
             .andExpect(jsonPath("$.requestId").exists())
             .andExpect(jsonPath("$.timestamp").exists());
     }
+
+    @Test
+    @DisplayName("application/msgpack 형식의 요청 본문도 실행한다")
+    void execute_msgpack_alias() throws Exception {
+        byte[] body = new ObjectMapper(new MessagePackFactory()).writeValueAsBytes(Map.of(
+            "interfaceId", "IF_TEST_001",
+            "data", Map.of("orderNo", "1234")));
+
+        given(deadlinePolicy.resolve(any(), any())).willReturn(new DeadlinePolicy.Deadline(Duration.ofSeconds(30), false));
+        given(proxyService.executeRfc(any(SimpleProxyRequest.class), any(ExecutionContext.class)))
+            .willReturn(SimpleProxyResponse.success(Map.of("result", "OK"), "1324", 1L));
+
+        mockMvc.perform(
+                post("/api/proxy/execute")
+                    .contentType(WireFormatConfig.APPLICATION_MSGPACK_ALIAS)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(body)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.result").value("OK"));
+    }
+
+    @Test
+    @DisplayName("interfaceId, data 가 없으면 필드별 검증 오류와 함께 400을 반환한다")
+    void execute_missing_required_fields() throws Exception {
+        mockMvc.perform(
+                post("/api/proxy/execute")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"userId\":\"test\"}")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.message").value("Validation failed"))
+            .andExpect(jsonPath("$.data.errorType").value("VALIDATION"))
+            .andExpect(jsonPath("$.data.fieldErrors.interfaceId").value("Interface ID is required"))
+            .andExpect(jsonPath("$.data.fieldErrors.data").value("Data must exists"));
+    }
 }
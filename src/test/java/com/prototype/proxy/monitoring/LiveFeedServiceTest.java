@@ -0,0 +1,61 @@
+package com.prototype.proxy.monitoring;
+
+import com.prototype.proxy.exception.SubscriberLimitExceededException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveFeedServiceTest {
+
+    private static final int MAX_SUBSCRIBERS = 10;
+    private static final int THREADS = 50;
+
+    @Test
+    @DisplayName("동시에 구독해도 최대 구독자 수를 넘지 않는다")
+    void limits_concurrent_subscribers() throws Exception {
+        LiveFeedService service = new LiveFeedService(new LiveMetrics(10), Runnable::run);
+        ReflectionTestUtils.setField(service, "bufferSize", 5);
+        ReflectionTestUtils.setField(service, "maxSubscribers", MAX_SUBSCRIBERS);
+        ReflectionTestUtils.setField(service, "emitterTimeout", Duration.ofMinutes(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.subscribe();
+                        return true;
+                    } catch (SubscriberLimitExceededException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int subscribed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    subscribed++;
+                }
+            }
+
+            assertThat(subscribed).isEqualTo(MAX_SUBSCRIBERS);
+            assertThat(service.getFeedStats()).containsEntry("subscribers", MAX_SUBSCRIBERS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.prototype.proxy.monitoring;
+
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.registry.InterfaceRegistryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ProxyMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InterfaceRegistry registry = mock(InterfaceRegistry.class);
+    private final ProxyMetrics proxyMetrics = new ProxyMetrics(meterRegistry, registry, 1);
+
+    @Test
+    @DisplayName("대소문자가 다른 ID 도 같은 태그로 기록하고 캐시 항목을 하나만 사용한다")
+    void tags_are_case_insensitive() {
+        given(registry.find(anyString())).willReturn(Optional.of(definition("STOCK_MOVEMENT", "MM")));
+
+        proxyMetrics.recordRows("stock_movement", "request", 1);
+        proxyMetrics.recordRows("STOCK_MOVEMENT", "request", 1);
+
+        assertThat(meterRegistry.get("proxy.rows").tag("interface", "STOCK_MOVEMENT").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정의가 변경되면 새 모듈 태그로 기록한다")
+    void refreshes_tags_on_registry_change() {
+        given(registry.find("STOCK_MOVEMENT")).willReturn(Optional.of(definition("STOCK_MOVEMENT", "MM")));
+        proxyMetrics.recordRows("STOCK_MOVEMENT", "request", 1);
+
+        given(registry.find("STOCK_MOVEMENT")).willReturn(Optional.of(definition("STOCK_MOVEMENT", "PP")));
+        proxyMetrics.onRegistryChanged(new InterfaceRegistryChangedEvent(2, Set.of("STOCK_MOVEMENT"), Set.of(), false));
+        proxyMetrics.recordRows("STOCK_MOVEMENT", "request", 1);
+
+        assertThat(meterRegistry.get("proxy.rows").tag("module", "PP").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 인터페이스의 캐시 자리는 다른 인터페이스가 사용한다")
+    void releases_removed_interface() {
+        given(registry.find("STOCK_MOVEMENT")).willReturn(Optional.of(definition("STOCK_MOVEMENT", "MM")));
+        given(registry.find("WORK_ORDER")).willReturn(Optional.of(definition("WORK_ORDER", "PP")));
+        proxyMetrics.recordRows("STOCK_MOVEMENT", "request", 1);
+
+        proxyMetrics.onRegistryChanged(new InterfaceRegistryChangedEvent(2, Set.of(), Set.of("STOCK_MOVEMENT"), false));
+        proxyMetrics.recordRows("WORK_ORDER", "request", 1);
+
+        assertThat(meterRegistry.get("proxy.rows").tag("interface", "WORK_ORDER").summary().count()).isEqualTo(1);
+    }
+
+    private static InterfaceDefinition definition(String id, String module) {
+        InterfaceDefinition definition = new InterfaceDefinition();
+        definition.setId(id);
+        definition.setSapModule(module);
+        return definition;
+    }
+}
@@ -0,0 +1,75 @@
+package com.prototype.proxy.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefinitionSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 스냅샷은 처리 기한과 읽기 전용 여부를 포함하여 다시 읽는다")
+    void round_trips_definition() {
+        InterfaceDefinition definition = new InterfaceDefinition();
+        definition.setId("WORK_ORDER");
+        definition.setTimeout("5s");
+        definition.setReadOnly(true);
+
+        DefinitionSnapshotStore store = new DefinitionSnapshotStore(dir.resolve("definitions.smile"));
+        store.save(List.of(new DefinitionFile("WORK_ORDER.yml", "hash", definition)));
+
+        DefinitionFile loaded = store.load().get("WORK_ORDER.yml");
+        assertThat(loaded.definition().getTimeout()).isEqualTo("5s");
+        assertThat(loaded.definition().getReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("정의 필드 구성이 다른 시점에 저장된 스냅샷은 무시한다")
+    void ignores_snapshot_with_other_schema() throws Exception {
+        Path file = dir.resolve("definitions.smile");
+        InterfaceDefinition definition = new InterfaceDefinition();
+        definition.setId("WORK_ORDER");
+
+        new ObjectMapper(new SmileFactory()).writeValue(file.toFile(), Map.of(
+            "formatVersion", 2,
+            "schema", "0000000000000000",
+            "files", List.of(new DefinitionFile("WORK_ORDER.yml", "hash", definition))));
+
+        assertThat(new DefinitionSnapshotStore(file).load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필드가 추가되면 schema 값이 달라지고, 필드 구성이 같으면 같다")
+    void schema_changes_with_fields() {
+        assertThat(DefinitionSnapshotStore.schemaOf(Before.class))
+            .isNotEqualTo(DefinitionSnapshotStore.schemaOf(After.class))
+            .isEqualTo(DefinitionSnapshotStore.schemaOf(Same.class))
+            .hasSize(16);
+        assertThat(DefinitionSnapshotStore.SCHEMA).isEqualTo(DefinitionSnapshotStore.schemaOf(InterfaceDefinition.class));
+    }
+
+    static class Before {
+
+        String id;
+    }
+
+    static class Same {
+
+        String id;
+    }
+
+    static class After {
+
+        String id;
+        String timeout;
+    }
+}
@@ -0,0 +1,122 @@
+package com.prototype.proxy.registry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterfaceRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<Object> events = new ArrayList<>();
+    private InterfaceRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        write("STOCK_MOVEMENT.yml", definition("STOCK_MOVEMENT"));
+
+        registry = new InterfaceRegistry(events::add);
+        ReflectionTestUtils.setField(registry, "definitionPath", "file:" + directory + "/");
+        ReflectionTestUtils.setField(registry, "watchEnabled", false);
+        ReflectionTestUtils.setField(registry, "snapshotFile", "");
+        registry.init();
+        events.clear();
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 파일로 갱신되면 기존 정의를 유지한다")
+    void refresh_keeps_definition_when_file_is_broken() throws IOException {
+        long version = registry.getVersion();
+        Path file = write("STOCK_MOVEMENT.yml", "interface:\n  id: STOCK_MOVEMENT\n  importMapping: [");
+
+        registry.refresh(List.of(file));
+
+        assertThat(registry.exists("STOCK_MOVEMENT")).isTrue();
+        assertThat(registry.getVersion()).isEqualTo(version);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일이 복구되면 새 정의로 교체한다")
+    void refresh_replaces_definition_after_file_is_fixed() throws IOException {
+        Path file = write("STOCK_MOVEMENT.yml", "interface: [");
+        registry.refresh(List.of(file));
+
+        write("STOCK_MOVEMENT.yml", definition("STOCK_MOVEMENT") + "  name: fixed\n");
+        registry.refresh(List.of(file));
+
+        assertThat(registry.get("STOCK_MOVEMENT").getName()).isEqualTo("fixed");
+        assertThat(events).singleElement()
+            .isEqualTo(new InterfaceRegistryChangedEvent(registry.getVersion(), Set.of("STOCK_MOVEMENT"), Set.of(), false));
+    }
+
+    @Test
+    @DisplayName("파일이 삭제되면 정의를 제거한다")
+    void refresh_removes_definition_when_file_is_deleted() throws IOException {
+        Path file = directory.resolve("STOCK_MOVEMENT.yml");
+        Files.delete(file);
+
+        registry.refresh(List.of(file));
+
+        assertThat(registry.exists("STOCK_MOVEMENT")).isFalse();
+        assertThat(events).singleElement()
+            .isEqualTo(new InterfaceRegistryChangedEvent(registry.getVersion(), Set.of(), Set.of("STOCK_MOVEMENT"), false));
+    }
+
+    @Test
+    @DisplayName("전체 재로드 시에도 파싱할 수 없는 파일은 기존 정의를 유지한다")
+    void reload_keeps_definition_when_file_is_broken() throws IOException {
+        write("STOCK_MOVEMENT.yml", "interface: [");
+
+        registry.reload();
+
+        assertThat(registry.exists("STOCK_MOVEMENT")).isTrue();
+    }
+
+    @Test
+    @DisplayName("처리 기한이 잘못된 파일은 거부하고 기존 정의를 유지한다")
+    void refresh_rejects_invalid_timeout() throws IOException {
+        Path file = write("STOCK_MOVEMENT.yml", definition("STOCK_MOVEMENT") + "  timeout: 10 seconds\n");
+        registry.refresh(List.of(file));
+
+        assertThat(registry.get("STOCK_MOVEMENT").getTimeout()).isNull();
+        assertThat(events).isEmpty();
+
+        write("STOCK_MOVEMENT.yml", definition("STOCK_MOVEMENT") + "  timeout: 0s\n");
+        registry.refresh(List.of(file));
+
+        assertThat(registry.get("STOCK_MOVEMENT").getTimeout()).isNull();
+
+        write("STOCK_MOVEMENT.yml", definition("STOCK_MOVEMENT") + "  timeout: 1500ms\n");
+        registry.refresh(List.of(file));
+
+        assertThat(registry.get("STOCK_MOVEMENT").getTimeout()).isEqualTo("1500ms");
+    }
+
+    @Test
+    @DisplayName("find 는 대소문자 구분 없이 조회하고 없으면 빈 값을 반환한다")
+    void find_returns_definition_or_empty() {
+        assertThat(registry.find("stock_movement")).get()
+            .extracting(InterfaceDefinition::getId).isEqualTo("STOCK_MOVEMENT");
+        assertThat(registry.find("UNKNOWN")).isEmpty();
+    }
+
+    private Path write(String filename, String content) throws IOException {
+        return Files.writeString(directory.resolve(filename), content);
+    }
+
+    private static String definition(String id) {
+        return "interface:\n  id: " + id + "\n  rfcFunction: Z_" + id + "\n";
+    }
+}
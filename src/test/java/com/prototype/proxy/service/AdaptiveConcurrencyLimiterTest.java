@@ -0,0 +1,138 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.exception.SapOverloadedException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String FUNCTION = "Z_TEST_RFC";
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(10);
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "minLimit", 2);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 20);
+        ReflectionTestUtils.setField(limiter, "smoothing", 0.2);
+        ReflectionTestUtils.setField(limiter, "longWindow", 600);
+        ReflectionTestUtils.setField(limiter, "shortWindow", 10);
+    }
+
+    @Test
+    @DisplayName("RFC 별 표본이 10건 미만인 동안에는 제한을 바꾸지 않는다")
+    void keeps_limit_during_warmup() {
+        for (int i = 0; i < 9; i++) {
+            limiter.onSample(FUNCTION, FAST, 10, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.onSample(FUNCTION, FAST, 10, false);
+        assertThat(limit()).isCloseTo(10 * 0.8 + (10 + Math.sqrt(10)) * 0.2, offset());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준 수준이면 늘리고, 기준보다 늘어나면 줄인다")
+    void follows_gradient() {
+        warmUp(FAST);
+        double grown = limit();
+        assertThat(grown).isGreaterThan(10);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FUNCTION, SLOW, 10, false);
+        }
+        assertThat(limit()).isLessThan(grown);
+    }
+
+    @Test
+    @DisplayName("제한의 절반도 사용하지 않는 동안에는 늘리지 않는다")
+    void does_not_grow_when_underused() {
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FUNCTION, FAST, 4, false);
+        }
+
+        assertThat(limit()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("제한 값은 최소/최대 범위를 벗어나지 않는다")
+    void clamps_to_min_and_max() {
+        // 과부하가 계속되면 sqrt(limit) 증가분과 균형을 이루는 4 부근으로 수렴하므로 최소값을 그보다 높게 설정
+        ReflectionTestUtils.setField(limiter, "minLimit", 5);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.onSample(FUNCTION, FAST, 20, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.onSample(FUNCTION, FAST, 20, true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("과부하 실패는 워밍업과 관계없이 최소 gradient 로 제한을 줄인다")
+    void drop_reduces_limit() {
+        limiter.onSample(FUNCTION, 0, 1, true);
+
+        assertThat(limit()).isCloseTo(10 * 0.8 + (10 * 0.5 + Math.sqrt(10)) * 0.2, offset());
+        assertThat(limiter.getStats()).containsEntry("dropped", 1L);
+    }
+
+    @Test
+    @DisplayName("제한을 넘는 호출은 즉시 거부하고, 허가를 반환하면 다시 허용한다")
+    void sheds_above_limit() {
+        limiter = new AdaptiveConcurrencyLimiter(2);
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(FUNCTION);
+        limiter.acquire(FUNCTION);
+
+        assertThatThrownBy(() -> limiter.acquire(FUNCTION)).isInstanceOf(SapOverloadedException.class);
+        assertThat(limiter.tryAcquire(FUNCTION)).isNull();
+
+        first.ignore();
+        assertThat(limiter.tryAcquire(FUNCTION)).isNotNull();
+        assertThat(limiter.getStats()).containsEntry("rejected", 1L).containsEntry("inFlight", 2);
+    }
+
+    @Test
+    @DisplayName("허가를 여러 번 반환해도 동시 호출 수는 한 번만 줄어든다")
+    void releases_permit_once() {
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(FUNCTION);
+        limiter.acquire(FUNCTION);
+
+        first.ignore();
+        first.ignore();
+        first.success();
+
+        assertThat(limiter.getStats()).containsEntry("inFlight", 1);
+    }
+
+    private void warmUp(long rttNanos) {
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(FUNCTION, rttNanos, 10, false);
+        }
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(((AtomicLong) ReflectionTestUtils.getField(limiter, "limit")).get());
+    }
+
+    private static Offset<Double> offset() {
+        return Offset.offset(1e-9);
+    }
+}
@@ -0,0 +1,147 @@
+package com.prototype.proxy.service;
+
+import com.prototype.proxy.exception.RateLimitExceededException;
+import com.prototype.proxy.service.CallerRateLimiter.Limit;
+import com.prototype.proxy.service.CallerRateLimiter.Permit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallerRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+
+    private CallerRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 기본값은 모두 제한 없음, 테스트마다 필요한 범위만 설정
+        limiter = new CallerRateLimiter(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        limiter.setEnabled(true);
+        ReflectionTestUtils.setField(limiter, "maxKeys", 1000);
+    }
+
+    @Test
+    @DisplayName("burst 만큼은 즉시 허용하고 이후 요청은 거부한다")
+    void allows_burst_then_rejects() {
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER, null, new Limit(1, 3, 0));
+
+        for (int i = 0; i < 3; i++) {
+            acquire("WMS", "IF_A", START).close();
+        }
+
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START))
+            .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                assertThat(e.getScope()).isEqualTo(CallerRateLimiter.SCOPE_USER);
+                assertThat(e.getKey()).isEqualTo("WMS");
+            });
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 요청 수만큼 다시 허용한다")
+    void refills_at_configured_rate() {
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER, null, new Limit(2, 2, 0));
+
+        acquire("WMS", "IF_A", START).close();
+        acquire("WMS", "IF_A", START).close();
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START)).isInstanceOf(RateLimitExceededException.class);
+
+        // 0.5초에 한 건씩 회복
+        acquire("WMS", "IF_A", START + SECOND / 2).close();
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START + SECOND / 2))
+            .isInstanceOf(RateLimitExceededException.class);
+
+        acquire("WMS", "IF_A", START + 2 * SECOND).close();
+        acquire("WMS", "IF_A", START + 2 * SECOND).close();
+    }
+
+    @Test
+    @DisplayName("Retry-After 는 다음 요청이 허용될 때까지의 시간을 초 단위로 올림한다")
+    void retry_after_rounds_up_wait_time() {
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER, null, new Limit(0.5, 1, 0));
+
+        acquire("WMS", "IF_A", START).close();
+
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START))
+            .isInstanceOfSatisfying(RateLimitExceededException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START + SECOND / 2))
+            .isInstanceOfSatisfying(RateLimitExceededException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START + SECOND + SECOND / 2))
+            .isInstanceOfSatisfying(RateLimitExceededException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 넘으면 거부하고, 허가를 반환하면 다시 허용한다")
+    void limits_concurrency_until_permit_closed() {
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER, null, new Limit(0, 0, 2));
+
+        Permit first = acquire("WMS", "IF_A", START);
+        Permit second = acquire("WMS", "IF_A", START);
+
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START))
+            .isInstanceOfSatisfying(RateLimitExceededException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(inFlight(CallerRateLimiter.SCOPE_USER, "WMS")).isEqualTo(2);
+
+        first.close();
+        acquire("WMS", "IF_A", START).close();
+        second.close();
+
+        assertThat(inFlight(CallerRateLimiter.SCOPE_USER, "WMS")).isZero();
+    }
+
+    @Test
+    @DisplayName("뒤 범위에서 거부되면 앞 범위에서 차감한 요청 수와 동시 실행 수를 되돌린다")
+    void refunds_earlier_scopes_on_rejection() {
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER, null, new Limit(1, 2, 5));
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER_INTERFACE, "WMS/IF_A", new Limit(1, 1, 0));
+
+        acquire("WMS", "IF_A", START).close();
+        assertThatThrownBy(() -> acquire("WMS", "IF_A", START))
+            .isInstanceOfSatisfying(RateLimitExceededException.class,
+                e -> assertThat(e.getScope()).isEqualTo(CallerRateLimiter.SCOPE_USER_INTERFACE));
+
+        // 거부된 요청이 user 한도를 소모하지 않았으므로 burst 2건 중 1건이 남아 있음
+        acquire("WMS", "IF_B", START).close();
+        assertThatThrownBy(() -> acquire("WMS", "IF_B", START))
+            .isInstanceOfSatisfying(RateLimitExceededException.class,
+                e -> assertThat(e.getScope()).isEqualTo(CallerRateLimiter.SCOPE_USER));
+        assertThat(inFlight(CallerRateLimiter.SCOPE_USER, "WMS")).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 제한하지 않는다")
+    void disabled_limiter_allows_everything() {
+        limiter.setLimit(CallerRateLimiter.SCOPE_USER, null, new Limit(1, 1, 1));
+        limiter.setEnabled(false);
+
+        for (int i = 0; i < 10; i++) {
+            acquire("WMS", "IF_A", START);
+        }
+    }
+
+    private Permit acquire(String userId, String interfaceId, long now) {
+        return limiter.acquire(userId, "10.0.0.1", interfaceId, now);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int inFlight(String scope, String key) {
+        List<Map<String, Object>> callers = (List<Map<String, Object>>) limiter.getUsage(100).get("callers");
+        return callers.stream()
+            .filter(caller -> scope.equals(caller.get("scope")) && key.equals(caller.get("key")))
+            .map(caller -> (Integer) caller.get("inFlight"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
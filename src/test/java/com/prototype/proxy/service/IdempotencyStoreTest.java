@@ -0,0 +1,180 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.exception.DeadlineExceededException;
+import com.prototype.proxy.exception.IdempotencyConflictException;
+import com.prototype.proxy.exception.IdempotencyOutcomeUnknownException;
+import com.prototype.proxy.exception.SapOverloadedException;
+import com.prototype.proxy.logging.IdempotencyRecordRepository;
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.monitoring.DeadlineMetrics;
+import com.prototype.proxy.service.RequestBinder.BoundRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class IdempotencyStoreTest {
+
+    private final ExecutionContext context = ExecutionContext.create("WORK_ORDER");
+    private final AtomicInteger calls = new AtomicInteger();
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(mock(IdempotencyRecordRepository.class), new ObjectMapper());
+        ReflectionTestUtils.setField(store, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(store, "maxEntries", 100);
+        ReflectionTestUtils.setField(store, "dbEnabled", false);
+    }
+
+    @Test
+    @DisplayName("같은 키와 같은 데이터로 다시 요청하면 실행하지 않고 저장된 응답을 반환한다")
+    void replays_completed_response() throws Exception {
+        SimpleProxyResponse first = store.execute(context, "WMS:key-1", "fp", action("REQ-1"));
+        SimpleProxyResponse second = store.execute(context, "WMS:key-1", "fp", action("REQ-2"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.requestId()).isEqualTo("REQ-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 데이터를 보내면 거부한다")
+    void rejects_different_payload() throws Exception {
+        store.execute(context, "WMS:key-1", "fp-1", action("REQ-1"));
+
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-1", "fp-2", action("REQ-2")))
+            .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실행 중인 키로 들어온 요청은 실행이 끝날 때까지 기다렸다가 같은 응답을 받는다")
+    void waits_for_in_flight_duplicate() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<SimpleProxyResponse> first = CompletableFuture.supplyAsync(() -> execute("fp", () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            calls.incrementAndGet();
+            return SimpleProxyResponse.success(Map.of(), "REQ-1", 1L);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<SimpleProxyResponse> duplicate = CompletableFuture.supplyAsync(() -> execute("fp", action("REQ-2")));
+        Thread.sleep(50);
+        assertThat(duplicate).isNotDone();
+
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 키는 다시 실행한다")
+    void executes_again_after_ttl() throws Exception {
+        ReflectionTestUtils.setField(store, "ttl", Duration.ofMillis(1));
+
+        store.execute(context, "WMS:key-1", "fp", action("REQ-1"));
+        Thread.sleep(10);
+        SimpleProxyResponse second = store.execute(context, "WMS:key-1", "fp", action("REQ-2"));
+
+        assertThat(second.requestId()).isEqualTo("REQ-2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("RFC 전송 전에 실패하면 키를 삭제하여 재시도를 허용한다")
+    void allows_retry_when_rfc_was_not_sent() throws Exception {
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-1", "fp", () -> {
+            throw new SapOverloadedException("Z_RFC", 2, "shed");
+        })).isInstanceOf(SapOverloadedException.class);
+
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-2", "fp", () -> {
+            throw new DeadlineExceededException(DeadlineMetrics.STAGE_SAP_QUEUE, 100, "expired in queue");
+        })).isInstanceOf(DeadlineExceededException.class);
+
+        assertThat(store.execute(context, "WMS:key-1", "fp", action("REQ-1")).requestId()).isEqualTo("REQ-1");
+        assertThat(store.execute(context, "WMS:key-2", "fp", action("REQ-2")).requestId()).isEqualTo("REQ-2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("RFC 전송 후 실패하면 결과를 알 수 없으므로 재시도를 실행하지 않고 거부한다")
+    void rejects_retry_when_outcome_is_unknown() throws Exception {
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-1", "fp", () -> {
+            throw new DeadlineExceededException(DeadlineMetrics.STAGE_RFC, 100, "abandoned");
+        })).isInstanceOf(DeadlineExceededException.class);
+
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-2", "fp", () -> {
+            throw new IllegalStateException("response mapping failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-1", "fp", action("REQ-1")))
+            .isInstanceOf(IdempotencyOutcomeUnknownException.class);
+        assertThatThrownBy(() -> store.execute(context, "WMS:key-2", "fp", action("REQ-2")))
+            .isInstanceOf(IdempotencyOutcomeUnknownException.class);
+        assertThat(calls).hasValue(0);
+        assertThat(store.getStats()).containsEntry("outcomeUnknown", 2L);
+    }
+
+    @Test
+    @DisplayName("보관 한도를 넘으면 가장 먼저 완료된 키부터 정리한다")
+    void evicts_oldest_completed_entry() throws Exception {
+        ReflectionTestUtils.setField(store, "maxEntries", 2);
+
+        store.execute(context, "WMS:key-1", "fp", action("REQ-1"));
+        store.execute(context, "WMS:key-2", "fp", action("REQ-2"));
+        store.execute(context, "WMS:key-3", "fp", action("REQ-3"));
+
+        assertThat(store.execute(context, "WMS:key-3", "fp", action("REQ-4")).requestId()).isEqualTo("REQ-3");
+        assertThat(store.execute(context, "WMS:key-1", "fp", action("REQ-5")).requestId()).isEqualTo("REQ-5");
+        assertThat(store.getStats()).containsEntry("overflow", 2L);
+    }
+
+    @Test
+    @DisplayName("지문은 null 값과 문자열 \"null\" 을 구분한다")
+    void fingerprint_distinguishes_null_from_text() {
+        String[] columns = {"MATNR"};
+
+        String withNull = IdempotencyStore.fingerprint("WORK_ORDER", new BoundRequest(Map.of(),
+            List.of(new BoundTable("T_ITEMS", columns, List.<Object[]>of(new Object[]{null})))));
+        String withText = IdempotencyStore.fingerprint("WORK_ORDER", new BoundRequest(Map.of(),
+            List.of(new BoundTable("T_ITEMS", columns, List.<Object[]>of(new Object[]{"null"})))));
+
+        assertThat(withNull).isNotEqualTo(withText);
+        assertThat(withNull).isEqualTo(IdempotencyStore.fingerprint("work_order", new BoundRequest(Map.of(),
+            List.of(new BoundTable("T_ITEMS", columns, List.<Object[]>of(new Object[]{null}))))));
+    }
+
+    private Callable<SimpleProxyResponse> action(String requestId) {
+        return () -> {
+            calls.incrementAndGet();
+            return SimpleProxyResponse.success(Map.of(), requestId, 1L);
+        };
+    }
+
+    private SimpleProxyResponse execute(String fingerprint, Callable<SimpleProxyResponse> action) {
+        try {
+            return store.execute(context, "WMS:key-1", fingerprint, action);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
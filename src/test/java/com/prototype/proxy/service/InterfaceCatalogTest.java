@@ -0,0 +1,109 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.proxy.config.JacksonConfig;
+import com.prototype.proxy.model.SimpleProxyResponse;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceRegistry;
+import com.prototype.proxy.registry.InterfaceRegistryChangedEvent;
+import com.prototype.proxy.service.InterfaceCatalog.Catalog;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class InterfaceCatalogTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final InterfaceRegistry registry = mock(InterfaceRegistry.class);
+    private InterfaceCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new InterfaceCatalog(registry, objectMapper);
+    }
+
+    @Test
+    @DisplayName("응답 본문에 정의 목록을 ID 순으로 포함하고 요청별 값은 유지한다")
+    void serializes_definitions_into_response() throws Exception {
+        registry(1L, definition("WORK_ORDER", "작업지시"), definition("STOCK_MOVEMENT", "재고이동"));
+
+        Catalog current = catalog.getCatalog();
+        byte[] body = objectMapper.writeValueAsBytes(
+            SimpleProxyResponse.success(Map.of("interfaces", current.definitions()), "REQ-1", 3L));
+
+        JsonNode root = objectMapper.readTree(body);
+        assertThat(root.path("requestId").asText()).isEqualTo("REQ-1");
+        assertThat(root.path("executionTimeMs").asLong()).isEqualTo(3L);
+        assertThat(root.path("data").path("interfaces").fieldNames())
+            .toIterable().containsExactly("STOCK_MOVEMENT", "WORK_ORDER");
+        assertThat(root.at("/data/interfaces/WORK_ORDER/name").asText()).isEqualTo("작업지시");
+        assertThat(current.summaries()).extracting("id")
+            .containsExactly("STOCK_MOVEMENT", "WORK_ORDER");
+    }
+
+    @Test
+    @DisplayName("Registry 버전이 같으면 다시 직렬화하지 않는다")
+    void reuses_catalog_for_same_version() {
+        registry(1L, definition("WORK_ORDER", "작업지시"));
+
+        assertThat(catalog.getCatalog()).isSameAs(catalog.getCatalog());
+    }
+
+    @Test
+    @DisplayName("ETag 는 내용이 같으면 버전이 바뀌어도 같고, 내용이 바뀌면 달라진다")
+    void etag_follows_content() {
+        registry(1L, definition("WORK_ORDER", "작업지시"));
+        String first = catalog.getCatalog().etag();
+
+        registry(2L, definition("WORK_ORDER", "작업지시"));
+        catalog.onRegistryChanged(new InterfaceRegistryChangedEvent(2L, Set.of("WORK_ORDER"), Set.of(), false));
+        String sameContent = catalog.getCatalog().etag();
+
+        registry(3L, definition("WORK_ORDER", "작업지시 변경"));
+        catalog.onRegistryChanged(new InterfaceRegistryChangedEvent(3L, Set.of("WORK_ORDER"), Set.of(), false));
+        String changed = catalog.getCatalog().etag();
+
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(sameContent).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 는 목록, weak ETag, * 를 지원한다")
+    void matches_if_none_match() {
+        registry(1L, definition("WORK_ORDER", "작업지시"));
+        Catalog current = catalog.getCatalog();
+        String etag = current.etag();
+
+        assertThat(current.matches(etag)).isTrue();
+        assertThat(current.matches("\"other\", W/" + etag)).isTrue();
+        assertThat(current.matches("*")).isTrue();
+        assertThat(current.matches("\"other\"")).isFalse();
+        assertThat(current.matches(null)).isFalse();
+    }
+
+    private void registry(long version, InterfaceDefinition... definitions) {
+        Map<String, InterfaceDefinition> map = new HashMap<>();
+        for (InterfaceDefinition definition : definitions) {
+            map.put(definition.getId(), definition);
+        }
+        given(registry.getVersion()).willReturn(version);
+        given(registry.getAllDefinitions()).willReturn(map);
+    }
+
+    private static InterfaceDefinition definition(String id, String name) {
+        InterfaceDefinition definition = new InterfaceDefinition();
+        definition.setId(id);
+        definition.setName(name);
+        definition.setRfcFunction("Z_" + id);
+        return definition;
+    }
+}
@@ -0,0 +1,103 @@
+package com.prototype.proxy.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ParallelRowMapperTest {
+
+    private static final int ROWS = 10_000;
+
+    private final ParallelRowMapper rowMapper = new ParallelRowMapper(100, ParallelRowMapper.createPool(4));
+
+    @AfterEach
+    void tearDown() {
+        rowMapper.shutdown();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("병렬 매핑 결과는 입력 행 순서를 유지한다")
+    void preserves_row_order() {
+        List<Integer> rows = rows();
+
+        List<String> result = rowMapper.map(rows, (index, row) -> index + ":" + row);
+
+        assertThat(result).hasSize(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            assertThat(result.get(i)).isEqualTo(i + ":" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("뒤 구간이 먼저 실패해도 가장 앞선 실패 행의 예외를 던진다")
+    void reports_lowest_failing_index() {
+        int earlier = 1_000;
+        int later = 9_000;
+        CountDownLatch laterFailed = new CountDownLatch(1);
+        List<Integer> failed = new CopyOnWriteArrayList<>();
+
+        Throwable thrown = catchThrowable(() -> rowMapper.map(rows(), (index, row) -> {
+            if (index == later) {
+                failed.add(index);
+                laterFailed.countDown();
+                throw new IllegalStateException("row " + index);
+            }
+            if (index == earlier) {
+                await(laterFailed);
+                failed.add(index);
+                throw new IllegalStateException("row " + index);
+            }
+            return row;
+        }));
+
+        assertThat(failed).containsExactly(later, earlier);
+        assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessage("row " + earlier);
+    }
+
+    @Test
+    @DisplayName("매핑 스레드에서도 호출 스레드의 MDC 를 사용한다")
+    void propagates_mdc_to_mapping_threads() {
+        MDC.put("requestId", "REQ-1");
+        Set<String> requestIds = ConcurrentHashMap.newKeySet();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        rowMapper.map(rows(), (index, row) -> {
+            requestIds.add(String.valueOf(MDC.get("requestId")));
+            threads.add(Thread.currentThread().getName());
+            return row;
+        });
+
+        assertThat(requestIds).containsExactly("REQ-1");
+        assertThat(threads).allMatch(name -> name.startsWith("Mapping-"));
+        assertThat(MDC.get("requestId")).isEqualTo("REQ-1");
+    }
+
+    private static List<Integer> rows() {
+        List<Integer> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(i);
+        }
+        return rows;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
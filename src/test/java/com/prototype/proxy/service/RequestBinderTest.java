@@ -0,0 +1,274 @@
+package com.prototype.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.prototype.proxy.config.JacksonConfig;
+import com.prototype.proxy.config.WireFormatConfig;
+import com.prototype.proxy.context.ExecutionContext;
+import com.prototype.proxy.exception.InterfaceMappingException;
+import com.prototype.proxy.model.SimpleProxyRequest;
+import com.prototype.proxy.registry.InterfaceDefinition;
+import com.prototype.proxy.registry.InterfaceDefinition.FieldMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.ImportMapping;
+import com.prototype.proxy.registry.InterfaceDefinition.TableMapping;
+import com.prototype.proxy.service.RequestBinder.BoundRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BindException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 본문 스트리밍 바인딩과 MappingEngine(Map 기반) 바인딩의 결과/오류 일치 검증
+ */
+class RequestBinderTest {
+
+    private static final String INTERFACE_ID = "BINDER_TEST";
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final ProxyRequestReader requestReader = new ProxyRequestReader(objectMapper);
+    private final RequestBinder requestBinder =
+        new RequestBinder(new MappingEngine(ParallelRowMapper.sequential()), new MappingPlanCache());
+    private final InterfaceDefinition definition = definition();
+
+    @ParameterizedTest
+    @ValueSource(strings = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.APPLICATION_CBOR,
+        WireFormatConfig.APPLICATION_SMILE, WireFormatConfig.APPLICATION_MSGPACK})
+    @DisplayName("본문 형식과 관계없이 스트리밍 바인딩 결과가 Map 기반 바인딩과 같다")
+    void binds_same_values_for_every_format(String contentType) throws Exception {
+        Map<String, Object> data = validData();
+
+        assertThat(bound(stream(data, contentType))).isEqualTo(bound(map(data)));
+        assertThat(stream(data, contentType).importParams())
+            .containsEntry("I_PLANT", "1110")
+            .containsEntry("I_USER", "SYS");
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 필드는 최상위와 행 안에서 모두 무시한다")
+    void ignores_unknown_fields() throws Exception {
+        Map<String, Object> data = validData();
+        data.put("unknown", Map.of("nested", List.of(1, 2, 3)));
+        data.put("items", List.of(
+            Map.of("matnr", "M-1", "qty", 1, "extra", List.of("x")),
+            Map.of("matnr", "M-2", "extra", Map.of("a", "b"))));
+
+        assertThat(bound(stream(data, MediaType.APPLICATION_JSON_VALUE))).isEqualTo(bound(map(data)));
+    }
+
+    @Test
+    @DisplayName("단일 값 테이블은 객체, 스칼라, 누락 모두 같은 행을 만든다")
+    void binds_single_value_table_forms() throws Exception {
+        for (Object header : Arrays.asList(Map.of("code", "A1"), "A1", null)) {
+            Map<String, Object> data = validData();
+            data.put("header", header);
+
+            assertThat(bound(stream(data, MediaType.APPLICATION_JSON_VALUE)))
+                .as("header=%s", header)
+                .isEqualTo(bound(map(data)));
+        }
+
+        Map<String, Object> data = validData();
+        data.remove("header");
+        assertThat(bound(stream(data, MediaType.APPLICATION_JSON_VALUE))).isEqualTo(bound(map(data)));
+    }
+
+    @Test
+    @DisplayName("필수 Import 누락, null 값, 크기 초과는 같은 오류로 거부한다")
+    void rejects_invalid_imports_with_same_error() throws Exception {
+        Map<String, Object> missing = validData();
+        missing.remove("plant");
+        assertSameError(missing, "Required field missing: plant");
+
+        Map<String, Object> nullValue = validData();
+        nullValue.put("plant", null);
+        assertSameError(nullValue, "Required field missing: plant");
+
+        Map<String, Object> oversized = validData();
+        oversized.put("plant", "11100");
+        assertSameError(oversized, "Size exceeded, field: plant (Max: 4, Actual: 5)");
+    }
+
+    @Test
+    @DisplayName("테이블 누락, 행 검증 실패, 단일 값/배열 형식 오류는 같은 오류로 거부한다")
+    void rejects_invalid_tables_with_same_error() throws Exception {
+        Map<String, Object> missingTable = validData();
+        missingTable.remove("items");
+        assertSameError(missingTable, "Required table missing: items");
+
+        Map<String, Object> emptyTable = validData();
+        emptyTable.put("items", List.of());
+        assertSameError(emptyTable, "Required table missing: items");
+
+        Map<String, Object> missingField = validData();
+        missingField.put("items", List.of(Map.of("matnr", "M-1"), Map.of("qty", 1)));
+        assertSameError(missingField, "Required field missing: items[1].matnr");
+
+        Map<String, Object> oversizedField = validData();
+        oversizedField.put("items", List.of(Map.of("matnr", "M-1", "qty", 123456)));
+        assertSameError(oversizedField, "Size exceeded, field: items[0].qty (Max: 5, Actual: 6)");
+
+        Map<String, Object> objectForArray = validData();
+        objectForArray.put("items", Map.of("matnr", "M-1"));
+        assertSameError(objectForArray, "Expected array/list for multi-row field 'items'");
+
+        Map<String, Object> arrayForObject = validData();
+        arrayForObject.put("header", List.of(Map.of("code", "A1")));
+        assertSameError(arrayForObject, "Expected object for single value field 'header'");
+    }
+
+    @Test
+    @DisplayName("여러 항목이 잘못되면 본문 순서와 관계없이 Import → Table 순서의 첫 오류를 반환한다")
+    void reports_errors_in_mapping_engine_order() throws Exception {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("header", List.of("wrong"));
+        data.put("items", List.of(Map.of("qty", 1)));
+        data.put("plant", "TOO_LONG");
+
+        assertSameError(data, "Size exceeded, field: plant");
+
+        data.put("plant", "1110");
+        assertSameError(data, "Required field missing: items[0].matnr");
+    }
+
+    @Test
+    @DisplayName("interfaceId, data 가 없으면 필드별 검증 오류로 거부한다")
+    void rejects_missing_interface_id_and_data() {
+        assertThatThrownBy(() -> requestReader.read("{\"data\":null}".getBytes(), MediaType.APPLICATION_JSON_VALUE))
+            .isInstanceOfSatisfying(BindException.class, e -> {
+                assertThat(e.getBindingResult().getFieldError("interfaceId").getDefaultMessage())
+                    .isEqualTo("Interface ID is required");
+                assertThat(e.getBindingResult().getFieldError("data").getDefaultMessage())
+                    .isEqualTo("Data must exists");
+            });
+    }
+
+    private void assertSameError(Map<String, Object> data, String message) throws Exception {
+        Throwable expected = catchThrowable(() -> map(data));
+        assertThat(expected).isInstanceOf(InterfaceMappingException.class).hasMessageContaining(message);
+
+        for (String contentType : List.of(MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.APPLICATION_CBOR,
+            WireFormatConfig.APPLICATION_SMILE, WireFormatConfig.APPLICATION_MSGPACK)) {
+            byte[] body = body(data, contentType);
+            assertThatThrownBy(() -> requestBinder.bind(context(), requestReader.read(body, contentType), definition))
+                .as(contentType)
+                .isInstanceOf(InterfaceMappingException.class)
+                .hasMessage(expected.getMessage());
+        }
+    }
+
+    private BoundRequest stream(Map<String, Object> data, String contentType) throws Exception {
+        SimpleProxyRequest request = requestReader.read(body(data, contentType), contentType);
+        assertThat(request.getPayload()).isNotNull();
+        return requestBinder.bind(context(), request, definition);
+    }
+
+    private BoundRequest map(Map<String, Object> data) {
+        SimpleProxyRequest request = new SimpleProxyRequest();
+        request.setInterfaceId(INTERFACE_ID);
+        request.setData(data);
+        return requestBinder.bind(context(), request, definition);
+    }
+
+    private byte[] body(Map<String, Object> data, String contentType) throws Exception {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("interfaceId", INTERFACE_ID);
+        body.put("data", data);
+        body.put("userId", "test");
+        return mapper(contentType).writeValueAsBytes(body);
+    }
+
+    private ObjectMapper mapper(String contentType) {
+        return switch (contentType) {
+            case WireFormatConfig.APPLICATION_CBOR -> objectMapper.copyWith(new CBORFactory());
+            case WireFormatConfig.APPLICATION_SMILE -> objectMapper.copyWith(new SmileFactory());
+            case WireFormatConfig.APPLICATION_MSGPACK -> objectMapper.copyWith(new MessagePackFactory());
+            default -> objectMapper;
+        };
+    }
+
+    /**
+     * 비교용 값 (BoundTable 배열을 목록으로 변환)
+     */
+    private Map<String, Object> bound(BoundRequest request) {
+        Map<String, Object> tables = new HashMap<>();
+        for (BoundTable table : request.tables()) {
+            List<List<Object>> rows = new ArrayList<>();
+            for (Object[] row : table.rows()) {
+                rows.add(Arrays.asList(row));
+            }
+            tables.put(table.sapTable(), Map.of("columns", List.of(table.columns()), "rows", rows));
+        }
+        return Map.of("imports", request.importParams(), "tables", tables);
+    }
+
+    private ExecutionContext context() {
+        return ExecutionContext.create(INTERFACE_ID);
+    }
+
+    private Map<String, Object> validData() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("plant", "1110");
+        data.put("items", List.of(Map.of("matnr", "M-1", "qty", 10), Map.of("matnr", "M-2")));
+        data.put("header", Map.of("code", "A1"));
+        return data;
+    }
+
+    private static InterfaceDefinition definition() {
+        InterfaceDefinition definition = new InterfaceDefinition();
+        definition.setId(INTERFACE_ID);
+        definition.setImportMapping(List.of(
+            importMapping("plant", "I_PLANT", true, 4, null),
+            importMapping("user", "I_USER", false, 10, "SYS")));
+        definition.setTableMapping(List.of(
+            tableMapping("items", "T_ITEMS", false, true,
+                field("matnr", "MATNR", true, 10), field("qty", "QTY", false, 5)),
+            tableMapping("header", "T_HEADER", true, false,
+                field("code", "CODE", false, 3))));
+        return definition;
+    }
+
+    private static ImportMapping importMapping(String webField, String sapField, boolean required, int size,
+        String defaultValue) {
+        ImportMapping mapping = new ImportMapping();
+        mapping.setWebField(webField);
+        mapping.setSapField(sapField);
+        mapping.setRequired(required);
+        mapping.setSize(size);
+        mapping.setDefaultValue(defaultValue);
+        return mapping;
+    }
+
+    private static TableMapping tableMapping(String webFields, String sapTable, boolean singleValue,
+        boolean required, FieldMapping... fields) {
+        TableMapping mapping = new TableMapping();
+        mapping.setWebFields(webFields);
+        mapping.setSapTable(sapTable);
+        mapping.setSingleValue(singleValue);
+        mapping.setRequired(required);
+        mapping.setFields(List.of(fields));
+        return mapping;
+    }
+
+    private static FieldMapping field(String webField, String sapField, boolean required, int size) {
+        FieldMapping field = new FieldMapping();
+        field.setWebField(webField);
+        field.setSapField(sapField);
+        field.setRequired(required);
+        field.setSize(size);
+        return field;
+    }
+}